@@ -0,0 +1,181 @@
+package ou.capstone.notams;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import ou.capstone.notams.print.NotamView;
+
+/**
+ * Deterministic NOTAM fixtures shared by the benchmarks.
+ * <p>
+ * Texts, types and locations are drawn from a pool modelled on real FAA
+ * responses along the KOKC-KJFK corridor, so keyword scorers see a realistic mix
+ * of matches and misses. Everything is seeded, so runs are comparable.
+ */
+public final class BenchmarkData {
+
+    /** Fixed "now" for recency scoring, a day after the newest issued time. */
+    public static final Instant NOW = Instant.parse("2025-10-05T00:00:00Z");
+    public static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    /** Share of duplicates seen when overlapping route queries return the same NOTAM. */
+    public static final double ROUTE_DUPLICATE_RATIO = 0.35;
+
+    private static final String[] TEXTS = {
+            "RWY 17L/35R CLSD",
+            "RWY 13/31 CLSD EXC TAX",
+            "TWY A BTN TWY A1 AND TWY A3 CLSD",
+            "TWY B CLSD FOR MAINT",
+            "ILS RWY 35R U/S",
+            "VOR/DME OKC U/S",
+            "NDB ABC UNSERVICEABLE",
+            "GPS UNRELIABLE WI 50NM OF 352400N0973600W FL400-SFC",
+            "OBST TOWER LGT (ASR 1234567) 352412N0973012W (3.2NM N OKC) 1549FT (349FT AGL) U/S",
+            "OBST CRANE 353000N0973000W (1.5NM E OKC) 1400FT (200FT AGL) FLAGGED AND LGTD",
+            "100LL FUEL NOT AVBL",
+            "JET A FUEL NOT AVAILABLE DUE TO MAINTENANCE",
+            "UAS WI AN AREA DEFINED AS 1NM RADIUS OF 354500N0972000W SFC-400FT AGL",
+            "GLD OPS WI 5NM RADIUS OF AD SFC-5000FT",
+            "AIRSPACE HIGH SPEED MIL ACFT OPS WI R-5601 SFC-FL180",
+            "APRON TERMINAL RAMP SPOTS 1-4 CLSD",
+            "AD AP BCN U/S",
+            "RWY 17R PAPI U/S",
+            "IAP WILL ROGERS WORLD, OKLAHOMA CITY, OK. ILS OR LOC RWY 35R, AMDT 10F... PROCEDURE NA",
+            "COM REMOTE TRANSMITTER RECEIVER 124.6 U/S",
+            "SVC TWR OPR HR 0600-2200 DLY",
+            "BIRD ACT INCREASED IN VCY OF AD",
+    };
+
+    private static final String[] TYPES = { "N", "N", "N", "R", "C" };
+
+    private static final String[] LOCATIONS = {
+            "OKC", "PWA", "TUL", "FSM", "LIT", "MEM", "BNA", "TYS", "TRI", "ROA", "IAD", "PHL", "EWR", "JFK"
+    };
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds {@code count} NOTAMs of which roughly {@code duplicateRatio} repeat an
+     * earlier NOTAM's id, as happens when overlapping waypoint queries return the
+     * same NOTAM. Half the repeats are newer revisions, so dedup has to compare.
+     */
+    public static List<Notam> notams(final int count, final double duplicateRatio, final long seed) {
+        final Random random = new Random(seed);
+        final List<Notam> notams = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && random.nextDouble() < duplicateRatio) {
+                final Notam original = notams.get(random.nextInt(notams.size()));
+                final OffsetDateTime issued = random.nextBoolean()
+                        ? original.getIssued().plusMinutes(1 + random.nextInt(120))
+                        : original.getIssued();
+                notams.add(copy(original, issued));
+            } else {
+                notams.add(notam(i, random));
+            }
+        }
+        Collections.shuffle(notams, random);
+        return notams;
+    }
+
+    /** {@code count} distinct NOTAMs. */
+    public static List<Notam> uniqueNotams(final int count, final long seed) {
+        return notams(count, 0.0, seed);
+    }
+
+    /** Display rows for the printers, with scores as the CLI would show them. */
+    public static List<NotamView> views(final List<Notam> notams) {
+        final Random random = new Random(notams.size());
+        final List<NotamView> views = new ArrayList<>(notams.size());
+        for (final Notam n : notams) {
+            final Instant start = n.getIssued().toInstant();
+            views.add(new NotamView(n.getNumber(), n.getLocation(), n.getType(), start,
+                    random.nextInt(4) == 0 ? null : start.plusSeconds(86_400L * (1 + random.nextInt(60))),
+                    n.getText(), Math.round(random.nextDouble() * 2000) / 10.0));
+        }
+        return views;
+    }
+
+    /**
+     * A FAA GeoJSON response page holding {@code count} NOTAMs, shaped like the
+     * recorded responses in src/test/resources/pages.
+     */
+    public static String geoJsonPage(final int count, final long seed) {
+        final ObjectNode page = MAPPER.createObjectNode();
+        page.put("pageSize", count);
+        page.put("pageNum", 1);
+        page.put("totalCount", count);
+        page.put("totalPages", 1);
+        final ArrayNode items = page.putArray("items");
+        for (final Notam n : uniqueNotams(count, seed)) {
+            final ObjectNode feature = items.addObject();
+            feature.put("type", "Feature");
+            final ObjectNode notam = feature.putObject("properties").putObject("coreNOTAMData")
+                    .putObject("notam");
+            notam.put("id", n.getId());
+            notam.put("series", "A");
+            notam.put("number", n.getNumber());
+            notam.put("type", n.getType());
+            notam.put("issued", n.getIssued().toString());
+            notam.put("affectedFIR", "KZFW");
+            notam.put("selectionCode", "QMRLC");
+            notam.put("location", n.getLocation());
+            notam.put("effectiveStart", n.getIssued().toString());
+            notam.put("effectiveEnd", n.getIssued().plusDays(30).toString());
+            notam.put("text", n.getText());
+            notam.put("classification", "DOM");
+            notam.put("icaoLocation", "K" + n.getLocation());
+            final ObjectNode geometry = feature.putObject("geometry");
+            geometry.put("type", "Point");
+            geometry.putArray("coordinates").add(n.getLongitude()).add(n.getLatitude());
+        }
+        try {
+            return MAPPER.writeValueAsString(page);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Notam notam(final int index, final Random random) {
+        final String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+        return new Notam.Builder()
+                .id("NOTAM_1_" + (71_000_000 + index))
+                .number(String.format("%d/%04d", 1 + random.nextInt(12), random.nextInt(10_000)))
+                .type(TYPES[random.nextInt(TYPES.length)])
+                .issued(OffsetDateTime.ofInstant(NOW.minusSeconds(86_400L + random.nextInt(60 * 86_400)),
+                        ZoneOffset.UTC))
+                .location(location)
+                .latitude(34.0 + random.nextDouble() * 7)
+                .longitude(-98.0 + random.nextDouble() * 24)
+                .radiusNm(random.nextInt(3) == 0 ? null : (double) (1 + random.nextInt(25)))
+                .text(TEXTS[random.nextInt(TEXTS.length)])
+                .build();
+    }
+
+    private static Notam copy(final Notam original, final OffsetDateTime issued) {
+        return new Notam.Builder()
+                .id(original.getId())
+                .number(original.getNumber())
+                .type(original.getType())
+                .issued(issued)
+                .location(original.getLocation())
+                .latitude(original.getLatitude())
+                .longitude(original.getLongitude())
+                .radiusNm(original.getRadiusNm())
+                .text(original.getText())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package ou.capstone.notams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Dedup of merged route results with the usual share of repeated NOTAMs. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotamDeduplicationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Notam> notams;
+
+    @Setup
+    public void setUp() {
+        notams = BenchmarkData.notams(size, BenchmarkData.ROUTE_DUPLICATE_RATIO, 7);
+    }
+
+    @Benchmark
+    public List<Notam> dedup() {
+        return NotamDeduplication.dedup(notams);
+    }
+
+    @Benchmark
+    public List<Notam> accumulator() {
+        final NotamDeduplication.Accumulator accumulator = new NotamDeduplication.Accumulator();
+        for (final Notam n : notams) {
+            accumulator.add(n);
+        }
+        return accumulator.result();
+    }
+}
@@ -0,0 +1,50 @@
+package ou.capstone.notams.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ou.capstone.notams.BenchmarkData;
+import ou.capstone.notams.Notam;
+
+/**
+ * Parsing one FAA response page. 1000 items is the API's maximum page size,
+ * 50 is typical for a single small airport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotamParserBenchmark {
+
+    @Param({"50", "1000"})
+    public int items;
+
+    private final NotamParser parser = new NotamParser();
+    private String page;
+    private byte[] pageBytes;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.geoJsonPage(items, 42);
+        pageBytes = page.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Notam> parseString() {
+        return parser.parseGeoJson(page);
+    }
+
+    @Benchmark
+    public NotamParser.ParsedPage parseBytes() {
+        return parser.parsePage(pageBytes);
+    }
+}
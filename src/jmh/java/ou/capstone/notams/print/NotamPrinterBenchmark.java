@@ -0,0 +1,50 @@
+package ou.capstone.notams.print;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ou.capstone.notams.BenchmarkData;
+
+/** Rendering the result table, without writing it to stdout. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotamPrinterBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"UTC_ONLY", "BOTH"})
+    public NotamPrinter.TimeMode timeMode;
+
+    private List<NotamView> views;
+    private NotamPrinter plain;
+    private NotamPrinter color;
+
+    @Setup
+    public void setUp() {
+        views = BenchmarkData.views(BenchmarkData.uniqueNotams(size, 13));
+        plain = new NotamPlainPrinter(ZoneId.of("America/Chicago"), timeMode);
+        color = new NotamColorPrinter(ZoneId.of("America/Chicago"), timeMode);
+    }
+
+    @Benchmark
+    public String renderPlain() {
+        return plain.render(views);
+    }
+
+    @Benchmark
+    public String renderColor() {
+        return color.render(views);
+    }
+}
@@ -0,0 +1,55 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ou.capstone.notams.BenchmarkData;
+import ou.capstone.notams.Notam;
+
+/**
+ * Sequential versus fork/join scoring and sorting across batch sizes, to find
+ * the crossover used for NOTAM_PARALLEL_SCORING_THRESHOLD. Compare the
+ * {@code sequential} and {@code parallel} scores at each {@code size}.
+ * <p>
+ * NOTAM features are cached after the first invocation, so this measures
+ * rescoring; first-time scoring also scans text and favours parallelism sooner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelScoringBenchmark {
+
+    @Param({"256", "1024", "4096", "16384", "65536"})
+    public int size;
+
+    private List<Notam> notams;
+    private SimplePrioritizer sequential;
+    private SimplePrioritizer parallel;
+
+    @Setup
+    public void setUp() {
+        notams = BenchmarkData.uniqueNotams(size, 22);
+        sequential = new SimplePrioritizer(BenchmarkData.CLOCK, "OKC", "JFK", NotamPrioritizer.Mode.IFR,
+                Integer.MAX_VALUE);
+        parallel = new SimplePrioritizer(BenchmarkData.CLOCK, "OKC", "JFK", NotamPrioritizer.Mode.IFR, 0);
+    }
+
+    @Benchmark
+    public List<ScoredNotam> sequential() {
+        return sequential.prioritizeScored(notams);
+    }
+
+    @Benchmark
+    public List<ScoredNotam> parallel() {
+        return parallel.prioritizeScored(notams);
+    }
+}
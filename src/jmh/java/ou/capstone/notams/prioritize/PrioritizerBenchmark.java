@@ -0,0 +1,93 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ou.capstone.notams.BenchmarkData;
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamKeywordMatcher;
+
+/**
+ * Scoring and sorting a route's NOTAMs, the CPU-heavy step between fetching and
+ * printing. Uses a fixed clock so recency scores do not drift between runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrioritizerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"IFR", "VFR"})
+    public NotamPrioritizer.Mode mode;
+
+    private List<Notam> notams;
+    private SimplePrioritizer prioritizer;
+    private PatternMatchingScorer patternScorer;
+
+    @Setup
+    public void setUp() {
+        notams = BenchmarkData.uniqueNotams(size, 11);
+        prioritizer = new SimplePrioritizer(BenchmarkData.CLOCK, "OKC", "JFK", mode);
+        patternScorer = new PatternMatchingScorer(ScoringProfile.builtIn(mode));
+        // Derive the cached scoring features up front so they are not measured
+        for (final Notam n : notams) {
+            patternScorer.score(n);
+        }
+    }
+
+    @Benchmark
+    public List<Notam> prioritize() {
+        return prioritizer.prioritize(notams);
+    }
+
+    /** The 25 best only, as a briefing shows first. */
+    @Benchmark
+    public List<ScoredNotam> prioritizeTop25() {
+        return prioritizer.prioritizeTopK(notams, 25).top();
+    }
+
+    /** Scoring alone, without the sort, to separate the two costs. */
+    @Benchmark
+    public double scoreAll() {
+        double sum = 0;
+        for (final Notam n : notams) {
+            sum += prioritizer.score(n);
+        }
+        return sum;
+    }
+
+    /** The type and keyword weights, from each NOTAM's cached features. */
+    @Benchmark
+    public double patternMatching() {
+        double sum = 0;
+        for (final Notam n : notams) {
+            sum += patternScorer.score(n);
+        }
+        return sum;
+    }
+
+    /**
+     * The keyword scan of every NOTAM's text. Scoring caches each NOTAM's
+     * keywords with its features, so {@link #scoreAll()} pays this only once
+     * per NOTAM, not per pass; this measures the scan itself.
+     */
+    @Benchmark
+    public int keywordScan() {
+        int masks = 0;
+        for (final Notam n : notams) {
+            masks ^= NotamKeywordMatcher.scan(n.getText());
+        }
+        return masks;
+    }
+}
@@ -0,0 +1,74 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ou.capstone.notams.BenchmarkData;
+import ou.capstone.notams.Notam;
+
+/**
+ * Cost of score tracing, on and off. Run with the GC profiler (the default in
+ * build.gradle) and compare gc.alloc.rate.norm: {@code score} allocates
+ * nothing, {@code scoreDetailed} with tracing off only the ScoredNotam per
+ * NOTAM it returns (about 32 bytes each), and {@code scoreDetailedTraced}
+ * adds the breakdown map and keyword set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoreTraceBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private List<Notam> notams;
+    private NotamPrioritizer untraced;
+    private NotamPrioritizer traced;
+
+    @Setup
+    public void setUp() {
+        notams = BenchmarkData.uniqueNotams(size, 25);
+        final SimplePrioritizer prioritizer =
+                new SimplePrioritizer(BenchmarkData.CLOCK, "OKC", "JFK", NotamPrioritizer.Mode.IFR);
+        untraced = prioritizer.session();
+        traced = prioritizer.tracing().session();
+        // Derive the cached scoring features up front so they are not measured
+        for (final Notam n : notams) {
+            untraced.score(n);
+        }
+    }
+
+    /** Baseline: the total only. */
+    @Benchmark
+    public double score() {
+        double sum = 0;
+        for (final Notam n : notams) {
+            sum += untraced.score(n);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void scoreDetailed(final Blackhole bh) {
+        for (final Notam n : notams) {
+            bh.consume(untraced.scoreDetailed(n));
+        }
+    }
+
+    @Benchmark
+    public void scoreDetailedTraced(final Blackhole bh) {
+        for (final Notam n : notams) {
+            bh.consume(traced.scoreDetailed(n));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ou.capstone.notams.route;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** Waypoint generation for a long route (KOKC to KJFK, about 1150 NM). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteBenchmark {
+
+    private final double okcLat = 35.3931;
+    private final double okcLon = -97.6007;
+    private final double jfkLat = 40.6398;
+    private final double jfkLon = -73.7789;
+
+    @Benchmark
+    public List<Coordinate> routeWaypoints() {
+        return RouteCalculator.getRouteWaypoints(okcLat, okcLon, jfkLat, jfkLon, 50);
+    }
+
+    @Benchmark
+    public List<Coordinate> planCoverage() {
+        return RouteCoveragePlanner.planCoverage(okcLat, okcLon, jfkLat, jfkLon, 50, 25);
+    }
+}
@@ -0,0 +1,47 @@
+package ou.capstone.notams.validation;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ou.capstone.notams.route.Coordinate;
+
+/**
+ * Loading the airport CSV, which every CLI run pays at startup, and the
+ * lookups done per airport argument. Needs data/us-airports.csv on the classpath.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AirportDirectoryBenchmark {
+
+    private static final String[] CODES = { "KOKC", "OKC", "JFK", "KJFK", "PWA", "F29", "ZZZZ" };
+
+    private AirportDirectory directory;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        directory = new AirportDirectory();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public AirportDirectory load() {
+        return new AirportDirectory();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Optional<Coordinate> getCoordinates() {
+        next = (next + 1) % CODES.length;
+        return directory.getCoordinates(CODES[next]);
+    }
+}
@@ -1,10 +1,14 @@
 package ou.capstone.notams;
 
+import java.io.IOException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.cli.CommandLine;
@@ -17,14 +21,21 @@ import org.apache.commons.cli.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ou.capstone.notams.api.DiskResponseCache;
+import ou.capstone.notams.api.FaaNotamApiWrapper;
 import ou.capstone.notams.api.NotamFetcher;
+import ou.capstone.notams.api.RouteCoverageReport;
 import ou.capstone.notams.exceptions.RateLimitException;
 import ou.capstone.notams.print.NotamColorPrinter;
 import ou.capstone.notams.print.NotamPrinter;
 import ou.capstone.notams.print.NotamPrinter.TimeMode;
 import ou.capstone.notams.print.NotamView;
 import ou.capstone.notams.prioritize.NotamPrioritizer;
+import ou.capstone.notams.prioritize.ScoredNotam;
+import ou.capstone.notams.prioritize.ScoringProfile;
+import ou.capstone.notams.prioritize.ScoringProfiles;
 import ou.capstone.notams.prioritize.SimplePrioritizer;
+import ou.capstone.notams.prioritize.StreamingNotamRanking;
 import ou.capstone.notams.validation.AirportValidator;
 import ou.capstone.notams.validation.ValidationResult;
 
@@ -43,6 +54,10 @@ public final class App {
 
     private static ExitHandler exitHandler = new ExitHandler();
 
+    // On-disk FAA response cache for repeat runs; off unless --cache or NOTAM_DISK_CACHE_ENABLED=true
+    private static final boolean DISK_CACHE_ENABLED =
+            Boolean.parseBoolean(System.getenv().getOrDefault("NOTAM_DISK_CACHE_ENABLED", "false"));
+
     public static void setExitHandler( final ExitHandler exitHandler )
     {
         App.exitHandler = exitHandler;
@@ -99,6 +114,39 @@ public final class App {
                 .hasArg()
                 .desc("DEPRECATED alias for --flight-mode")
                 .get();
+        final Option scoringProfileOption = Option.builder()
+                .longOpt("scoring-profile")
+                .hasArg()
+                .desc("Scoring weights: 'ifr', 'vfr' or a custom profile from "
+                        + "NOTAM_SCORING_PROFILE_DIR (default: the flight mode's)")
+                .get();
+
+        final Option explainOption = Option.builder()
+                .longOpt("explain")
+                .desc("Show why each NOTAM got its score: each scorer's "
+                        + "contribution and the keywords matched")
+                .get();
+
+        final Option timeBudgetOption = Option.builder()
+                .longOpt("time-budget")
+                .hasArg()
+                .desc("Maximum seconds to spend fetching NOTAMs; waypoints not "
+                        + "fetched in time are reported as missing (default: no limit)")
+                .get();
+
+        final Option offlineOption = Option.builder()
+                .longOpt("offline")
+                .desc("Use only cached FAA responses; do not contact the FAA API")
+                .get();
+        final Option cacheOption = Option.builder()
+                .longOpt("cache")
+                .desc("Reuse recent FAA responses from the on-disk cache, and answer from "
+                        + "older cached responses if the FAA API cannot be reached")
+                .get();
+        final Option noCacheOption = Option.builder()
+                .longOpt("no-cache")
+                .desc("Do not read or write the on-disk FAA response cache")
+                .get();
 
         final Options options = new Options();
         options.addOption( departureAirportOption );
@@ -112,6 +160,12 @@ public final class App {
         options.addOption( noSeparateMetadataOption );
         options.addOption( flightModeOption );
         options.addOption( legacyModeOption );
+        options.addOption( scoringProfileOption );
+        options.addOption( explainOption );
+        options.addOption( timeBudgetOption );
+        options.addOption( offlineOption );
+        options.addOption( cacheOption );
+        options.addOption( noCacheOption );
 
         final CommandLineParser cliParser = new DefaultParser();
         final CommandLine line;
@@ -177,6 +231,13 @@ public final class App {
                 flightMode = NotamPrioritizer.Mode.IFR;
             }
 
+            // Scoring weights; an unknown profile name is reported as invalid input
+            final String profileName = line.getOptionValue(scoringProfileOption,
+                    flightMode.name().toLowerCase(Locale.ROOT));
+            final Supplier<ScoringProfile> scoringProfile =
+                    ScoringProfiles.fromEnvironment().supplier(profileName);
+            logger.info("Scoring profile: {}", scoringProfile.get().name());
+
             // Step 2: Validate airports (delegated to AirportValidator)
             final AirportValidator validator = new AirportValidator();
 
@@ -202,28 +263,81 @@ public final class App {
             final String validatedDestinationCode = getCodeFromValidation(destinationResult);
 
             logger.info("Using validated codes for API: {} to {}", validatedDepartureCode, validatedDestinationCode);
-            final NotamFetcher fetcher = new NotamFetcher();
-            final List<Notam> notams = fetcher.fetchForRoute(validatedDepartureCode, validatedDestinationCode);
-            // NOTAMs are parsed in NotamFetcher
-            logger.info("Fetched {} NOTAMs", notams.size());
-
-            // Step 4: Deduplication
-            final List<Notam> uniqueNotams = NotamDeduplication.dedup(notams);
-            logger.info("Dedup result: {} → {} unique NOTAMs",
-                    notams.size(), uniqueNotams.size());
-
-            // Step 5: Prioritize NOTAMs (delegated to SimplePrioritizer)
-            final NotamPrioritizer prioritizer =
+            // Step 4: Prioritizer (delegated to SimplePrioritizer), needed up front so
+            // NOTAMs can be deduplicated and ranked while the remaining waypoints load
+            final NotamPrioritizer untracedPrioritizer =
                     new SimplePrioritizer(Clock.systemUTC(),
                             validatedDepartureCode,
                             validatedDestinationCode,
-                            flightMode);
-            final List<Notam> prioritizedNotams = prioritizer.prioritize(uniqueNotams);
+                            scoringProfile);
+            // Score traces cost allocations per NOTAM, so only record them when asked
+            final NotamPrioritizer prioritizer = line.hasOption(explainOption)
+                    ? untracedPrioritizer.tracing()
+                    : untracedPrioritizer;
+            final StreamingNotamRanking ranking = new StreamingNotamRanking(prioritizer);
+
+            // The on-disk cache serves NOTAMs that may be minutes old, so it is only used when asked for
+            if (line.hasOption(offlineOption) && line.hasOption(noCacheOption)) {
+                throw new IllegalArgumentException("--offline needs the response cache; remove --no-cache");
+            }
+            if (line.hasOption(cacheOption) && line.hasOption(noCacheOption)) {
+                throw new IllegalArgumentException("--cache and --no-cache cannot be used together");
+            }
+            DiskResponseCache diskCache = null;
+            if (!line.hasOption(noCacheOption)
+                    && (line.hasOption(cacheOption) || line.hasOption(offlineOption) || DISK_CACHE_ENABLED)) {
+                try {
+                    diskCache = DiskResponseCache.fromEnvironment();
+                    FaaNotamApiWrapper.configureDiskCache(diskCache);
+                } catch (final IOException e) {
+                    logger.warn("On-disk response cache unavailable, continuing without it: {}", e.getMessage());
+                }
+            }
+            FaaNotamApiWrapper.configureOffline(line.hasOption(offlineOption));
+
+            // Step 5: Fetch, dedup and prioritize incrementally as waypoints complete
+            final RouteCoverageReport coverage;
+            try (final NotamFetcher fetcher = new NotamFetcher()) {
+                if (line.hasOption(timeBudgetOption)) {
+                    final Duration budget = parseTimeBudget(line.getOptionValue(timeBudgetOption));
+                    coverage = fetcher.fetchForRoute(validatedDepartureCode, validatedDestinationCode,
+                            budget, ranking::addAll);
+                } else {
+                    coverage = fetcher.fetchForRoute(validatedDepartureCode, validatedDestinationCode,
+                            ranking::addAll);
+                }
+            }
+            logger.info("Route coverage: {}", coverage);
+            FaaNotamApiWrapper.diskCacheStats().ifPresent(stats -> logger.info("Disk response cache: {}", stats));
+            if (!coverage.isComplete()) {
+                System.err.println("Warning: NOTAMs are missing for " + coverage.missing().size() + " of "
+                        + coverage.waypoints().size() + " route waypoints: " + coverage.missing());
+            }
+            // Say when cached pages were used, as they may be older than the FAA's current NOTAMs
+            if (diskCache != null) {
+                final long cachedPages = diskCache.stats().hits();
+                diskCache.oldestHit().ifPresent(oldest -> System.err.println(
+                        "Note: " + cachedPages + " FAA response pages were reused from the on-disk cache, "
+                                + "the oldest stored " + Duration.between(oldest, Instant.now()).toMinutes()
+                                + " minutes ago at " + oldest));
+            }
+            // The disk cache stands in for an unreachable API, so say when it did
+            FaaNotamApiWrapper.oldestStaleResponse().ifPresent(oldest -> System.err.println(
+                    "Warning: the FAA API could not be reached; " + FaaNotamApiWrapper.staleQueryCount()
+                            + " route queries were answered from cached NOTAMs, the oldest stored "
+                            + Duration.between(oldest, Instant.now()).toMinutes() + " minutes ago at " + oldest));
+            // NOTAMs are parsed in NotamFetcher
+            logger.info("Fetched {} NOTAMs", ranking.receivedCount());
+            logger.info("Dedup result: {} → {} unique NOTAMs",
+                    ranking.receivedCount(), ranking.uniqueCount());
+
+            // Scores were computed once while ranking and are reused for display
+            final List<ScoredNotam> prioritizedNotams = ranking.rankedScored();
 
             logger.info("Prioritized {} NOTAMs", prioritizedNotams.size());
 
             // Step 6: Display results
-            displayResults(prioritizedNotams, departureCode, destinationCode, prioritizer);
+            displayResults(prioritizedNotams, departureCode, destinationCode);
 
             logger.info("NOTAM Prioritization System completed successfully");
         } catch (final RateLimitException e) {
@@ -251,19 +365,35 @@ public final class App {
         }
     }
 
+    /**
+     * Parses the --time-budget value as a positive number of seconds.
+     *
+     * @throws IllegalArgumentException if the value is not a positive number
+     */
+    static Duration parseTimeBudget(final String value) {
+        final double seconds;
+        try {
+            seconds = Double.parseDouble(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid --time-budget '" + value + "': must be a number of seconds");
+        }
+        if (!(seconds > 0) || Double.isInfinite(seconds)) {
+            throw new IllegalArgumentException("Invalid --time-budget '" + value + "': must be positive");
+        }
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+
     /**
      * Displays prioritized NOTAMs to the user.
      * Shows NOTAMs sorted by priority (most important first).
      *
-     * @param prioritizedNotams list of NOTAMs already sorted by priority
+     * @param prioritizedNotams scored NOTAMs already sorted by priority
      * @param departureCode departure airport code
      * @param destinationCode destination airport code
-     * @param prioritizer the prioritizer used, so we can display the score
      */
-    private static void displayResults(final List<Notam> prioritizedNotams,
+    private static void displayResults(final List<ScoredNotam> prioritizedNotams,
                                        final String departureCode,
-                                       final String destinationCode,
-                                       final NotamPrioritizer prioritizer) {
+                                       final String destinationCode) {
         System.out.println("\n" + "=".repeat(80));
         System.out.println("NOTAMs for Flight: " + departureCode + " to " + destinationCode);
         System.out.println("Sorted by Priority (Most Important First)");
@@ -274,9 +404,11 @@ public final class App {
         final List<NotamView> views = (prioritizedNotams == null)
                 ? Collections.emptyList()
                 : prioritizedNotams.stream()
-                .map(n -> {
+                .map(scored -> {
+                    final Notam n = scored.notam();
                     final Instant issued = (n.getIssued() != null) ? n.getIssued().toInstant() : null;
-                    final double score = prioritizer.score(n);
+                    final double score = scored.score();
+                    final String explanation = scored.trace().isEmpty() ? null : scored.trace().describe();
                     return new NotamView(
                             n.getNumber(),          // notamNumber
                             n.getLocation(),        // location (e.g., KOKC)
@@ -284,14 +416,16 @@ public final class App {
                             issued,                 // start (best-effort)
                             issued,                 // end (best-effort)
                             n.getText(),            // condition text
-                            score                   // score (used by NotamPrinter)
+                            score,                  // score (used by NotamPrinter)
+                            explanation             // score trace with --explain, else null
                     );
                 })
                 .collect(Collectors.toList());
 
         final NotamPrinter printer = new NotamColorPrinter(ZoneId.systemDefault(), TimeMode.BOTH);
 
-        printer.print(views);
+        // Views are already in priority order from the ranking
+        printer.print(views, true);
         System.out.println("\n" + "=".repeat(80) + "\n");
     }
 
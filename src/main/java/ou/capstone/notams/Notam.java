@@ -20,6 +20,9 @@ public class Notam {
     private final Double radiusNm;     // radius in NM (nullable)
     private final String text;         // readable NOTAM text
 
+    // Scoring features, derived from the fields above on first use
+    private volatile NotamFeatures features;
+
     /**
      * Builder Pattern (Effective Java Item 2)
      * Provides clear and safe construction for classes with many parameters.
@@ -127,6 +130,20 @@ public class Notam {
     public Double getRadiusNm() { return radiusNm; }
     public String getText() { return text; }
 
+    /**
+     * Scoring features (keyword hits, normalized type and location, issue time),
+     * computed on the first call and reused by every scorer afterwards.
+     */
+    public NotamFeatures getFeatures() {
+        NotamFeatures f = features;
+        if (f == null) {
+            // Racing threads compute equal values, so no locking is needed
+            f = NotamFeatures.of(this);
+            features = f;
+        }
+        return f;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -15,30 +15,60 @@ public final class NotamDeduplication {
     public static List<Notam> dedup(final List<Notam> in) {
         if (in == null || in.isEmpty()) return in;
 
-        final List<Notam> out = new ArrayList<>();
-        final Map<String, Integer> keyToIndex = new LinkedHashMap<>();
-
+        final Accumulator acc = new Accumulator();
         for (Notam n : in) {
-            if (n == null) continue;
+            acc.add(n);
+        }
+        return acc.result();
+    }
+
+    /**
+     * Incremental form of {@link #dedup(List)} for NOTAMs that arrive in batches.
+     * Adding batches one by one gives the same result as deduplicating their
+     * concatenation. Not thread-safe.
+     */
+    public static final class Accumulator {
+
+        private final List<Notam> out = new ArrayList<>();
+        private final Map<String, Integer> keyToIndex = new LinkedHashMap<>();
+
+        /**
+         * Adds one NOTAM.
+         *
+         * @return the NOTAM it replaced, {@code n} itself if it was rejected as a
+         *         less preferred duplicate, or null if it was new (or null)
+         */
+        public Notam add(final Notam n) {
+            if (n == null) return n;
             final String key = keyFor(n);
 
             if (key == null) {
-                out.add(n); 
-                continue;
+                out.add(n);
+                return null;
             }
 
             final Integer pos = keyToIndex.get(key);
             if (pos == null) {
                 keyToIndex.put(key, out.size());
                 out.add(n);
-            } else {
-                final Notam current = out.get(pos);
-                if (prefer(n, current)) {
-                    out.set(pos, n); // replace in order
-                }
+                return null;
             }
+            final Notam current = out.get(pos);
+            if (prefer(n, current)) {
+                out.set(pos, n); // replace in order
+                return current;
+            }
+            return n;
+        }
+
+        /** Unique NOTAMs so far, in first-seen order. */
+        public List<Notam> result() {
+            return new ArrayList<>(out);
+        }
+
+        public int size() {
+            return out.size();
         }
-        return out;
     }
 
     private static String keyFor(final Notam n) {
@@ -0,0 +1,40 @@
+package ou.capstone.notams;
+
+import java.util.Locale;
+
+/**
+ * Scoring inputs derived from a NOTAM's raw fields, so scorers never touch the
+ * text or parse dates themselves. Computed once per NOTAM by
+ * {@link Notam#getFeatures()}; rescoring under another mode or clock reuses them.
+ *
+ * @param keywords bit mask of {@link NotamKeywordMatcher.Keyword}s found in the text
+ * @param type the type, upper-cased (null if absent)
+ * @param issuedEpochSecond issue time in epoch seconds, {@link #NO_ISSUED} if absent
+ * @param location the location, upper-cased (null if absent)
+ */
+public record NotamFeatures(int keywords, String type, long issuedEpochSecond, String location) {
+
+    /** {@link #issuedEpochSecond()} of a NOTAM without an issue time. */
+    public static final long NO_ISSUED = Long.MIN_VALUE;
+
+    /** Derives the features of a NOTAM. Prefer {@link Notam#getFeatures()}, which caches them. */
+    public static NotamFeatures of(final Notam notam) {
+        return new NotamFeatures(
+                NotamKeywordMatcher.scan(notam.getText()),
+                upper(notam.getType()),
+                notam.getIssued() != null ? notam.getIssued().toEpochSecond() : NO_ISSUED,
+                upper(notam.getLocation()));
+    }
+
+    public boolean has(final NotamKeywordMatcher.Keyword keyword) {
+        return keyword.in(keywords);
+    }
+
+    public boolean hasIssued() {
+        return issuedEpochSecond != NO_ISSUED;
+    }
+
+    private static String upper(final String value) {
+        return value != null ? value.toUpperCase(Locale.ROOT) : null;
+    }
+}
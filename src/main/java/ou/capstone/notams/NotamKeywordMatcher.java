@@ -0,0 +1,325 @@
+package ou.capstone.notams;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Finds every keyword class the scorers care about in one pass over a NOTAM's
+ * text, using a single Aho-Corasick automaton over all keyword literals.
+ * <p>
+ * Matching is the same as the regular expressions the scorers used before:
+ * <ul>
+ *   <li>word-boundary keywords ({@code \b(CLOSED|CLSD)\b} and friends) match
+ *       ASCII case-insensitively, with {@code \b} as in java.util.regex;</li>
+ *   <li>{@code \bFUEL\b.*\bNOT\s+AV(AIL(ABLE)?|BL)\b} needs the FUEL on the same
+ *       line as the NOT, and {@code HIGH\s*SPEED} allows any whitespace;</li>
+ *   <li>the fuel scorers' {@code toUpperCase(..).contains(..)} checks match
+ *       substrings, with no word boundaries.</li>
+ * </ul>
+ * Results are a bit mask of {@link Keyword}s. Nothing is cached here; the
+ * mask for a NOTAM is kept with its scoring features, so it is scanned once.
+ */
+public final class NotamKeywordMatcher {
+
+    /** Keyword classes reported by {@link #scan(String)}. */
+    public enum Keyword {
+        /** CLOSED, CLSD */
+        CLOSED,
+        /** UNSERVICEABLE, U/S */
+        UNSERVICEABLE,
+        /** MAINT, MAINTENANCE */
+        MAINT,
+        /** NAVAID*, VOR, VOR/DME, NDB, ILS, LOC, GPS, GLS */
+        NAVAID,
+        /** FUEL ... NOT AVBL / AVAIL / AVAILABLE on one line */
+        FUEL_NOT_AVAILABLE,
+        /** UAS, UNMANNED, DRONE */
+        UAS,
+        /** GLD, GLIDER */
+        GLIDER,
+        /** HIGH SPEED, HIGHSPEED, HIGHSPD, HI-SPD */
+        HIGH_SPEED,
+        /** Substrings FUEL NOT AVBL, FUEL NOT AVAIL, FUEL UNAVAIL */
+        FUEL_UNAVAILABLE,
+        /** Substrings ALL FUEL, NO FUEL, SELF SERVE 100LL/JET A FUEL NOT AVBL */
+        SERIOUS_FUEL;
+
+        private final int bit = 1 << ordinal();
+
+        public int bit() {
+            return bit;
+        }
+
+        /** Whether this keyword is set in a mask returned by {@link #scan(String)}. */
+        public boolean in(final int mask) {
+            return (mask & bit) != 0;
+        }
+    }
+
+    // What a literal contributes when it matches
+    private static final int KEYWORD = 0;   // sets its keyword
+    private static final int FUEL = 1;      // \bFUEL\b, first part of FUEL_NOT_AVAILABLE
+    private static final int NOT = 2;       // \bNOT\s, second part
+    private static final int AVAIL = 3;     // \sAV...\b, last part
+    private static final int HIGH = 4;      // \bHIGH\s, first part of HIGH\s+SPEED
+    private static final int SPEED = 5;     // \sSPEED\b, last part
+
+    private record Literal(String text, int role, Keyword keyword, boolean wordStart, boolean wordEnd) {
+        /** Regex-derived literals fold ASCII only; contains() literals fold like toUpperCase. */
+        boolean asciiOnly() {
+            return wordStart || wordEnd || role != KEYWORD;
+        }
+    }
+
+    private static final List<Literal> LITERALS = List.of(
+            word("CLOSED", Keyword.CLOSED), word("CLSD", Keyword.CLOSED),
+            word("UNSERVICEABLE", Keyword.UNSERVICEABLE), word("U/S", Keyword.UNSERVICEABLE),
+            word("MAINT", Keyword.MAINT), word("MAINTENANCE", Keyword.MAINT),
+            // NAVAID has no trailing \b; VOR/DME? is covered by VOR\b
+            new Literal("NAVAID", KEYWORD, Keyword.NAVAID, true, false),
+            word("VOR", Keyword.NAVAID), word("NDB", Keyword.NAVAID), word("ILS", Keyword.NAVAID),
+            word("LOC", Keyword.NAVAID), word("GPS", Keyword.NAVAID), word("GLS", Keyword.NAVAID),
+            new Literal("FUEL", FUEL, null, true, true),
+            new Literal("NOT", NOT, null, true, false),
+            new Literal("AVAIL", AVAIL, null, false, true),
+            new Literal("AVAILABLE", AVAIL, null, false, true),
+            new Literal("AVBL", AVAIL, null, false, true),
+            word("UAS", Keyword.UAS), word("UNMANNED", Keyword.UAS), word("DRONE", Keyword.UAS),
+            word("GLD", Keyword.GLIDER), word("GLIDER", Keyword.GLIDER),
+            word("HIGHSPEED", Keyword.HIGH_SPEED), word("HIGHSPD", Keyword.HIGH_SPEED),
+            word("HI-SPD", Keyword.HIGH_SPEED),
+            new Literal("HIGH", HIGH, null, true, false),
+            new Literal("SPEED", SPEED, null, false, true),
+            substring("FUEL NOT AVBL", Keyword.FUEL_UNAVAILABLE),
+            substring("FUEL NOT AVAIL", Keyword.FUEL_UNAVAILABLE),
+            substring("FUEL UNAVAIL", Keyword.FUEL_UNAVAILABLE),
+            substring("ALL FUEL", Keyword.SERIOUS_FUEL),
+            substring("NO FUEL", Keyword.SERIOUS_FUEL),
+            substring("SELF SERVE 100LL FUEL NOT AVBL", Keyword.SERIOUS_FUEL),
+            substring("SELF SERVE JET A FUEL NOT AVBL", Keyword.SERIOUS_FUEL));
+
+    // Automaton: column per ASCII character used by a literal, goto function
+    // completed with failure transitions, and matched literals per state
+    private static final int[] COLUMN = new int[128];
+    private static final int[][] NEXT;
+    private static final int[][] OUTPUT;
+
+    static {
+        Arrays.fill(COLUMN, -1);
+        int columns = 0;
+        for (final Literal literal : LITERALS) {
+            for (final char c : literal.text().toCharArray()) {
+                if (COLUMN[c] < 0) {
+                    COLUMN[c] = columns++;
+                }
+            }
+        }
+
+        final List<int[]> next = new ArrayList<>();
+        final List<List<Integer>> output = new ArrayList<>();
+        next.add(new int[columns]);
+        output.add(new ArrayList<>());
+        for (int i = 0; i < LITERALS.size(); i++) {
+            int state = 0;
+            for (final char c : LITERALS.get(i).text().toCharArray()) {
+                if (next.get(state)[COLUMN[c]] == 0) {
+                    next.get(state)[COLUMN[c]] = next.size();
+                    next.add(new int[columns]);
+                    output.add(new ArrayList<>());
+                }
+                state = next.get(state)[COLUMN[c]];
+            }
+            output.get(state).add(i);
+        }
+
+        // Breadth-first, so a state's failure state is complete before it is used
+        final int[] fail = new int[next.size()];
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (int col = 0; col < columns; col++) {
+            if (next.get(0)[col] != 0) {
+                queue.add(next.get(0)[col]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            output.get(state).addAll(output.get(fail[state]));
+            for (int col = 0; col < columns; col++) {
+                final int child = next.get(state)[col];
+                if (child != 0) {
+                    fail[child] = next.get(fail[state])[col];
+                    queue.add(child);
+                } else {
+                    next.get(state)[col] = next.get(fail[state])[col];
+                }
+            }
+        }
+
+        NEXT = next.toArray(new int[0][]);
+        OUTPUT = output.stream()
+                .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    private NotamKeywordMatcher() {
+    }
+
+    /**
+     * Returns the mask of {@link Keyword}s found in {@code text}; 0 for null or
+     * empty text.
+     */
+    public static int scan(final String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return match(text);
+    }
+
+    /** The {@link Keyword}s found in {@code text}. */
+    public static Set<Keyword> keywords(final String text) {
+        final int mask = scan(text);
+        final Set<Keyword> found = EnumSet.noneOf(Keyword.class);
+        for (final Keyword k : Keyword.values()) {
+            if (k.in(mask)) {
+                found.add(k);
+            }
+        }
+        return found;
+    }
+
+    private static int match(final String text) {
+        final int length = text.length();
+        int mask = 0;
+        int state = 0;
+
+        int lastLineBreak = -1;
+        int whitespaceRunStart = -1;
+        int lastFuelEnd = -1;
+        int notEnd = -1;
+        boolean notAfterFuel = false;
+        int highEnd = -1;
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (isLineTerminator(c)) {
+                lastLineBreak = i;
+            }
+            if (isWhitespace(c) && (i == 0 || !isWhitespace(text.charAt(i - 1)))) {
+                whitespaceRunStart = i;
+            }
+
+            // Folding like toUpperCase is needed by the contains() literals; the
+            // regex literals then reject spans containing non-ASCII characters
+            final char upper = Character.toUpperCase(c);
+            final int col = upper < 128 ? COLUMN[upper] : -1;
+            state = col < 0 ? 0 : NEXT[state][col];
+
+            for (final int index : OUTPUT[state]) {
+                final Literal literal = LITERALS.get(index);
+                final int end = i + 1;
+                final int start = end - literal.text().length();
+                if ((literal.wordStart() && !isBoundary(text, start))
+                        || (literal.wordEnd() && !isBoundary(text, end))
+                        || (literal.asciiOnly() && !isAscii(text, start, end))) {
+                    continue;
+                }
+                switch (literal.role()) {
+                    case KEYWORD -> mask |= literal.keyword().bit();
+                    case FUEL -> lastFuelEnd = end;
+                    case NOT -> {
+                        if (end < length && isWhitespace(text.charAt(end))) {
+                            notEnd = end;
+                            // .* between FUEL and NOT does not cross line terminators
+                            notAfterFuel = lastFuelEnd >= 0 && lastLineBreak < lastFuelEnd;
+                        }
+                    }
+                    case AVAIL -> {
+                        if (notAfterFuel && followsWhitespaceFrom(text, start, whitespaceRunStart, notEnd)) {
+                            mask |= Keyword.FUEL_NOT_AVAILABLE.bit();
+                        }
+                    }
+                    case HIGH -> {
+                        if (end < length && isWhitespace(text.charAt(end))) {
+                            highEnd = end;
+                        }
+                    }
+                    case SPEED -> {
+                        if (followsWhitespaceFrom(text, start, whitespaceRunStart, highEnd)) {
+                            mask |= Keyword.HIGH_SPEED.bit();
+                        }
+                    }
+                    default -> throw new IllegalStateException("Unknown role " + literal.role());
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static Literal word(final String text, final Keyword keyword) {
+        return new Literal(text, KEYWORD, keyword, true, true);
+    }
+
+    private static Literal substring(final String text, final Keyword keyword) {
+        return new Literal(text, KEYWORD, keyword, false, false);
+    }
+
+    /** Whether {@code text[from, start)} is one whole whitespace run (\s+). */
+    private static boolean followsWhitespaceFrom(final String text, final int start,
+                                                 final int runStart, final int from) {
+        return from >= 0 && start > 0 && isWhitespace(text.charAt(start - 1)) && runStart == from;
+    }
+
+    /** \s without UNICODE_CHARACTER_CLASS. */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Characters . does not match without DOTALL or UNIX_LINES. */
+    private static boolean isLineTerminator(final char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isAscii(final String text, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** \b between {@code index - 1} and {@code index}. */
+    private static boolean isBoundary(final String text, final int index) {
+        final boolean left = index > 0 && isWord(text, Character.codePointBefore(text, index),
+                index - Character.charCount(Character.codePointBefore(text, index)));
+        final boolean right = index < text.length() && isWord(text, Character.codePointAt(text, index), index);
+        return left != right;
+    }
+
+    /**
+     * Word character for \b: ASCII letters, digits and underscore, plus
+     * non-spacing marks attached to a letter or digit.
+     */
+    private static boolean isWord(final String text, final int codePoint, final int at) {
+        if (codePoint < 128) {
+            return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+        }
+        if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+            return false;
+        }
+        for (int x = at; x >= 0; x--) {
+            final int ch = Character.codePointAt(text, x);
+            if (Character.isLetterOrDigit(ch)) {
+                return true;
+            }
+            if (Character.getType(ch) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,302 @@
+package ou.capstone.notams.api;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ou.capstone.notams.exceptions.RateLimitException;
+
+/**
+ * Concurrency limit that adapts with AIMD (additive increase, multiplicative
+ * decrease).
+ * <p>
+ * Each request holds a {@link Permit} while in flight and reports how it went
+ * when releasing it:
+ * <ul>
+ *   <li>A success whose latency stays within {@code latencyTolerance} times
+ *       the baseline latency counts towards the next increase; once a full
+ *       limit's worth of requests has succeeded the limit goes up by one.</li>
+ *   <li>A 429, a timeout, or a success slow enough to suggest queueing or
+ *       server-side backoff cuts the limit by {@code backoffRatio}. Only one cut
+ *       happens per round: requests that started before the last cut do not cut
+ *       again.</li>
+ *   <li>Other failures leave the limit unchanged.</li>
+ * </ul>
+ * The baseline is the lowest latency seen, drifting slowly towards newer samples
+ * so it follows changing network conditions in a long-lived process.
+ * <p>
+ * The current limit, counters and a bounded history of limit changes are
+ * available from {@link #metrics()}.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private static final int HISTORY_SIZE = 100;
+    // Fraction of the gap to a slower sample the baseline moves per request
+    private static final double BASELINE_DRIFT = 0.01;
+
+    /** How a request finished, as reported when releasing its permit. */
+    public enum Outcome {
+        SUCCESS,
+        /** Rejected by rate limiting or timed out: a congestion signal. */
+        DROPPED,
+        /** Failed for a reason unrelated to load. */
+        IGNORED
+    }
+
+    /** One change of the integer limit. */
+    public record LimitChange(Instant at, int from, int to, String reason) { }
+
+    /** Snapshot of the limiter state. */
+    public record Metrics(int limit, int inFlight, int queued, long increases, long decreases,
+                          List<LimitChange> history) {
+        @Override
+        public String toString() {
+            return String.format("limit=%d, inFlight=%d, queued=%d, increases=%d, decreases=%d",
+                    limit, inFlight, queued, increases, decreases);
+        }
+    }
+
+    /** A granted slot; must be released exactly once. */
+    public final class Permit {
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the slot and feeds the outcome into the limit.
+         *
+         * @param outcome how the request finished
+         */
+        public void release(final Outcome outcome) {
+            onRelease(this, outcome);
+        }
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final LongSupplier nanoTime;
+
+    private final Queue<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private final ArrayDeque<LimitChange> history = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private int healthySinceIncrease;
+    private long baselineNanos = Long.MAX_VALUE;
+    private long lastDecreaseNanos;
+    private long increases;
+    private long decreases;
+
+    public AdaptiveConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0.5, 3.0, System::nanoTime);
+    }
+
+    /**
+     * @param initialLimit starting limit
+     * @param minLimit lowest the limit can be cut to
+     * @param maxLimit highest the limit can grow to
+     * @param backoffRatio factor applied to the limit on congestion, in (0, 1)
+     * @param latencyTolerance latency above this multiple of the baseline counts as congestion
+     * @param nanoTime time source
+     */
+    public AdaptiveConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit,
+                                      final double backoffRatio, final double latencyTolerance,
+                                      final LongSupplier nanoTime) {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                    "Limits must satisfy 0 < min <= initial <= max, got: min=%d, initial=%d, max=%d",
+                    minLimit, initialLimit, maxLimit));
+        }
+        if (!(backoffRatio > 0 && backoffRatio < 1)) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1), got: " + backoffRatio);
+        }
+        if (!(latencyTolerance > 1)) {
+            throw new IllegalArgumentException("latencyTolerance must be greater than 1, got: " + latencyTolerance);
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.nanoTime = nanoTime;
+        this.lastDecreaseNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Creates a limiter configured from NOTAM_ADAPTIVE_INITIAL_LIMIT (default 4),
+     * NOTAM_ADAPTIVE_MIN_LIMIT (default 1) and NOTAM_ADAPTIVE_MAX_LIMIT (default 32).
+     */
+    public static AdaptiveConcurrencyLimiter fromEnvironment() {
+        return new AdaptiveConcurrencyLimiter(
+                Integer.parseInt(System.getenv().getOrDefault("NOTAM_ADAPTIVE_INITIAL_LIMIT", "4")),
+                Integer.parseInt(System.getenv().getOrDefault("NOTAM_ADAPTIVE_MIN_LIMIT", "1")),
+                Integer.parseInt(System.getenv().getOrDefault("NOTAM_ADAPTIVE_MAX_LIMIT", "32")));
+    }
+
+    /**
+     * Returns a future completing with a permit once fewer than {@code limit}
+     * requests are in flight. Waiters are served in FIFO order.
+     */
+    public CompletableFuture<Permit> acquire() {
+        synchronized (this) {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(nanoTime.getAsLong()));
+            }
+            final CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * Blocking variant of {@link #acquire()}.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Permit acquireBlocking() throws InterruptedException {
+        final CompletableFuture<Permit> permit = acquire();
+        try {
+            return permit.get();
+        } catch (final InterruptedException e) {
+            if (!permit.cancel(false)) {
+                // Granted concurrently; hand it back without affecting the limit
+                permit.join().release(Outcome.IGNORED);
+            } else {
+                synchronized (this) {
+                    waiters.remove(permit);
+                }
+            }
+            throw e;
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Permit future failed unexpectedly", e.getCause());
+        }
+    }
+
+    /**
+     * Classifies a failure: rate limiting and timeouts anywhere in the cause
+     * chain count as {@link Outcome#DROPPED}, anything else as {@link Outcome#IGNORED}.
+     */
+    public static Outcome outcomeOf(final Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof RateLimitException || t instanceof HttpTimeoutException) {
+                return Outcome.DROPPED;
+            }
+        }
+        return Outcome.IGNORED;
+    }
+
+    public synchronized Metrics metrics() {
+        return new Metrics(currentLimit(), inFlight, waiters.size(), increases, decreases,
+                List.copyOf(history));
+    }
+
+    private void onRelease(final Permit permit, final Outcome outcome) {
+        final List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        synchronized (this) {
+            if (permit.released) {
+                throw new IllegalStateException("Permit already released");
+            }
+            permit.released = true;
+            inFlight--;
+
+            final long now = nanoTime.getAsLong();
+            final long latency = now - permit.startNanos;
+            switch (outcome) {
+                case SUCCESS -> {
+                    final boolean slow = baselineNanos != Long.MAX_VALUE
+                            && latency > baselineNanos * latencyTolerance;
+                    updateBaseline(latency);
+                    if (slow) {
+                        decrease(permit, now, "slow response (" + TimeUnit.NANOSECONDS.toMillis(latency) + " ms)");
+                    } else {
+                        increase();
+                    }
+                }
+                case DROPPED -> decrease(permit, now, "rate limited or timed out");
+                case IGNORED -> { }
+            }
+
+            while (inFlight < currentLimit() && !waiters.isEmpty()) {
+                final CompletableFuture<Permit> next = waiters.poll();
+                if (!next.isDone()) {
+                    inFlight++;
+                    granted.add(next);
+                }
+            }
+        }
+        // Complete outside the lock so dependent stages do not run while holding it
+        for (final CompletableFuture<Permit> next : granted) {
+            if (!next.complete(new Permit(nanoTime.getAsLong()))) {
+                synchronized (this) {
+                    inFlight--;
+                }
+            }
+        }
+    }
+
+    private void updateBaseline(final long latency) {
+        if (latency < baselineNanos) {
+            baselineNanos = latency;
+        } else {
+            baselineNanos += (long) ((latency - baselineNanos) * BASELINE_DRIFT);
+        }
+    }
+
+    private void increase() {
+        final int before = currentLimit();
+        if (++healthySinceIncrease < before || before >= maxLimit) {
+            return;
+        }
+        healthySinceIncrease = 0;
+        limit = Math.min(maxLimit, limit + 1);
+        increases++;
+        recordChange(before, "healthy");
+    }
+
+    private void decrease(final Permit permit, final long now, final String reason) {
+        if (permit.startNanos < lastDecreaseNanos) {
+            // Already cut for this round of requests
+            return;
+        }
+        final int before = currentLimit();
+        limit = Math.max(minLimit, limit * backoffRatio);
+        healthySinceIncrease = 0;
+        lastDecreaseNanos = now;
+        decreases++;
+        recordChange(before, reason);
+    }
+
+    private void recordChange(final int before, final String reason) {
+        final int after = currentLimit();
+        if (after == before) {
+            return;
+        }
+        if (history.size() == HISTORY_SIZE) {
+            history.removeFirst();
+        }
+        history.addLast(new LimitChange(Instant.now(), before, after, reason));
+        logger.debug("Adaptive concurrency limit {} -> {} ({})", before, after, reason);
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+}
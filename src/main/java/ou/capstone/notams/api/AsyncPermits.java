@@ -0,0 +1,92 @@
+package ou.capstone.notams.api;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Counting semaphore whose acquire returns a future instead of blocking.
+ * <p>
+ * Used to cap concurrent requests per host without tying up a thread while
+ * waiting for a permit. Waiters are served in FIFO order.
+ */
+final class AsyncPermits {
+
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int available;
+
+    AsyncPermits(final int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive, got: " + permits);
+        }
+        this.available = permits;
+    }
+
+    /**
+     * Returns a future that completes once a permit has been granted.
+     * The caller must call {@link #release()} exactly once afterwards.
+     */
+    CompletableFuture<Void> acquire() {
+        synchronized (this) {
+            if (available > 0) {
+                available--;
+                return CompletableFuture.completedFuture(null);
+            }
+            final CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * Blocking variant of {@link #acquire()} for synchronous callers.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquireBlocking() throws InterruptedException {
+        final CompletableFuture<Void> permit = acquire();
+        try {
+            permit.get();
+        } catch (final InterruptedException e) {
+            // If the permit was granted concurrently, hand it back
+            if (!permit.cancel(false)) {
+                release();
+            } else {
+                synchronized (this) {
+                    waiters.remove(permit);
+                }
+            }
+            throw e;
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Permit future failed unexpectedly", e.getCause());
+        }
+    }
+
+    /**
+     * Returns a permit, handing it directly to the oldest waiter if any.
+     */
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            next = waiters.poll();
+            while (next != null && next.isDone()) {
+                // Skip waiters that were cancelled while queued
+                next = waiters.poll();
+            }
+            if (next == null) {
+                available++;
+                return;
+            }
+        }
+        // Complete outside the lock so dependent stages do not run while holding it
+        if (!next.complete(null)) {
+            release();
+        }
+    }
+
+    /** Number of permits currently free. */
+    synchronized int available() {
+        return available;
+    }
+}
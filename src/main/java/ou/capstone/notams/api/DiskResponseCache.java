@@ -0,0 +1,343 @@
+package ou.capstone.notams.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of raw FAA response pages, keyed by the endpoint URI and the
+ * normalized query string from {@link FaaNotamApiWrapper.QueryParamsBuilder#build()}.
+ * <p>
+ * Each page is stored gzip-compressed in its own file, named by the SHA-256 of
+ * its key, behind a small header holding the time it was stored. Pages older
+ * than the TTL are not returned by {@link #get(String)} but stay on disk, so
+ * {@link #getFallback(String)} can still serve them, up to a max stale age,
+ * when the FAA API is unreachable, and {@link #getStale(String)} at any age
+ * when the process runs offline. Once the files exceed the size cap the
+ * oldest are deleted.
+ * <p>
+ * Safe to use from several threads and several processes: files are written to
+ * a temporary name and moved into place. I/O errors are logged and treated as
+ * misses, so a broken cache never fails a request.
+ */
+public final class DiskResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskResponseCache.class);
+
+    private static final String SUFFIX = ".json.gz";
+
+    // Guards against reading files that are not ours
+    private static final int MAGIC = 0x4E4F5443; // "NOTC"
+
+    private static final Duration DEFAULT_MAX_STALE = Duration.ofHours(6);
+
+    /** Snapshot of the cache counters. */
+    public record Stats(long hits, long misses, long staleHits, long writes, long evictions, long sizeBytes) {
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, staleHits=%d, writes=%d, evictions=%d, size=%d KiB",
+                    hits, misses, staleHits, writes, evictions, sizeBytes / 1024);
+        }
+    }
+
+    /** A stored page and when it was stored. */
+    public record Stored(Instant storedAt, byte[] body) { }
+
+    private final Path directory;
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final long maxBytes;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // Store time of the oldest page returned as fresh
+    private final AtomicLong oldestHitMillis = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // Bytes on disk as last measured plus what this process has written since
+    private final AtomicLong sizeBytes;
+
+    /**
+     * Creates a cache whose pages may serve as a fallback for up to six hours.
+     *
+     * @see #DiskResponseCache(Path, Duration, Duration, long, Clock)
+     */
+    public DiskResponseCache(final Path directory, final Duration ttl, final long maxBytes, final Clock clock)
+            throws IOException {
+        this(directory, ttl, DEFAULT_MAX_STALE, maxBytes, clock);
+    }
+
+    /**
+     * @param directory where cache files live; created if missing
+     * @param ttl how long a stored page counts as fresh
+     * @param maxStale how old a stored page may be to stand in for an unreachable API
+     * @param maxBytes size cap for all cache files together
+     * @param clock time source for freshness
+     * @throws IOException if the directory cannot be created
+     */
+    public DiskResponseCache(final Path directory, final Duration ttl, final Duration maxStale,
+                             final long maxBytes, final Clock clock)
+            throws IOException {
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative, got: " + ttl);
+        }
+        if (maxStale == null || maxStale.isNegative()) {
+            throw new IllegalArgumentException("maxStale must not be negative, got: " + maxStale);
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive, got: " + maxBytes);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+        this.sizeBytes = new AtomicLong(measure());
+    }
+
+    /**
+     * Creates a cache configured from NOTAM_DISK_CACHE_DIR (default
+     * ~/.cache/notams), NOTAM_DISK_CACHE_TTL_SECONDS (default 600),
+     * NOTAM_DISK_CACHE_MAX_STALE_SECONDS (default 21600) and
+     * NOTAM_DISK_CACHE_MAX_MB (default 100).
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    public static DiskResponseCache fromEnvironment() throws IOException {
+        final String dir = System.getenv().getOrDefault("NOTAM_DISK_CACHE_DIR",
+                Path.of(System.getProperty("user.home"), ".cache", "notams").toString());
+        return new DiskResponseCache(
+                Path.of(dir),
+                Duration.ofSeconds(Long.parseLong(System.getenv().getOrDefault("NOTAM_DISK_CACHE_TTL_SECONDS", "600"))),
+                Duration.ofSeconds(Long.parseLong(
+                        System.getenv().getOrDefault("NOTAM_DISK_CACHE_MAX_STALE_SECONDS", "21600"))),
+                Long.parseLong(System.getenv().getOrDefault("NOTAM_DISK_CACHE_MAX_MB", "100")) * 1024 * 1024,
+                Clock.systemUTC());
+    }
+
+    /**
+     * Returns the stored page for a query if it is younger than the TTL,
+     * counting a hit or a miss.
+     */
+    public Optional<byte[]> get(final String key) {
+        final Optional<Stored> stored = read(key);
+        if (stored.isPresent() && clock.instant().isBefore(stored.get().storedAt().plus(ttl))) {
+            hits.incrementAndGet();
+            oldestHitMillis.accumulateAndGet(stored.get().storedAt().toEpochMilli(), Math::min);
+            return Optional.of(stored.get().body());
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * When the oldest page returned by {@link #get(String)} was stored, or
+     * empty if there has been no hit.
+     */
+    public Optional<Instant> oldestHit() {
+        final long millis = oldestHitMillis.get();
+        return millis != Long.MAX_VALUE ? Optional.of(Instant.ofEpochMilli(millis)) : Optional.empty();
+    }
+
+    /**
+     * Returns the stored page for a query if it is no older than the max stale
+     * age. Meant for when the API cannot be reached; counted as a stale hit.
+     */
+    public Optional<Stored> getFallback(final String key) {
+        final Optional<Stored> stored = read(key)
+                .filter(s -> !clock.instant().isAfter(s.storedAt().plus(maxStale)));
+        if (stored.isPresent()) {
+            staleHits.incrementAndGet();
+            logger.debug("Serving cached FAA response stored at {} for {}", stored.get().storedAt(), key);
+        }
+        return stored;
+    }
+
+    /**
+     * Returns the stored page for a query however old it is. Meant for offline
+     * runs; counted as a stale hit.
+     */
+    public Optional<byte[]> getStale(final String key) {
+        final Optional<Stored> stored = read(key);
+        if (stored.isPresent()) {
+            staleHits.incrementAndGet();
+            logger.debug("Serving cached FAA response stored at {} for {}", stored.get().storedAt(), key);
+        }
+        return stored.map(Stored::body);
+    }
+
+    /**
+     * Stores a page, then deletes the oldest pages if the cache is over its cap.
+     */
+    public void put(final String key, final byte[] body) {
+        if (ttl.isZero()) {
+            return;
+        }
+        final Path file = fileFor(key);
+        try {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (DataOutputStream out = new DataOutputStream(buffer)) {
+                out.writeInt(MAGIC);
+                out.writeLong(clock.millis());
+                try (OutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(body);
+                }
+            }
+
+            final Path temp = Files.createTempFile(directory, "page", ".tmp");
+            try {
+                Files.write(temp, buffer.toByteArray());
+                moveIntoPlace(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            writes.incrementAndGet();
+            if (sizeBytes.addAndGet(buffer.size()) > maxBytes) {
+                evictOldest();
+            }
+        } catch (final IOException e) {
+            logger.warn("Could not write FAA response cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Deletes every cached page. Counters are kept. */
+    public synchronized void clear() {
+        for (final Path file : cacheFiles()) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                logger.warn("Could not delete FAA response cache file {}: {}", file, e.getMessage());
+            }
+        }
+        sizeBytes.set(measure());
+    }
+
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), staleHits.get(), writes.get(), evictions.get(), sizeBytes.get());
+    }
+
+    private Optional<Stored> read(final String key) {
+        final Path file = fileFor(key);
+        try (InputStream in = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(in)) {
+            if (data.readInt() != MAGIC) {
+                logger.warn("Ignoring unrecognized FAA response cache file {}", file);
+                return Optional.empty();
+            }
+            final Instant storedAt = Instant.ofEpochMilli(data.readLong());
+            try (InputStream gzip = new GZIPInputStream(data)) {
+                return Optional.of(new Stored(storedAt, gzip.readAllBytes()));
+            }
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            logger.warn("Could not read FAA response cache file {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Path fileFor(final String key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest) + SUFFIX);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void moveIntoPlace(final Path temp, final Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the least recently written files until the cache is back under
+     * three quarters of its cap, so eviction does not run on every write.
+     */
+    private synchronized void evictOldest() {
+        record Candidate(Path file, FileTime modified, long size) { }
+
+        final List<Candidate> candidates = new ArrayList<>();
+        long total = 0;
+        for (final Path file : cacheFiles()) {
+            try {
+                final long size = Files.size(file);
+                candidates.add(new Candidate(file, Files.getLastModifiedTime(file), size));
+                total += size;
+            } catch (final IOException e) {
+                // Deleted by another process meanwhile
+            }
+        }
+        candidates.sort(Comparator.comparing(Candidate::modified));
+
+        final long target = maxBytes / 4 * 3;
+        for (final Candidate candidate : candidates) {
+            if (total <= target) {
+                break;
+            }
+            try {
+                if (Files.deleteIfExists(candidate.file())) {
+                    evictions.incrementAndGet();
+                }
+                total -= candidate.size();
+            } catch (final IOException e) {
+                logger.warn("Could not evict FAA response cache file {}: {}", candidate.file(), e.getMessage());
+            }
+        }
+        sizeBytes.set(total);
+    }
+
+    private long measure() {
+        long total = 0;
+        for (final Path file : cacheFiles()) {
+            try {
+                total += Files.size(file);
+            } catch (final IOException e) {
+                // Deleted by another process meanwhile
+            }
+        }
+        return total;
+    }
+
+    private List<Path> cacheFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).toList();
+        } catch (final IOException e) {
+            logger.warn("Could not list FAA response cache directory {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+}
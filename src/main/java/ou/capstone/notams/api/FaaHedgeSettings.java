@@ -0,0 +1,74 @@
+package ou.capstone.notams.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Request hedging settings for asynchronous FAA API requests.
+ * <p>
+ * When enabled, a request that has not answered within the chosen percentile of
+ * recent response times is sent a second time and whichever copy answers first
+ * is used. The duplicate draws a token from the shared rate limiter like any
+ * other request, and is only sent when a token is available right away, so
+ * hedging never queues ahead of first attempts.
+ */
+public record FaaHedgeSettings(
+    /**
+     * Whether hedging is enabled at all.
+     */
+    boolean enabled,
+
+    /**
+     * Percentile of recent latencies after which a hedge is sent, in (0, 100).
+     */
+    double percentile,
+
+    /**
+     * Number of recent successful response times the percentile is taken over.
+     */
+    int windowSize,
+
+    /**
+     * Responses that must have been seen before any request is hedged.
+     */
+    int minSamples,
+
+    /**
+     * Lower bound on the hedge delay, so a run of very fast responses does not
+     * make every request hedge.
+     */
+    Duration minDelay
+) {
+    private static final int DEFAULT_WINDOW_SIZE = 200;
+    private static final int DEFAULT_MIN_SAMPLES = 20;
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(50);
+
+    public FaaHedgeSettings {
+        Objects.requireNonNull(minDelay, "minDelay is required");
+        if (!(percentile > 0) || !(percentile < 100)) {
+            throw new IllegalArgumentException("percentile must be in (0, 100), got: " + percentile);
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive, got: " + windowSize);
+        }
+        if (minSamples <= 0 || minSamples > windowSize) {
+            throw new IllegalArgumentException("minSamples must be in [1, windowSize], got: " + minSamples);
+        }
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("minDelay must not be negative, got: " + minDelay);
+        }
+    }
+
+    /**
+     * Creates the default settings: hedging at the p95 of the last 200 responses
+     * once 20 have been seen, never sooner than 50 ms. Hedging is off unless
+     * NOTAM_HEDGE_ENABLED is true; the percentile can be overridden with
+     * NOTAM_HEDGE_PERCENTILE.
+     */
+    public static FaaHedgeSettings defaults() {
+        return new FaaHedgeSettings(
+                Boolean.parseBoolean(System.getenv().getOrDefault("NOTAM_HEDGE_ENABLED", "false")),
+                Double.parseDouble(System.getenv().getOrDefault("NOTAM_HEDGE_PERCENTILE", "95")),
+                DEFAULT_WINDOW_SIZE, DEFAULT_MIN_SAMPLES, DEFAULT_MIN_DELAY);
+    }
+}
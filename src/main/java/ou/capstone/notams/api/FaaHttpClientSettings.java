@@ -0,0 +1,68 @@
+package ou.capstone.notams.api;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection settings for the shared FAA {@link HttpClient}.
+ * <p>
+ * {@link FaaNotamApiWrapper} builds one client from these settings per process
+ * and reuses it for every page of every query, so TCP/TLS setup is paid once
+ * per connection instead of once per request.
+ */
+public record FaaHttpClientSettings(
+    /**
+     * Preferred HTTP version. HTTP/2 is negotiated via ALPN and falls back to
+     * HTTP/1.1 if the server does not support it.
+     */
+    HttpClient.Version httpVersion,
+
+    /**
+     * Maximum time to wait while establishing a new connection.
+     */
+    Duration connectTimeout,
+
+    /**
+     * Executor used by the client for asynchronous work, or null to use the
+     * HttpClient default.
+     */
+    Executor executor,
+
+    /**
+     * Maximum number of requests in flight to a single host at once. With
+     * HTTP/1.1 this caps the number of pooled connections; with HTTP/2 it caps
+     * the number of concurrent streams on the shared connection.
+     */
+    int maxConnectionsPerHost
+) {
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 16;
+
+    public FaaHttpClientSettings {
+        Objects.requireNonNull(httpVersion, "httpVersion is required");
+        Objects.requireNonNull(connectTimeout, "connectTimeout is required");
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("connectTimeout must be positive, got: " + connectTimeout);
+        }
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("maxConnectionsPerHost must be positive, got: " + maxConnectionsPerHost);
+        }
+    }
+
+    /**
+     * Creates the default settings: HTTP/2, 10 second connect timeout, the
+     * HttpClient default executor, and at most 16 concurrent requests per host.
+     */
+    public static FaaHttpClientSettings defaults() {
+        return new FaaHttpClientSettings(HttpClient.Version.HTTP_2, DEFAULT_CONNECT_TIMEOUT,
+                null, DEFAULT_MAX_CONNECTIONS_PER_HOST);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FaaHttpClientSettings{httpVersion=%s, connectTimeout=%s, executor=%s, maxConnectionsPerHost=%d}",
+                httpVersion, connectTimeout, executor != null ? "custom" : "default", maxConnectionsPerHost);
+    }
+}
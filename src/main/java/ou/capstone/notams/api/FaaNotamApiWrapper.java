@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
@@ -15,17 +16,34 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
+import ou.capstone.notams.Notam;
 import ou.capstone.notams.exceptions.NotamException;
 
 /**
@@ -33,14 +51,38 @@ import ou.capstone.notams.exceptions.NotamException;
  * Provides reusable methods for fetching raw NOTAM JSON data with support for both
  * ICAO location-based and coordinate-based queries.
  * <p>
+ * All requests go through one shared, long-lived {@link HttpClient} so that
+ * connections (and their TLS sessions) are pooled and reused across pages and
+ * waypoints. The client can be tuned with {@link #configureHttpClient(FaaHttpClientSettings)}.
+ * <p>
+ * Requests also share one client-side token bucket and retry HTTP 429 with
+ * backoff; see {@link #configureRateLimit(FaaRateLimitSettings)}.
+ * <p>
+ * Asynchronous requests can optionally be hedged: a request slower than a
+ * percentile of recent latency is sent again and the first answer wins; see
+ * {@link #configureHedging(FaaHedgeSettings)}.
+ * <p>
+ * Pages can also be kept in a {@link DiskResponseCache} so repeat runs skip the
+ * network, answer a whole query from recently expired pages when the API is
+ * unreachable, or run fully offline; see {@link #configureDiskCache(DiskResponseCache)}.
+ * <p>
+ * Concurrent calls to fetchAllPages / fetchAllNotams with equal
+ * {@link QueryParamsBuilder}s and equal timeouts are coalesced into one set of
+ * requests, and every caller receives the same (unmodifiable) result. Calls
+ * with different timeouts are not coalesced, so no caller waits on a timeout
+ * it did not ask for. Calls with different fetch deadlines are: the shared
+ * fetch runs until the latest of their deadlines, a caller whose deadline is
+ * cancelled stops waiting on its own, and the requests are only aborted once
+ * every caller's deadline has been cancelled. The first caller's page
+ * concurrency applies to the shared fetch.
+ * <p>
  * To run with verbose logging use -DFaaNotamApiWrapper.VerboseLogging=true
  */
 public final class FaaNotamApiWrapper
 {
     private static final Logger logger = LoggerFactory.getLogger(FaaNotamApiWrapper.class);
 
-    private static final String FAA_DOMAIN = "external-api.faa.gov";
-    private static final String NOTAM_API_PATH = "/notamapi/v1/notams";
+    private static final URI DEFAULT_BASE_URI = URI.create( "https://external-api.faa.gov/notamapi/v1/notams" );
     private static final String RESPONSE_FORMAT = "geoJson";
     private static final int DEFAULT_PAGE_SIZE = 50;
     private static final int DEFAULT_PAGE_NUM = 1;
@@ -48,10 +90,228 @@ public final class FaaNotamApiWrapper
     private static final int DEFAULT_TIMEOUT_SECONDS = 30;
     private static final int DEFAULT_RADIUS_NM = 50;
 
+    // Max pages of a single query fetched concurrently once totalPages is known
+    private static final int DEFAULT_PAGE_CONCURRENCY =
+            Integer.parseInt(System.getenv().getOrDefault("NOTAM_PAGE_FETCH_CONCURRENCY", "4"));
+
     private static final boolean VERBOSE_LOGGING_ENABLED = System.getProperty(
                     "FaaNotamApiWrapper.VerboseLogging", "false" )
             .equalsIgnoreCase( "true" );
 
+    // Endpoint queried for NOTAMs; NOTAM_API_BASE_URI points it at e.g. a local stub server
+    private static volatile URI baseUri = URI.create(
+            System.getenv().getOrDefault( "NOTAM_API_BASE_URI", DEFAULT_BASE_URI.toString() ) );
+
+    private static volatile FaaHttpClientSettings httpSettings = FaaHttpClientSettings.defaults();
+    private static volatile HttpClient sharedClient;
+
+    // Per-host permits enforcing FaaHttpClientSettings.maxConnectionsPerHost
+    private static final ConcurrentMap<String, AsyncPermits> hostPermits = new ConcurrentHashMap<>();
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Concurrent identical queries share one in-flight fetch, keyed by a copy of the query
+    private static final SingleFlight<FlightKey, List<String>> PAGE_FLIGHTS = new SingleFlight<>();
+    private static final SingleFlight<FlightKey, List<Notam>> NOTAM_FLIGHTS = new SingleFlight<>();
+
+    private static volatile FaaRateLimitSettings rateLimitSettings = FaaRateLimitSettings.defaults();
+    // Shared by every thread and every async request in the process
+    private static volatile TokenBucket rateLimiter = buildRateLimiter( rateLimitSettings );
+
+    // Duplicates slow async requests; hedges draw from the same rate limiter
+    private static volatile RequestHedger hedger = new RequestHedger( FaaHedgeSettings.defaults() );
+
+    // Raw pages persisted across runs; null when disabled (the default)
+    private static volatile DiskResponseCache diskCache;
+    // Serve pages only from the disk cache, never from the network
+    private static volatile boolean offline;
+
+    // Queries answered from expired cached pages, and the store time of the oldest such page
+    private static final AtomicLong staleQueries = new AtomicLong();
+    private static final AtomicLong oldestStaleMillis = new AtomicLong( Long.MAX_VALUE );
+
+    /**
+     * Replaces the settings used for the shared HTTP client. The next request
+     * builds a new client from these settings. The previous client is closed,
+     * which waits for the requests already in flight on it to finish; new
+     * requests do not wait for that.
+     *
+     * @param settings the new client settings
+     */
+    public static void configureHttpClient( final FaaHttpClientSettings settings )
+    {
+        Objects.requireNonNull( settings, "settings is required" );
+        final HttpClient previous;
+        synchronized( FaaNotamApiWrapper.class ) {
+            httpSettings = settings;
+            previous = sharedClient;
+            sharedClient = null;
+            hostPermits.clear();
+        }
+        logger.info( "FAA HTTP client reconfigured: {}", settings );
+        if( previous != null ) {
+            // Releases its selector thread and pooled connections
+            previous.close();
+        }
+    }
+
+    /**
+     * Points every subsequent request at another NOTAM endpoint, such as a local
+     * stub server for load testing. Pass null to go back to the FAA API (or to
+     * NOTAM_API_BASE_URI when that is set).
+     *
+     * @param uri absolute endpoint URI without a query, or null for the default
+     */
+    public static void configureBaseUri( final URI uri )
+    {
+        final URI resolved = uri != null ? uri : URI.create(
+                System.getenv().getOrDefault( "NOTAM_API_BASE_URI", DEFAULT_BASE_URI.toString() ) );
+        if( !resolved.isAbsolute() || resolved.getRawQuery() != null ) {
+            throw new IllegalArgumentException( "Base URI must be absolute and have no query, got: " + resolved );
+        }
+        baseUri = resolved;
+        logger.info( "FAA NOTAM endpoint set to {}", resolved );
+    }
+
+    /**
+     * Replaces the client-side rate limit and 429 retry settings. Requests already
+     * waiting on the previous limiter keep their reservation.
+     *
+     * @param settings the new rate limit settings
+     */
+    public static synchronized void configureRateLimit( final FaaRateLimitSettings settings )
+    {
+        rateLimitSettings = Objects.requireNonNull( settings, "settings is required" );
+        rateLimiter = buildRateLimiter( settings );
+        logger.info( "FAA rate limit reconfigured: {}", settings );
+    }
+
+    /**
+     * Number of fetchAllPages / fetchAllNotams calls (blocking or async) that
+     * joined an identical query already in flight instead of hitting the API.
+     */
+    public static long coalescedQueryCount()
+    {
+        return PAGE_FLIGHTS.coalesced() + NOTAM_FLIGHTS.coalesced();
+    }
+
+    /**
+     * Replaces the request hedging settings. Latency history gathered under the
+     * previous settings is dropped.
+     *
+     * @param settings the new hedging settings
+     */
+    public static synchronized void configureHedging( final FaaHedgeSettings settings )
+    {
+        hedger = new RequestHedger( Objects.requireNonNull( settings, "settings is required" ) );
+        logger.info( "FAA request hedging reconfigured: {}", settings );
+    }
+
+    /**
+     * Hedge rate, hedge wins and time saved by hedging since the hedging
+     * settings were last configured.
+     */
+    public static RequestHedger.Metrics hedgeMetrics()
+    {
+        return hedger.metrics();
+    }
+
+    /**
+     * Sets the on-disk page cache consulted before every page request, or
+     * disables it when {@code cache} is null.
+     *
+     * @param cache the cache to use, or null
+     */
+    public static synchronized void configureDiskCache( final DiskResponseCache cache )
+    {
+        diskCache = cache;
+        logger.info( "FAA disk response cache {}", cache != null ? "enabled" : "disabled" );
+    }
+
+    /**
+     * Switches offline mode on or off. While offline, pages are served from the
+     * disk cache regardless of age and a page that is not cached fails with a
+     * {@link NotamException}; nothing is sent to the FAA API.
+     *
+     * @param enabled whether to run offline
+     */
+    public static void configureOffline( final boolean enabled )
+    {
+        offline = enabled;
+        logger.info( "FAA offline mode {}", enabled ? "enabled" : "disabled" );
+    }
+
+    /**
+     * Counters of the disk response cache, or empty when it is disabled.
+     */
+    public static Optional<DiskResponseCache.Stats> diskCacheStats()
+    {
+        final DiskResponseCache cache = diskCache;
+        return cache != null ? Optional.of( cache.stats() ) : Optional.empty();
+    }
+
+    /**
+     * Number of queries answered from expired disk cache pages because the FAA
+     * API could not be reached.
+     */
+    public static long staleQueryCount()
+    {
+        return staleQueries.get();
+    }
+
+    /**
+     * When the oldest expired page served in place of the FAA API was stored,
+     * or empty if none has been.
+     */
+    public static Optional<Instant> oldestStaleResponse()
+    {
+        final long millis = oldestStaleMillis.get();
+        return millis != Long.MAX_VALUE ? Optional.of( Instant.ofEpochMilli( millis ) ) : Optional.empty();
+    }
+
+    private static TokenBucket buildRateLimiter( final FaaRateLimitSettings settings )
+    {
+        return new TokenBucket( settings.permitsPerSecond(), settings.burst() );
+    }
+
+    /**
+     * Returns the shared HTTP client, building it on first use.
+     */
+    static HttpClient httpClient()
+    {
+        HttpClient client = sharedClient;
+        if( client == null ) {
+            synchronized( FaaNotamApiWrapper.class ) {
+                client = sharedClient;
+                if( client == null ) {
+                    client = buildHttpClient( httpSettings );
+                    sharedClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private static HttpClient buildHttpClient( final FaaHttpClientSettings settings )
+    {
+        logger.debug( "Building shared FAA HTTP client: {}", settings );
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .version( settings.httpVersion() )
+                .connectTimeout( settings.connectTimeout() )
+                .followRedirects( HttpClient.Redirect.NORMAL );
+        if( settings.executor() != null ) {
+            builder.executor( settings.executor() );
+        }
+        return builder.build();
+    }
+
+    private static AsyncPermits permitsFor( final URI uri )
+    {
+        final int maxPerHost = httpSettings.maxConnectionsPerHost();
+        return hostPermits.computeIfAbsent( uri.getHost(),
+                host -> new AsyncPermits( maxPerHost ) );
+    }
+
     /**
      * Validates that FAA API credentials are available in environment variables or system properties.
      * Checks environment variables first, then falls back to system properties.
@@ -59,8 +319,8 @@ public final class FaaNotamApiWrapper
      * @throws IllegalStateException if credentials are missing
      */
     public static void validateCredentials() {
-        final String clientId = System.getenv("FAA_CLIENT_ID");
-        final String clientSecret = System.getenv("FAA_CLIENT_SECRET");
+        final String clientId = credential("FAA_CLIENT_ID");
+        final String clientSecret = credential("FAA_CLIENT_SECRET");
 
         if (clientId == null || clientSecret == null) {
             logger.error("FAA API credentials not found in environment variables");
@@ -68,6 +328,11 @@ public final class FaaNotamApiWrapper
         }
     }
 
+    private static String credential(final String name) {
+        final String value = System.getenv(name);
+        return value != null ? value : System.getProperty(name);
+    }
+
     /**
      * Query parameters builder for FAA NOTAM API requests.
      * Supports both ICAO location-based and coordinate-based queries.
@@ -83,6 +348,15 @@ public final class FaaNotamApiWrapper
         private final String sortBy = "effectiveStartDate";
         private final String sortOrder = "Desc";
 
+        private QueryParamsBuilder(final QueryParamsBuilder other, final int pageNum) {
+            this.icaoLocation = other.icaoLocation;
+            this.latitude = other.latitude;
+            this.longitude = other.longitude;
+            this.radiusNm = other.radiusNm;
+            this.pageSize = other.pageSize;
+            this.pageNum = pageNum;
+        }
+
         /**
          * Creates a builder for ICAO location-based queries.
          *
@@ -122,6 +396,11 @@ public final class FaaNotamApiWrapper
             this.radiusNm = radiusNm;
         }
 
+        /** Returns an independent copy, e.g. for use as a map key. */
+        QueryParamsBuilder copy() {
+            return new QueryParamsBuilder(this, pageNum);
+        }
+
         /**
          * Sets the page size for pagination.
          *
@@ -144,6 +423,17 @@ public final class FaaNotamApiWrapper
             return this;
         }
 
+        /**
+         * Returns a copy of this builder for another page of the same query.
+         * Used when several pages are requested concurrently, since builders are mutable.
+         *
+         * @param pageNum The page number of the copy
+         * @return a new builder; this builder is not modified
+         */
+        public QueryParamsBuilder forPage(final int pageNum) {
+            return new QueryParamsBuilder(this, pageNum);
+        }
+
         /**
          * Builds the query string from the parameters.
          *
@@ -212,7 +502,9 @@ public final class FaaNotamApiWrapper
                     && Objects.equals( longitude, that.longitude )
                     && Objects.equals( radiusNm, that.radiusNm )
                     && Objects.equals( pageSize, that.pageSize )
-                    && Objects.equals( pageNum, that.pageNum );
+                    && Objects.equals( pageNum, that.pageNum )
+                    && Objects.equals( sortBy, that.sortBy )
+                    && Objects.equals( sortOrder, that.sortOrder );
         }
 
         @Override
@@ -224,28 +516,28 @@ public final class FaaNotamApiWrapper
     }
 
     /**
-     * Fetches raw NOTAM JSON data from the FAA API using the specified query parameters.
-     * This is a reusable method that supports both ICAO and coordinate-based queries.
+     * Builds the authenticated HTTP request for the given query parameters.
      *
      * @param queryParams The query parameters builder
-     * @param timeoutSeconds Optional timeout in seconds (defaults to 30 if null)
-     * @return The raw JSON response as a String
+     * @param timeoutSeconds Request timeout in seconds (-1 for the default)
+     * @return the request, ready to send
      */
-    protected static String fetchRawJson( final QueryParamsBuilder queryParams,
-                                          final int timeoutSeconds )
+    private static HttpRequest buildRequest( final QueryParamsBuilder queryParams,
+                                             final int timeoutSeconds )
             throws NotamException
     {
         logger.debug("Fetching NOTAMs with query parameters: {}", queryParams);
 
         validateCredentials();
 
-        final String clientId = System.getenv("FAA_CLIENT_ID");
-        final String clientSecret = System.getenv("FAA_CLIENT_SECRET");
+        final String clientId = credential("FAA_CLIENT_ID");
+        final String clientSecret = credential("FAA_CLIENT_SECRET");
 
         final String queryString = queryParams.build();
+        final URI base = baseUri;
         final URI uri;
         try {
-            uri = new URI("https", FAA_DOMAIN, NOTAM_API_PATH, queryString, null);
+            uri = new URI(base.getScheme(), base.getAuthority(), base.getPath(), queryString, null);
         }
         catch( final URISyntaxException e ) {
             logger.error( "Bad syntax in URL? ", e);
@@ -266,58 +558,372 @@ public final class FaaNotamApiWrapper
 
         final int timeout = timeoutSeconds != -1 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
 
-        final HttpRequest request = HttpRequest.newBuilder(uri)
+        return HttpRequest.newBuilder(uri)
                 .GET()
                 .header("client_id", clientId)
                 .header("client_secret", clientSecret)
                 .timeout(Duration.ofSeconds(timeout))
                 .build();
+    }
 
-        final HttpResponse<String> response;
-        try (final HttpClient http = HttpClient.newHttpClient()) {
-            response = http.send( request, BodyHandlers.ofString() );
+    /**
+     * Checks the response status and returns the body of a successful response.
+     *
+     * @param response the HTTP response
+     * @param uri the request URI (for logging)
+     * @return the response body
+     * @throws RateLimitException if the API returned 429
+     * @throws NotamException for any other non-200 status
+     */
+    private static String handleResponse( final HttpResponse<String> response,
+                                          final URI uri )
+            throws NotamException
+    {
+        checkStatus( response.statusCode(), uri, response::body );
+
+        final String responseBody = response.body();
+
+        // Verbose logging of response details (only if enabled)
+        if (VERBOSE_LOGGING_ENABLED) {
+            logger.debug("=== FAA API Response Details ===");
+            logger.debug("Response Body Length: {} characters", responseBody.length());
+
+            // Log first 500 characters of response for debugging
+            if (!responseBody.isEmpty()) {
+                final String preview = responseBody.length() > 500
+                        ? responseBody.substring(0, 500) + "..."
+                        : responseBody;
+                logger.debug("Response Body Preview:\n{}", preview);
+            }
+            logger.debug("================================");
+        } else {
+            logger.debug("Successfully fetched NOTAM JSON response ({} characters)", responseBody.length());
+        }
+
+        return responseBody;
+    }
+
+    /**
+     * Throws the appropriate exception for a non-200 status. The error body is
+     * only materialized when it is about to be logged.
+     *
+     * @param statusCode the HTTP status code
+     * @param uri the request URI (for logging)
+     * @param errorBody supplies the response body for logging
+     * @throws RateLimitException if the API returned 429
+     * @throws NotamException for any other non-200 status
+     */
+    private static void checkStatus( final int statusCode, final URI uri,
+                                     final Supplier<String> errorBody )
+            throws NotamException
+    {
+        logger.info("FAA API response status: {}", statusCode);
+
+        if (statusCode == 200) {
+            return;
+        } else if (statusCode == 429) {
+            logger.warn("FAA API rate limit exceeded. URL: {}", uri);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Rate limit response body: {}", errorBody.get());
+            }
+            throw new RateLimitException("FAA API rate limit has been exceeded. Please wait a few minutes and try again.");
+        } else {
+            logger.error("FAA API returned non-200 status: {}. URL: {}", statusCode, uri);
+            logger.error("Response body: {}", errorBody.get());
+            throw new NotamException("FAA API returned non-200 status: " + statusCode);
+        }
+    }
+
+    /**
+     * Fetches raw NOTAM JSON data from the FAA API using the specified query parameters.
+     * This is a reusable method that supports both ICAO and coordinate-based queries.
+     * A single page never falls back to the disk cache's expired pages; only
+     * whole queries do, see {@link #fetchAllPages(QueryParamsBuilder, int, int)}.
+     *
+     * @param queryParams The query parameters builder
+     * @param timeoutSeconds Optional timeout in seconds (defaults to 30 if null)
+     * @return The raw JSON response as a String
+     */
+    protected static String fetchRawJson( final QueryParamsBuilder queryParams,
+                                          final int timeoutSeconds )
+            throws NotamException
+    {
+        final byte[] cached = cachedPage( queryParams );
+        if( cached != null ) {
+            return new String( cached, StandardCharsets.UTF_8 );
+        }
+
+        final HttpRequest request = buildRequest( queryParams, timeoutSeconds );
+        final String body = send( request, FetchDeadline.none(), BodyHandlers.ofString(),
+                response -> handleResponse( response, request.uri() ) );
+        storePage( queryParams, body.getBytes( StandardCharsets.UTF_8 ) );
+        return body;
+    }
+
+    /**
+     * Looks a page up in the disk cache before going to the network.
+     *
+     * @return the cached page, or null if it must be fetched
+     * @throws NotamException if offline and the page is not cached
+     */
+    private static byte[] cachedPage( final QueryParamsBuilder queryParams )
+            throws NotamException
+    {
+        final DiskResponseCache cache = diskCache;
+        if( offline ) {
+            final String key = cacheKey( queryParams );
+            if( cache == null ) {
+                throw new NotamException( "Offline mode needs the disk response cache, which is disabled" );
+            }
+            return cache.getStale( key ).orElseThrow(
+                    () -> new NotamException( "Offline and no cached FAA response for query: " + key ) );
+        }
+        return cache != null ? cache.get( cacheKey( queryParams ) ).orElse( null ) : null;
+    }
+
+    /**
+     * Disk cache key of a page: the endpoint and the query, so pages from a
+     * stub server are never served as FAA responses.
+     */
+    private static String cacheKey( final QueryParamsBuilder queryParams )
+    {
+        return baseUri + "?" + queryParams.build();
+    }
+
+    private static void storePage( final QueryParamsBuilder queryParams, final byte[] body )
+    {
+        final DiskResponseCache cache = diskCache;
+        if( cache != null ) {
+            cache.put( cacheKey( queryParams ), body );
+        }
+    }
+
+    /**
+     * Falls back to expired cached pages for a whole query when the API could
+     * not be reached at all. Every page of the query must be cached and within
+     * the cache's max stale age, so a result never mixes fresh and expired
+     * pages. HTTP errors, including rate limiting, are rethrown as they are.
+     *
+     * @return the cached pages of the query, in page order
+     * @throws NotamException {@code failure} if the query cannot be served from the cache
+     */
+    private static List<byte[]> staleQueryOrThrow( final QueryParamsBuilder queryParams,
+                                                   final NotamException failure )
+            throws NotamException
+    {
+        final DiskResponseCache cache = diskCache;
+        if( cache == null || !(failure.getCause() instanceof IOException) ) {
+            throw failure;
+        }
+        final Optional<DiskResponseCache.Stored> first = cache.getFallback( cacheKey( queryParams ) );
+        if( first.isEmpty() ) {
+            throw failure;
+        }
+        final PageInfo pageInfo;
+        try {
+            pageInfo = readPageInfo( new String( first.get().body(), StandardCharsets.UTF_8 ) );
+        }
+        catch( final NotamException e ) {
+            throw failure;
+        }
+
+        final List<byte[]> pages = new ArrayList<>();
+        pages.add( first.get().body() );
+        Instant oldest = first.get().storedAt();
+        for( int page = pageInfo.pageNum() + 1; page <= pageInfo.totalPages(); page++ ) {
+            final Optional<DiskResponseCache.Stored> stale = cache.getFallback( cacheKey( queryParams.forPage( page ) ) );
+            if( stale.isEmpty() ) {
+                throw failure;
+            }
+            pages.add( stale.get().body() );
+            if( stale.get().storedAt().isBefore( oldest ) ) {
+                oldest = stale.get().storedAt();
+            }
+        }
+
+        staleQueries.incrementAndGet();
+        oldestStaleMillis.accumulateAndGet( oldest.toEpochMilli(), Math::min );
+        logger.warn( "FAA API unreachable ({}); using {} expired cached page(s) stored since {}",
+                failure.getCause().toString(), pages.size(), oldest );
+        return pages;
+    }
+
+    private static CompletableFuture<List<byte[]>> staleQueryOrFail( final QueryParamsBuilder queryParams,
+                                                                     final Throwable error )
+    {
+        final Throwable cause = unwrap( error );
+        if( !(cause instanceof NotamException failure) ) {
+            return CompletableFuture.failedFuture( cause );
+        }
+        try {
+            return CompletableFuture.completedFuture( staleQueryOrThrow( queryParams, failure ) );
+        }
+        catch( final NotamException e ) {
+            return CompletableFuture.failedFuture( e );
+        }
+    }
+
+    private static List<String> decodePages( final List<byte[]> pages )
+    {
+        return pages.stream().map( page -> new String( page, StandardCharsets.UTF_8 ) ).toList();
+    }
+
+    private static List<Notam> parsePages( final List<byte[]> pages, final NotamParser parser )
+    {
+        final List<Notam> notams = new ArrayList<>();
+        for( final byte[] page : pages ) {
+            notams.addAll( parser.parsePage( page ).notams() );
+        }
+        return Collections.unmodifiableList( notams );
+    }
+
+    /** Consumes a response while its connection permit is still held. */
+    @FunctionalInterface
+    private interface ResponseReader<T, R>
+    {
+        R read( HttpResponse<T> response ) throws NotamException, IOException;
+    }
+
+    /**
+     * Sends a request on the calling thread once the shared rate limiter and the
+     * per-host connection cap allow it, then hands the response to {@code reader}.
+     * HTTP 429 responses are retried per {@link FaaRateLimitSettings}; once the
+     * retries run out the last 429 is passed to the reader like any other response.
+     * Every attempt is timed against {@code deadline} as it starts, and none is
+     * started once the deadline has passed.
+     */
+    private static <T, R> R send( final HttpRequest request,
+                                  final FetchDeadline deadline,
+                                  final HttpResponse.BodyHandler<T> bodyHandler,
+                                  final ResponseReader<T, R> reader )
+            throws NotamException
+    {
+        final AsyncPermits permits = permitsFor( request.uri() );
+        try {
+            for( int retry = 0; ; retry++ ) {
+                if( deadline.isExpired() || !rateLimiter.acquireBlocking( deadline.remainingNanos() ) ) {
+                    throw deadlineExpired( request );
+                }
+                permits.acquireBlocking();
+                final Duration backoff;
+                try {
+                    if( deadline.isExpired() ) {
+                        throw deadlineExpired( request );
+                    }
+                    final HttpResponse<T> response = httpClient().send( retimed( request, deadline ), bodyHandler );
+                    backoff = rateLimitBackoff( response, retry, deadline );
+                    if( backoff == null ) {
+                        return reader.read( response );
+                    }
+                }
+                finally {
+                    permits.release();
+                }
+                Thread.sleep( backoff.toMillis() );
+            }
         }
         catch( final IOException e ) {
             logger.error( "Could not make HTTP request to API", e );
             throw new NotamException( e );
         }
         catch( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
             logger.error( "Interrupted while making HTTP request to API", e );
             throw new NotamException( e );
         }
+    }
 
-        logger.info("FAA API response status: {}", response.statusCode());
+    /**
+     * Decides whether a response should be retried because of the FAA rate limit.
+     * If so, its body is discarded and the shared limiter drops its saved-up
+     * burst, and the caller waits the larger of the server's Retry-After and a
+     * jittered exponential backoff before sending this request again. Other
+     * requests are not held back.
+     * <p>
+     * A Retry-After longer than {@link FaaRateLimitSettings#maxBackoff()}, or a
+     * wait that would outlast the deadline, is not waited out: the 429 is handed
+     * back and fails the request with a {@link RateLimitException}.
+     *
+     * @param response the response just received
+     * @param retry number of retries already made for this request
+     * @param deadline deadline of the fetch the request belongs to
+     * @return how long to wait before sending the request again, or null to not retry
+     */
+    private static Duration rateLimitBackoff( final HttpResponse<?> response, final int retry,
+                                              final FetchDeadline deadline )
+    {
+        final FaaRateLimitSettings settings = rateLimitSettings;
+        if( response.statusCode() != 429 || retry >= settings.maxRetries() ) {
+            return null;
+        }
 
-        if (response.statusCode() == 200) {
-            final String responseBody = response.body();
+        final Duration retryAfter = RetryAfter.parse(
+                        response.headers().firstValue( "Retry-After" ).orElse( null ), Instant.now() )
+                .orElse( Duration.ZERO );
+        if( retryAfter.compareTo( settings.maxBackoff() ) > 0 ) {
+            logger.warn( "FAA API asked to retry after {} s, longer than the {} s backoff limit; not retrying. URL: {}",
+                    retryAfter.toSeconds(), settings.maxBackoff().toSeconds(), response.uri() );
+            return null;
+        }
 
-            // Verbose logging of response details (only if enabled)
-            if (VERBOSE_LOGGING_ENABLED) {
-                logger.debug("=== FAA API Response Details ===");
-                logger.debug("Response Body Length: {} characters", responseBody.length());
+        final long ceiling = settings.backoff( retry ).toMillis();
+        final long jittered = ceiling / 2 + ThreadLocalRandom.current().nextLong( ceiling / 2 + 1 );
+        final Duration delay = retryAfter.compareTo( Duration.ofMillis( jittered ) ) > 0
+                ? retryAfter
+                : Duration.ofMillis( jittered );
+        if( delay.toNanos() >= deadline.remainingNanos() ) {
+            logger.warn( "FAA API rate limit hit, but backing off {} ms would pass the fetch deadline; "
+                    + "not retrying. URL: {}", delay.toMillis(), response.uri() );
+            return null;
+        }
 
-                // Log first 500 characters of response for debugging
-                if (!responseBody.isEmpty()) {
-                    final String preview = responseBody.length() > 500
-                            ? responseBody.substring(0, 500) + "..."
-                            : responseBody;
-                    logger.debug("Response Body Preview:\n{}", preview);
-                }
-                logger.debug("================================");
-            } else {
-                logger.debug("Successfully fetched NOTAM JSON response ({} characters)", responseBody.length());
+        discardBody( response );
+        rateLimiter.dropBurst();
+        logger.warn( "FAA API rate limit hit (retry {}/{}), backing off {} ms. URL: {}",
+                retry + 1, settings.maxRetries(), delay.toMillis(), response.uri() );
+        return delay;
+    }
+
+    private static void discardBody( final HttpResponse<?> response )
+    {
+        if( response.body() instanceof InputStream body ) {
+            try {
+                body.close();
+            }
+            catch( final IOException e ) {
+                logger.debug( "Failed to close discarded response body", e );
             }
+        }
+    }
 
-            return responseBody;
-        } else if (response.statusCode() == 429) {
-            logger.warn("FAA API rate limit exceeded. URL: {}", uri);
-            logger.debug("Rate limit response body: {}", response.body());
-            throw new RateLimitException("FAA API rate limit has been exceeded. Please wait a few minutes and try again.");
-        } else {
-            logger.error("FAA API returned non-200 status: {}. URL: {}", response.statusCode(), uri);
-            logger.error("Response body: {}", response.body());
-            throw new NotamException("FAA API returned non-200 status: " + response.statusCode());
+    /**
+     * Copy of a request whose timeout is cut to what is left of the deadline,
+     * or the request itself if its own timeout already fits.
+     */
+    private static HttpRequest retimed( final HttpRequest request, final FetchDeadline deadline )
+    {
+        if( !deadline.isBounded() ) {
+            return request;
+        }
+        final int capSeconds = (int) request.timeout().orElse( Duration.ofSeconds( DEFAULT_TIMEOUT_SECONDS ) )
+                .toSeconds();
+        final int timeoutSeconds = deadline.requestTimeoutSeconds( capSeconds );
+        if( timeoutSeconds >= capSeconds ) {
+            return request;
         }
+        return HttpRequest.newBuilder( request, ( name, value ) -> true )
+                .timeout( Duration.ofSeconds( timeoutSeconds ) )
+                .build();
+    }
+
+    /**
+     * Failure for a request not sent because its fetch deadline passed or was
+     * cancelled. It is not an I/O failure, so no stale page is served for it.
+     */
+    private static NotamException deadlineExpired( final HttpRequest request )
+    {
+        return new NotamException( "Fetch deadline passed before the request could be sent: " + request.uri(),
+                new TimeoutException( "Fetch deadline expired" ) );
     }
 
     /**
@@ -334,6 +940,136 @@ public final class FaaNotamApiWrapper
         return fetchRawJson(queryParams, -1);
     }
 
+    /**
+     * Non-blocking variant of {@link #fetchRawJson(QueryParamsBuilder, int)}.
+     * No thread is held while waiting for a connection permit or for the response.
+     *
+     * @param queryParams The query parameters builder
+     * @param timeoutSeconds Request timeout in seconds (-1 for the default)
+     * @return a future completing with the raw JSON response, or exceptionally with a
+     *         {@link NotamException} (a {@link RateLimitException} on HTTP 429)
+     */
+    public static CompletableFuture<String> fetchRawJsonAsync( final QueryParamsBuilder queryParams,
+                                                               final int timeoutSeconds )
+    {
+        final HttpRequest request;
+        try {
+            final byte[] cached = cachedPage( queryParams );
+            if( cached != null ) {
+                return CompletableFuture.completedFuture( new String( cached, StandardCharsets.UTF_8 ) );
+            }
+            request = buildRequest( queryParams, timeoutSeconds );
+        }
+        catch( final NotamException | RuntimeException e ) {
+            return CompletableFuture.failedFuture( e );
+        }
+
+        return sendAsync( request, FetchDeadline.none(), BodyHandlers.ofString() )
+                .thenApply( response -> {
+                    try {
+                        final String body = handleResponse( response, request.uri() );
+                        storePage( queryParams, body.getBytes( StandardCharsets.UTF_8 ) );
+                        return body;
+                    }
+                    catch( final NotamException e ) {
+                        throw new CompletionException( e );
+                    }
+                } );
+    }
+
+    /**
+     * Sends a request asynchronously once the shared rate limiter and the per-host
+     * connection cap allow it, retrying HTTP 429 responses like {@link #send}.
+     * When hedging is enabled a slow request is duplicated, but only if the rate
+     * limiter has a token to spare right away.
+     * <p>
+     * Like {@link #send}, every attempt is timed against {@code deadline} and
+     * none starts after it. The HTTP exchanges are tracked by the deadline, so
+     * {@link FetchDeadline#cancel()} aborts them.
+     * Transport failures complete the future with a {@link NotamException}.
+     */
+    private static <T> CompletableFuture<HttpResponse<T>> sendAsync( final HttpRequest request,
+                                                                     final FetchDeadline deadline,
+                                                                     final HttpResponse.BodyHandler<T> bodyHandler )
+    {
+        final RequestHedger currentHedger = hedger;
+        final CompletableFuture<HttpResponse<T>> sent = currentHedger.isEnabled()
+                ? currentHedger.execute( () -> hedgeCopy( request, deadline, bodyHandler ),
+                        () -> rateLimiter.available() >= 1, FaaNotamApiWrapper::discardBody )
+                : sendAsync( request, deadline, bodyHandler, 0 );
+        return sent
+                .handle( ( response, error ) -> {
+                    if( error != null ) {
+                        final Throwable cause = unwrap( error );
+                        logger.error( "Could not make HTTP request to API", cause );
+                        throw new CompletionException( cause instanceof NotamException
+                                ? cause
+                                : new NotamException( asException( cause ) ) );
+                    }
+                    return response;
+                } );
+    }
+
+    private static <T> CompletableFuture<HttpResponse<T>> sendAsync( final HttpRequest request,
+                                                                     final FetchDeadline deadline,
+                                                                     final HttpResponse.BodyHandler<T> bodyHandler,
+                                                                     final int retry )
+    {
+        if( deadline.isExpired() ) {
+            return CompletableFuture.failedFuture( deadlineExpired( request ) );
+        }
+        final AsyncPermits permits = permitsFor( request.uri() );
+        return rateLimiter.acquire( deadline.remainingNanos() )
+                .thenCompose( token -> token
+                        ? permits.acquire().thenCompose( granted -> startExchange( request, deadline, bodyHandler )
+                                .whenComplete( ( response, error ) -> permits.release() ) )
+                        : CompletableFuture.<HttpResponse<T>>failedFuture( deadlineExpired( request ) ) )
+                .thenCompose( response -> {
+                    final Duration backoff = rateLimitBackoff( response, retry, deadline );
+                    if( backoff == null ) {
+                        return CompletableFuture.completedFuture( response );
+                    }
+                    return CompletableFuture.runAsync( () -> { }, CompletableFuture.delayedExecutor(
+                                    backoff.toMillis(), TimeUnit.MILLISECONDS ) )
+                            .thenCompose( ignored -> sendAsync( request, deadline, bodyHandler, retry + 1 ) );
+                } );
+    }
+
+    /**
+     * Sends one copy of a hedged request under a fork of the deadline, so that
+     * cancelling the returned future aborts this copy's exchange and retries
+     * without touching the other copy.
+     */
+    private static <T> CompletableFuture<HttpResponse<T>> hedgeCopy( final HttpRequest request,
+                                                                     final FetchDeadline deadline,
+                                                                     final HttpResponse.BodyHandler<T> bodyHandler )
+    {
+        final FetchDeadline copyDeadline = deadline.fork();
+        final CompletableFuture<HttpResponse<T>> copy = sendAsync( request, copyDeadline, bodyHandler, 0 );
+        copy.whenComplete( ( response, error ) -> {
+            if( copy.isCancelled() ) {
+                copyDeadline.cancel();
+            }
+        } );
+        return copy;
+    }
+
+    /** Starts one HTTP exchange under the deadline, unless it has passed meanwhile. */
+    private static <T> CompletableFuture<HttpResponse<T>> startExchange( final HttpRequest request,
+                                                                         final FetchDeadline deadline,
+                                                                         final HttpResponse.BodyHandler<T> bodyHandler )
+    {
+        if( deadline.isExpired() ) {
+            return CompletableFuture.failedFuture( deadlineExpired( request ) );
+        }
+        try {
+            return deadline.track( httpClient().sendAsync( retimed( request, deadline ), bodyHandler ) );
+        }
+        catch( final RuntimeException e ) {
+            return CompletableFuture.failedFuture( e );
+        }
+    }
+
     public static List<String> fetchAllPages( final QueryParamsBuilder queryParams )
             throws NotamException
     {
@@ -344,37 +1080,526 @@ public final class FaaNotamApiWrapper
                                               final int timeoutInSeconds )
             throws NotamException
     {
-        final List<String> allPages = new ArrayList<>();
+        return fetchAllPages( queryParams, timeoutInSeconds, DEFAULT_PAGE_CONCURRENCY );
+    }
 
-        final String firstResult = fetchRawJson( queryParams, timeoutInSeconds );
-        final ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = null;
+    /**
+     * Fetches every page of a query. Page 1 is fetched first to learn totalPages;
+     * the remaining pages are then fetched concurrently, at most
+     * {@code maxConcurrentPages} at a time.
+     *
+     * @param queryParams The query parameters builder
+     * @param timeoutInSeconds Per-request timeout in seconds (-1 for the default)
+     * @param maxConcurrentPages Max pages of this query in flight at once
+     * @return every page of the response, in page order
+     * @throws RateLimitException if any page request hit the FAA rate limit
+     */
+    public static List<String> fetchAllPages( final QueryParamsBuilder queryParams,
+                                              final int timeoutInSeconds,
+                                              final int maxConcurrentPages )
+            throws NotamException
+    {
+        return PAGE_FLIGHTS.executeBlocking( FlightKey.of( queryParams, timeoutInSeconds ), () -> {
+            try {
+                final List<String> allPages = new ArrayList<>();
+
+                final String firstResult = fetchRawJson( queryParams, timeoutInSeconds );
+                final PageInfo firstPage = readPageInfo( firstResult );
+                final int currentPage = firstPage.pageNum();
+                final int totalPages = firstPage.totalPages();
+                allPages.add( firstResult );
+
+                if( currentPage + 1 == totalPages ) {
+                    // A single remaining page gains nothing from concurrency
+                    allPages.add( fetchRawJson( queryParams.forPage( totalPages ), timeoutInSeconds ) );
+                }
+                else if( currentPage < totalPages ) {
+                    allPages.addAll( await( fetchPagesAsync( queryParams, currentPage + 1, totalPages,
+                            maxConcurrentPages, page -> fetchRawJsonAsync( page, timeoutInSeconds ) ) ) );
+                }
+
+                return Collections.unmodifiableList( allPages );
+            }
+            catch( final NotamException e ) {
+                return decodePages( staleQueryOrThrow( queryParams, e ) );
+            }
+        } );
+    }
+
+    public static CompletableFuture<List<String>> fetchAllPagesAsync( final QueryParamsBuilder queryParams )
+    {
+        return fetchAllPagesAsync( queryParams, -1 );
+    }
+
+    public static CompletableFuture<List<String>> fetchAllPagesAsync( final QueryParamsBuilder queryParams,
+                                                                      final int timeoutInSeconds )
+    {
+        return fetchAllPagesAsync( queryParams, timeoutInSeconds, DEFAULT_PAGE_CONCURRENCY );
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchAllPages(QueryParamsBuilder, int, int)} built on
+     * {@link HttpClient#sendAsync}.
+     *
+     * @param queryParams The query parameters builder
+     * @param timeoutInSeconds Per-request timeout in seconds (-1 for the default)
+     * @param maxConcurrentPages Max pages of this query in flight at once
+     * @return a future completing with every page of the response, in page order
+     */
+    public static CompletableFuture<List<String>> fetchAllPagesAsync( final QueryParamsBuilder queryParams,
+                                                                      final int timeoutInSeconds,
+                                                                      final int maxConcurrentPages )
+    {
+        return PAGE_FLIGHTS.execute( FlightKey.of( queryParams, timeoutInSeconds ), () -> fetchRawJsonAsync(
+                        queryParams, timeoutInSeconds )
+                .thenCompose( firstResult -> {
+                    final PageInfo firstPage = readPageInfoUnchecked( firstResult );
+                    return fetchPagesAsync( queryParams, firstPage.pageNum() + 1,
+                            firstPage.totalPages(), maxConcurrentPages,
+                            page -> fetchRawJsonAsync( page, timeoutInSeconds ) )
+                            .thenApply( rest -> {
+                                final List<String> allPages = new ArrayList<>( rest.size() + 1 );
+                                allPages.add( firstResult );
+                                allPages.addAll( rest );
+                                return Collections.unmodifiableList( allPages );
+                            } );
+                } )
+                .exceptionallyCompose( error -> staleQueryOrFail( queryParams, error )
+                        .thenApply( FaaNotamApiWrapper::decodePages ) ) );
+    }
+
+    /**
+     * Fetches pages {@code fromPage..toPage} (inclusive) concurrently.
+     * Once any page fails, pages that have not started yet are skipped. If any
+     * page hit the rate limit, the result fails with that {@link RateLimitException}
+     * in preference to other errors.
+     *
+     * @param fetchPage issues the request for one page
+     * @return a future completing with the pages in page order
+     */
+    private static <T> CompletableFuture<List<T>> fetchPagesAsync(
+            final QueryParamsBuilder queryParams, final int fromPage, final int toPage,
+            final int maxConcurrentPages,
+            final Function<QueryParamsBuilder, CompletableFuture<T>> fetchPage )
+    {
+        if( fromPage > toPage ) {
+            return CompletableFuture.completedFuture( List.of() );
+        }
+        logger.debug( "Fetching pages {}..{} with up to {} concurrent requests",
+                fromPage, toPage, maxConcurrentPages );
+
+        final AsyncPermits queryPermits = new AsyncPermits( Math.max( 1, maxConcurrentPages ) );
+        final AtomicBoolean failed = new AtomicBoolean( false );
+        final List<CompletableFuture<T>> pages = new ArrayList<>( toPage - fromPage + 1 );
+
+        for( int page = fromPage; page <= toPage; page++ ) {
+            final QueryParamsBuilder pageParams = queryParams.forPage( page );
+            pages.add( queryPermits.acquire()
+                    .thenCompose( granted -> failed.get()
+                            ? CompletableFuture.<T>failedFuture( new CancellationException(
+                                    "Skipped after an earlier page failed" ) )
+                            : fetchPage.apply( pageParams ) )
+                    .whenComplete( ( body, error ) -> {
+                        if( error != null ) {
+                            failed.set( true );
+                        }
+                        queryPermits.release();
+                    } ) );
+        }
+
+        return CompletableFuture.allOf( pages.toArray( new CompletableFuture<?>[0] ) )
+                .handle( ( ignored, error ) -> {
+                    if( error == null ) {
+                        return pages.stream().map( CompletableFuture::join ).toList();
+                    }
+                    throw new CompletionException( firstFailure( pages ) );
+                } );
+    }
+
+    /**
+     * Picks the error to report for a failed set of pages: a rate limit first,
+     * then any other real failure, ignoring pages skipped after the first failure.
+     */
+    private static Throwable firstFailure( final List<? extends CompletableFuture<?>> pages )
+    {
+        Throwable first = null;
+        for( final CompletableFuture<?> page : pages ) {
+            if( !page.isCompletedExceptionally() ) {
+                continue;
+            }
+            final Throwable cause;
+            try {
+                page.join();
+                continue;
+            }
+            catch( final CompletionException | CancellationException e ) {
+                cause = unwrap( e );
+            }
+            if( cause instanceof RateLimitException ) {
+                return cause;
+            }
+            if( first == null || first instanceof CancellationException ) {
+                first = cause;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Waits for a page future on behalf of a blocking caller, converting its
+     * failure back into the checked exception the blocking API declares.
+     */
+    private static <T> T await( final CompletableFuture<T> future )
+            throws NotamException
+    {
         try {
-            root = mapper.readTree( firstResult );
+            return future.get();
         }
-        catch( final JsonProcessingException e ) {
-            logger.error( "Unable to process JSON response from API", e );
+        catch( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            future.cancel( true );
+            logger.error( "Interrupted while fetching pages from API", e );
             throw new NotamException( e );
         }
-        int currentPage = root.get( "pageNum" ).asInt();
-        final int totalPages = root.get( "totalPages" ).asInt();
-        allPages.add( firstResult );
+        catch( final ExecutionException e ) {
+            throw rethrow( e );
+        }
+    }
+
+    /**
+     * Converts the failure of a page future back into the checked exception
+     * callers of the blocking API expect.
+     */
+    private static NotamException rethrow( final ExecutionException e )
+    {
+        final Throwable cause = unwrap( e );
+        if( cause instanceof NotamException ne ) {
+            return ne;
+        }
+        if( cause instanceof RuntimeException re ) {
+            throw re;
+        }
+        return new NotamException( asException( cause ) );
+    }
 
-        while( currentPage < totalPages ) {
-            final String nextResult = fetchRawJson( queryParams.pageNum(
-                     currentPage + 1 ), timeoutInSeconds );
-            final JsonNode thisPageRoot;
+    /**
+     * Fetches and parses every page of a query using the default page concurrency.
+     *
+     * @see #fetchAllNotams(QueryParamsBuilder, int, int, NotamParser)
+     */
+    public static List<Notam> fetchAllNotams( final QueryParamsBuilder queryParams,
+                                              final int timeoutInSeconds,
+                                              final NotamParser parser )
+            throws NotamException
+    {
+        return fetchAllNotams( queryParams, timeoutInSeconds, DEFAULT_PAGE_CONCURRENCY, parser );
+    }
+
+    /**
+     * Byte-oriented variant of {@link #fetchAllPages(QueryParamsBuilder, int, int)}
+     * that returns parsed NOTAMs instead of raw pages.
+     * <p>
+     * Page 1 is parsed straight from the HTTP body stream as it arrives; the
+     * remaining pages are received as UTF-8 bytes and parsed without being decoded
+     * into Strings. No page body is ever held as a String.
+     *
+     * @param queryParams The query parameters builder
+     * @param timeoutInSeconds Per-request timeout in seconds (-1 for the default)
+     * @param maxConcurrentPages Max pages of this query in flight at once
+     * @param parser parser used for every page
+     * @return the NOTAMs from every page, in page order
+     * @throws RateLimitException if any page request hit the FAA rate limit
+     */
+    public static List<Notam> fetchAllNotams( final QueryParamsBuilder queryParams,
+                                              final int timeoutInSeconds,
+                                              final int maxConcurrentPages,
+                                              final NotamParser parser )
+            throws NotamException
+    {
+        return fetchAllNotams( queryParams, FetchDeadline.none(), timeoutInSeconds, maxConcurrentPages, parser );
+    }
+
+    /**
+     * Fetches and parses every page of a query under a fetch deadline, using the
+     * default page concurrency.
+     *
+     * @see #fetchAllNotams(QueryParamsBuilder, FetchDeadline, int, int, NotamParser)
+     */
+    static List<Notam> fetchAllNotams( final QueryParamsBuilder queryParams,
+                                       final FetchDeadline deadline,
+                                       final int timeoutInSeconds,
+                                       final NotamParser parser )
+            throws NotamException
+    {
+        return fetchAllNotams( queryParams, deadline, timeoutInSeconds, DEFAULT_PAGE_CONCURRENCY, parser );
+    }
+
+    /**
+     * Variant of {@link #fetchAllNotams(QueryParamsBuilder, int, int, NotamParser)}
+     * bounded by a fetch deadline. Each page and each retry gets the smaller of
+     * {@code timeoutInSeconds} and the time left, and no request is sent once
+     * the deadline has passed or been cancelled.
+     *
+     * @throws NotamException if the deadline passed before every page was fetched
+     */
+    static List<Notam> fetchAllNotams( final QueryParamsBuilder queryParams,
+                                       final FetchDeadline deadline,
+                                       final int timeoutInSeconds,
+                                       final int maxConcurrentPages,
+                                       final NotamParser parser )
+            throws NotamException
+    {
+        return NOTAM_FLIGHTS.executeBlocking( FlightKey.of( queryParams, timeoutInSeconds ), deadline, shared -> {
             try {
-                thisPageRoot = mapper.readTree( nextResult );
+                final NotamParser.ParsedPage firstPage = fetchParsedPage( queryParams, shared, timeoutInSeconds, parser );
+                final List<Notam> notams = new ArrayList<>( firstPage.notams() );
+
+                if( firstPage.pageNum() + 1 == firstPage.totalPages() ) {
+                    notams.addAll( fetchParsedPage( queryParams.forPage( firstPage.totalPages() ),
+                            shared, timeoutInSeconds, parser ).notams() );
+                }
+                else if( firstPage.pageNum() < firstPage.totalPages() ) {
+                    await( fetchPagesAsync( queryParams, firstPage.pageNum() + 1, firstPage.totalPages(),
+                            maxConcurrentPages,
+                            page -> fetchParsedPageAsync( page, shared, timeoutInSeconds, parser ) ) )
+                            .forEach( page -> notams.addAll( page.notams() ) );
+                }
+
+                return Collections.unmodifiableList( notams );
+            }
+            catch( final NotamException e ) {
+                return parsePages( staleQueryOrThrow( queryParams, e ), parser );
+            }
+        } );
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchAllNotams(QueryParamsBuilder, int, NotamParser)}.
+     */
+    public static CompletableFuture<List<Notam>> fetchAllNotamsAsync( final QueryParamsBuilder queryParams,
+                                                                      final int timeoutInSeconds,
+                                                                      final NotamParser parser )
+    {
+        return fetchAllNotamsAsync( queryParams, timeoutInSeconds, DEFAULT_PAGE_CONCURRENCY, parser );
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchAllNotams(QueryParamsBuilder, int, int, NotamParser)}.
+     * Every page is received as UTF-8 bytes and parsed on arrival.
+     *
+     * @return a future completing with the NOTAMs from every page, in page order
+     */
+    public static CompletableFuture<List<Notam>> fetchAllNotamsAsync( final QueryParamsBuilder queryParams,
+                                                                      final int timeoutInSeconds,
+                                                                      final int maxConcurrentPages,
+                                                                      final NotamParser parser )
+    {
+        return fetchAllNotamsAsync( queryParams, FetchDeadline.none(), timeoutInSeconds, maxConcurrentPages, parser );
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchAllNotams(QueryParamsBuilder, FetchDeadline, int, NotamParser)}.
+     */
+    static CompletableFuture<List<Notam>> fetchAllNotamsAsync( final QueryParamsBuilder queryParams,
+                                                               final FetchDeadline deadline,
+                                                               final int timeoutInSeconds,
+                                                               final NotamParser parser )
+    {
+        return fetchAllNotamsAsync( queryParams, deadline, timeoutInSeconds, DEFAULT_PAGE_CONCURRENCY, parser );
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchAllNotams(QueryParamsBuilder, FetchDeadline, int, int, NotamParser)}.
+     * Cancelling the deadline fails the returned future at once. It also aborts
+     * the page requests in flight and fails the pages not yet started, unless
+     * another fetch is still waiting on the same query.
+     */
+    static CompletableFuture<List<Notam>> fetchAllNotamsAsync( final QueryParamsBuilder queryParams,
+                                                               final FetchDeadline deadline,
+                                                               final int timeoutInSeconds,
+                                                               final int maxConcurrentPages,
+                                                               final NotamParser parser )
+    {
+        return NOTAM_FLIGHTS.execute( FlightKey.of( queryParams, timeoutInSeconds ), deadline, shared -> fetchParsedPageAsync(
+                        queryParams, shared, timeoutInSeconds, parser )
+                .thenCompose( firstPage -> fetchPagesAsync( queryParams, firstPage.pageNum() + 1,
+                        firstPage.totalPages(), maxConcurrentPages,
+                        page -> fetchParsedPageAsync( page, shared, timeoutInSeconds, parser ) )
+                        .thenApply( rest -> {
+                            final List<Notam> notams = new ArrayList<>( firstPage.notams() );
+                            rest.forEach( page -> notams.addAll( page.notams() ) );
+                            return Collections.unmodifiableList( notams );
+                        } ) )
+                .exceptionallyCompose( error -> staleQueryOrFail( queryParams, error )
+                        .thenApply( pages -> parsePages( pages, parser ) ) ) );
+    }
+
+    /**
+     * Fetches one page and parses it directly from the response body stream.
+     * The connection permit is held until the body has been fully consumed.
+     */
+    private static NotamParser.ParsedPage fetchParsedPage( final QueryParamsBuilder queryParams,
+                                                           final FetchDeadline deadline,
+                                                           final int timeoutSeconds,
+                                                           final NotamParser parser )
+            throws NotamException
+    {
+        final byte[] cached = cachedPage( queryParams );
+        if( cached != null ) {
+            return parser.parsePage( cached );
+        }
+
+        final HttpRequest request = buildRequest( queryParams, timeoutSeconds );
+        if( diskCache == null ) {
+            return send( request, deadline, BodyHandlers.ofInputStream(), response -> {
+                try( final InputStream body = response.body() ) {
+                    checkStatus( response.statusCode(), request.uri(), () -> readErrorBody( body ) );
+                    return parser.parsePage( body );
+                }
+            } );
+        }
+
+        // The bytes are needed for the cache, so the body is buffered rather than streamed
+        final byte[] page = send( request, deadline, BodyHandlers.ofByteArray(), response -> {
+            checkStatus( response.statusCode(), request.uri(),
+                    () -> new String( response.body(), StandardCharsets.UTF_8 ) );
+            return response.body();
+        } );
+        storePage( queryParams, page );
+        return parser.parsePage( page );
+    }
+
+    /**
+     * Fetches one page as UTF-8 bytes and parses it once the body is complete.
+     * Bytes are used rather than a stream so no thread blocks reading the body.
+     */
+    private static CompletableFuture<NotamParser.ParsedPage> fetchParsedPageAsync(
+            final QueryParamsBuilder queryParams, final FetchDeadline deadline, final int timeoutSeconds,
+            final NotamParser parser )
+    {
+        final HttpRequest request;
+        try {
+            final byte[] cached = cachedPage( queryParams );
+            if( cached != null ) {
+                return CompletableFuture.completedFuture( parser.parsePage( cached ) );
             }
-            catch( final JsonProcessingException e ) {
-                logger.error( "Unable to process JSON response from API", e );
-                throw new NotamException( e );
+            request = buildRequest( queryParams, timeoutSeconds );
+        }
+        catch( final NotamException | RuntimeException e ) {
+            return CompletableFuture.failedFuture( e );
+        }
+
+        return sendAsync( request, deadline, BodyHandlers.ofByteArray() )
+                .thenApply( response -> {
+                    try {
+                        checkStatus( response.statusCode(), request.uri(),
+                                () -> new String( response.body(), StandardCharsets.UTF_8 ) );
+                    }
+                    catch( final NotamException e ) {
+                        throw new CompletionException( e );
+                    }
+                    logger.debug( "Successfully fetched NOTAM JSON response ({} bytes)", response.body().length );
+                    storePage( queryParams, response.body() );
+                    return response.body();
+                } )
+                .thenApply( parser::parsePage );
+    }
+
+    private static String readErrorBody( final InputStream body )
+    {
+        try {
+            return new String( body.readAllBytes(), StandardCharsets.UTF_8 );
+        }
+        catch( final IOException e ) {
+            return "<unreadable: " + e.getMessage() + ">";
+        }
+    }
+
+    /** Pagination metadata from the top of a FAA response page. */
+    private record PageInfo(int pageNum, int totalPages) {}
+
+    /**
+     * Key under which identical queries are coalesced: a copy of the query and
+     * the effective per-request timeout. Fetch deadlines are not part of it;
+     * they join the flight's shared deadline instead.
+     */
+    private record FlightKey(QueryParamsBuilder query, int timeoutSeconds)
+    {
+        static FlightKey of( final QueryParamsBuilder queryParams, final int timeoutSeconds )
+        {
+            return new FlightKey( queryParams.copy(), timeoutSeconds != -1 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS );
+        }
+    }
+
+    /**
+     * Reads pageNum and totalPages with a streaming parser, stopping as soon as
+     * both are known. The FAA API emits them ahead of the items array, so this
+     * touches only the first few tokens instead of building a tree for the page.
+     */
+    private static PageInfo readPageInfo( final String json )
+            throws NotamException
+    {
+        Integer pageNum = null;
+        Integer totalPages = null;
+        try( final JsonParser parser = JSON_FACTORY.createParser( json ) ) {
+            if( parser.nextToken() != JsonToken.START_OBJECT ) {
+                throw new NotamException( "FAA API response is not a JSON object" );
+            }
+            while( (pageNum == null || totalPages == null)
+                    && parser.nextToken() == JsonToken.FIELD_NAME ) {
+                final String field = parser.currentName();
+                parser.nextToken();
+                if( "pageNum".equals( field ) ) {
+                    pageNum = parser.getValueAsInt();
+                }
+                else if( "totalPages".equals( field ) ) {
+                    totalPages = parser.getValueAsInt();
+                }
+                else {
+                    parser.skipChildren();
+                }
             }
-            currentPage = thisPageRoot.get( "pageNum" ).asInt();
-            allPages.add( nextResult );
         }
+        catch( final IOException e ) {
+            logger.error( "Unable to process JSON response from API", e );
+            throw new NotamException( e );
+        }
+
+        if( pageNum == null || totalPages == null ) {
+            throw new NotamException( "FAA API response is missing pageNum/totalPages" );
+        }
+        return new PageInfo( pageNum, totalPages );
+    }
 
-        return allPages;
+    private static PageInfo readPageInfoUnchecked( final String json )
+    {
+        try {
+            return readPageInfo( json );
+        }
+        catch( final NotamException e ) {
+            throw new CompletionException( e );
+        }
+    }
+
+    /**
+     * Strips {@link CompletionException} / {@link ExecutionException} wrappers
+     * added by {@link CompletableFuture} stages.
+     *
+     * @param error the throwable seen by a dependent stage
+     * @return the underlying cause
+     */
+    public static Throwable unwrap( final Throwable error )
+    {
+        Throwable cause = error;
+        while( (cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null ) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static Exception asException( final Throwable t )
+    {
+        return t instanceof Exception e ? e : new RuntimeException( t );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package ou.capstone.notams.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Client-side rate limiting and 429 retry settings for FAA API requests.
+ * <p>
+ * {@link FaaNotamApiWrapper} keeps one token bucket built from these settings
+ * that every request in the process draws from, so a route fan-out stays under
+ * the FAA limit instead of tripping it. When the API still answers 429, the
+ * request is retried after the larger of the server's {@code Retry-After} and
+ * a jittered exponential backoff.
+ */
+public record FaaRateLimitSettings(
+    /**
+     * Steady-state requests per second across all threads.
+     */
+    double permitsPerSecond,
+
+    /**
+     * Requests that may be sent back-to-back after an idle period.
+     */
+    int burst,
+
+    /**
+     * Retries after an HTTP 429 before giving up with a RateLimitException.
+     * Zero disables retrying.
+     */
+    int maxRetries,
+
+    /**
+     * Backoff before the first retry; doubled for each further retry.
+     */
+    Duration initialBackoff,
+
+    /**
+     * Upper bound on the backoff between retries. A 429 whose Retry-After is
+     * longer than this is not retried.
+     */
+    Duration maxBackoff
+) {
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    public FaaRateLimitSettings {
+        Objects.requireNonNull(initialBackoff, "initialBackoff is required");
+        Objects.requireNonNull(maxBackoff, "maxBackoff is required");
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive, got: " + permitsPerSecond);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive, got: " + burst);
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative, got: " + maxRetries);
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must satisfy 0 <= initialBackoff <= maxBackoff, got: "
+                    + initialBackoff + ", " + maxBackoff);
+        }
+    }
+
+    /**
+     * Creates the default settings: 5 requests per second with a burst of 10 and
+     * up to 4 retries backing off from 1 to 30 seconds. Rate and burst can be
+     * overridden with NOTAM_RATE_LIMIT_PER_SECOND and NOTAM_RATE_LIMIT_BURST, and
+     * retries with NOTAM_RATE_LIMIT_MAX_RETRIES.
+     */
+    public static FaaRateLimitSettings defaults() {
+        return new FaaRateLimitSettings(
+                Double.parseDouble(System.getenv().getOrDefault("NOTAM_RATE_LIMIT_PER_SECOND", "5")),
+                Integer.parseInt(System.getenv().getOrDefault("NOTAM_RATE_LIMIT_BURST", "10")),
+                Integer.parseInt(System.getenv().getOrDefault("NOTAM_RATE_LIMIT_MAX_RETRIES", "4")),
+                DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * Backoff ceiling before retry number {@code retry} (0-based), before jitter.
+     */
+    public Duration backoff(final int retry) {
+        final int shift = Math.min(retry, 30);
+        final Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 || delay.isNegative() ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,256 @@
+package ou.capstone.notams.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Point in time by which a whole route fetch must finish.
+ * <p>
+ * Each HTTP request, page and retry started under the deadline gets a timeout
+ * of whatever budget remains when it is sent (rounded up to whole seconds,
+ * since that is the granularity of the FAA wrapper), capped at the normal
+ * per-request timeout. Nothing is started once the deadline has passed.
+ * <p>
+ * A route fetch that gives up calls {@link #cancel()}, which aborts the HTTP
+ * exchanges {@linkplain #track(CompletableFuture) tracked} under the deadline
+ * and makes it count as expired, so queued work does not start either.
+ * The shared deadline from {@link #none()} never expires and cannot be
+ * cancelled; each route fetch uses its own instance. A {@linkplain #fork()
+ * fork} lets one request be cancelled without the rest of the fetch, and a
+ * {@linkplain #shared() shared} deadline runs work that several fetches wait
+ * on, such as one coalesced query, for as long as any of them still needs it.
+ */
+final class FetchDeadline {
+
+    private static final FetchDeadline NONE = new FetchDeadline(Long.MAX_VALUE, System::nanoTime, false, null, null);
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoTime;
+    private final boolean bounded;
+    // Deadline this one was forked from, whose timing it follows; or null
+    private final FetchDeadline parent;
+    // Deadlines of the fetches that joined a shared deadline, whose timing it follows; or null
+    private final List<FetchDeadline> members;
+
+    // HTTP exchanges in flight under this deadline, aborted by cancel()
+    private final Set<CompletableFuture<?>> exchanges = ConcurrentHashMap.newKeySet();
+    // Run by cancel()
+    private final List<Runnable> cancelActions = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+    // Members of a shared deadline that have not left; guarded by this
+    private int activeMembers;
+
+    private FetchDeadline(final long deadlineNanos, final LongSupplier nanoTime, final boolean bounded,
+                          final FetchDeadline parent, final List<FetchDeadline> members) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoTime = nanoTime;
+        this.bounded = bounded;
+        this.parent = parent;
+        this.members = members;
+    }
+
+    /** The shared deadline that never expires, for callers that never cancel. */
+    static FetchDeadline none() {
+        return NONE;
+    }
+
+    /** A deadline that never expires but can be cancelled on its own. */
+    static FetchDeadline unbounded() {
+        return new FetchDeadline(Long.MAX_VALUE, System::nanoTime, false, null, null);
+    }
+
+    /**
+     * A deadline for work that several fetches wait on. It lasts as long as the
+     * longest of the deadlines that {@linkplain #join(FetchDeadline) joined} it,
+     * and is cancelled once every one of them has {@linkplain #leave() left}.
+     * It counts as expired until the first one joins.
+     */
+    static FetchDeadline shared() {
+        return new FetchDeadline(Long.MAX_VALUE, System::nanoTime, false, null, new CopyOnWriteArrayList<>());
+    }
+
+    /**
+     * A deadline expiring with this one that can also be cancelled on its own.
+     * Cancelling this deadline cancels the fork's exchanges too, but not the
+     * other way round.
+     */
+    FetchDeadline fork() {
+        return new FetchDeadline(Long.MAX_VALUE, nanoTime, false, this, null);
+    }
+
+    /** A deadline {@code budget} from now. */
+    static FetchDeadline after(final Duration budget) {
+        return after(budget, System::nanoTime);
+    }
+
+    /**
+     * A deadline {@code budget} from now according to {@code nanoTime}.
+     *
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    static FetchDeadline after(final Duration budget, final LongSupplier nanoTime) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("budget must be positive, got: " + budget);
+        }
+        return new FetchDeadline(nanoTime.getAsLong() + budget.toNanos(), nanoTime, true, null, null);
+    }
+
+    /**
+     * Adds a fetch's deadline to a {@linkplain #shared() shared} deadline, which
+     * then lasts at least as long. The fetch must {@link #leave()} if it stops
+     * waiting before the shared work is done.
+     *
+     * @return false, adding nothing, if every earlier member has already left
+     */
+    boolean join(final FetchDeadline member) {
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            members.add(member);
+            activeMembers++;
+        }
+        return true;
+    }
+
+    /**
+     * Withdraws one member of a {@linkplain #shared() shared} deadline; the last
+     * one to leave cancels it.
+     */
+    void leave() {
+        synchronized (this) {
+            if (--activeMembers > 0) {
+                return;
+            }
+            // Set under the lock so no fetch joins work that is about to be cancelled
+            cancelled = true;
+        }
+        cancel();
+    }
+
+    /** Runs {@code action} when this deadline is cancelled, or now if it already is. */
+    void onCancel(final Runnable action) {
+        if (this == NONE) {
+            return;
+        }
+        cancelActions.add(action);
+        if (cancelled && cancelActions.remove(action)) {
+            action.run();
+        }
+    }
+
+    /** Whether this deadline can expire at all. */
+    boolean isBounded() {
+        if (parent != null) {
+            return parent.isBounded();
+        }
+        if (members != null) {
+            for (final FetchDeadline member : members) {
+                if (!member.isBounded()) {
+                    return false;
+                }
+            }
+        }
+        return bounded || members != null;
+    }
+
+    /** Nanoseconds left before the deadline, never negative. */
+    long remainingNanos() {
+        if (parent != null) {
+            return parent.remainingNanos();
+        }
+        if (members != null) {
+            long remaining = 0L;
+            for (final FetchDeadline member : members) {
+                if (!member.isExpired()) {
+                    remaining = Math.max(remaining, member.remainingNanos());
+                }
+            }
+            return remaining;
+        }
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, deadlineNanos - nanoTime.getAsLong());
+    }
+
+    /** Whether the budget is spent or the deadline was cancelled. */
+    boolean isExpired() {
+        if (cancelled) {
+            return true;
+        }
+        if (parent != null) {
+            return parent.isExpired();
+        }
+        if (members != null) {
+            for (final FetchDeadline member : members) {
+                if (!member.isExpired()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return bounded && remainingNanos() == 0L;
+    }
+
+    /**
+     * Registers an HTTP exchange so that {@link #cancel()} can abort it. An
+     * exchange registered after cancellation is cancelled at once.
+     *
+     * @return {@code exchange}
+     */
+    <T> CompletableFuture<T> track(final CompletableFuture<T> exchange) {
+        if (this == NONE) {
+            return exchange;
+        }
+        if (parent != null) {
+            parent.track(exchange);
+        }
+        exchanges.add(exchange);
+        exchange.whenComplete((value, error) -> exchanges.remove(exchange));
+        if (cancelled) {
+            exchange.cancel(true);
+        }
+        return exchange;
+    }
+
+    /**
+     * Expires the deadline now, cancels every tracked exchange still in flight
+     * and runs the {@linkplain #onCancel(Runnable) cancel actions}.
+     *
+     * @throws UnsupportedOperationException for the shared {@link #none()} deadline
+     */
+    void cancel() {
+        if (this == NONE) {
+            throw new UnsupportedOperationException("The shared unbounded deadline cannot be cancelled");
+        }
+        cancelled = true;
+        for (final CompletableFuture<?> exchange : exchanges) {
+            exchange.cancel(true);
+        }
+        for (final Runnable action : cancelActions) {
+            if (cancelActions.remove(action)) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Timeout to give a request starting now: the remaining budget rounded up
+     * to whole seconds, at least 1 and at most {@code capSeconds}.
+     */
+    int requestTimeoutSeconds(final int capSeconds) {
+        if (!isBounded()) {
+            return capSeconds;
+        }
+        final long remainingSeconds = (remainingNanos() + TimeUnit.SECONDS.toNanos(1) - 1)
+                / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.max(1L, Math.min(capSeconds, remainingSeconds));
+    }
+}
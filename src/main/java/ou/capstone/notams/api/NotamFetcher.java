@@ -1,20 +1,28 @@
 package ou.capstone.notams.api;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ou.capstone.notams.Notam;
 import ou.capstone.notams.route.Coordinate;
-import ou.capstone.notams.route.RouteCalculator;
+import ou.capstone.notams.route.RouteCoveragePlanner;
 import ou.capstone.notams.validation.AirportDirectory;
 import ou.capstone.notams.exceptions.RateLimitException;
 
@@ -26,55 +34,272 @@ import ou.capstone.notams.exceptions.RateLimitException;
  * CCS-61: Added lightweight profiling logs to identify where time is spent.
  * 
  * CCS-51: Refactor to integrate reusable API utility and parsing layer.
+ *
+ * Route fan-out uses the non-blocking {@link FaaNotamApiWrapper#fetchAllNotamsAsync}
+ * API, so concurrency is bounded by the shared HTTP client's per-host connection
+ * cap rather than by a thread pool.
+ *
+ * Coordinate queries go through a process-wide {@link NotamTileCache}, so a
+ * waypoint in a tile fetched recently (by this or another route) is served
+ * without calling the FAA API. Queries that do reach the API are throttled by a
+ * process-wide {@link AdaptiveConcurrencyLimiter}.
+ *
+ * Alternatively, {@link ExecutionMode#VIRTUAL_THREADS} runs each waypoint's blocking
+ * fetch on its own virtual thread, bounded by a semaphore. The fetcher owns that
+ * executor, so close it (try-with-resources) when done.
+ *
+ * Route fetches can be given an overall time budget. Requests started under it
+ * get a timeout of at most the remaining budget, and when it expires the route
+ * returns whatever waypoints completed along with a {@link RouteCoverageReport}
+ * naming the ones that did not.
  */
 
-public class NotamFetcher {
+public class NotamFetcher implements AutoCloseable {
+
+    /**
+     * How route fan-out runs the per-waypoint fetches.
+     */
+    public enum ExecutionMode {
+        /** Non-blocking HTTP via CompletableFuture; no threads are held while waiting. */
+        ASYNC,
+        /** One virtual thread per waypoint running the blocking fetch. */
+        VIRTUAL_THREADS
+    }
 
     private static final Logger logger = LoggerFactory.getLogger(NotamFetcher.class);
 
     private final AirportDirectory airportDirectory;
-    
- // Thread pool for parallel calls
-    private final ExecutorService executor =
-            Executors.newFixedThreadPool(
-                    Integer.parseInt(System.getenv().getOrDefault("NOTAM_FETCH_THREADS", "8"))
-            );
-    
+
+    private final ExecutionMode executionMode;
+
+    // Only used in VIRTUAL_THREADS mode
+    private final ExecutorService executor;
+    private final Semaphore concurrencyLimit;
+
     // Radius in nautical miles for location queries
     private static final int QUERY_RADIUS_NM = 50;
 
-    // Spacing between waypoints along route
-    private static final double WAYPOINT_SPACING_NM = 50.0;
+    // Spacing of the fixed waypoints routes were queried at before coverage planning
+    private static final double FIXED_WAYPOINT_SPACING_NM = 50.0;
+
+    // Half-width of the corridor around the route that query circles must cover. Defaults to what
+    // the fixed waypoints guaranteed (about 43.3 NM); a narrower NOTAM_CORRIDOR_HALF_WIDTH_NM saves queries
+    private static final double CORRIDOR_HALF_WIDTH_NM =
+            Double.parseDouble(System.getenv().getOrDefault("NOTAM_CORRIDOR_HALF_WIDTH_NM", String.valueOf(
+                    RouteCoveragePlanner.halfWidthForSpacing(QUERY_RADIUS_NM, FIXED_WAYPOINT_SPACING_NM))));
 
     // HTTP per-request timeout (seconds), configurable for experimentation
     private static final int HTTP_TIMEOUT_SECONDS =
             Integer.parseInt(System.getenv().getOrDefault("NOTAM_HTTP_TIMEOUT_SECONDS", "30"));
 
+    // Overall time budget for a route fetch (seconds); 0 means no budget
+    private static final int ROUTE_BUDGET_SECONDS =
+            Integer.parseInt(System.getenv().getOrDefault("NOTAM_ROUTE_BUDGET_SECONDS", "0"));
+
     // Toggleable via JVM property: -DVISUALIZE_ROUTE=true
     private static final boolean VISUALIZE_ROUTE = Boolean.getBoolean("VISUALIZE_ROUTE");
 
+    // Execution mode for route fan-out: "async" or "virtual"
+    private static final ExecutionMode DEFAULT_EXECUTION_MODE =
+            "virtual".equalsIgnoreCase(System.getenv().getOrDefault("NOTAM_FETCH_MODE", "async"))
+                    ? ExecutionMode.VIRTUAL_THREADS
+                    : ExecutionMode.ASYNC;
+
+    // Max waypoint fetches in flight at once in VIRTUAL_THREADS mode
+    private static final int DEFAULT_MAX_CONCURRENT_FETCHES =
+            Integer.parseInt(System.getenv().getOrDefault("NOTAM_FETCH_CONCURRENCY", "32"));
+
     private static final NotamParser parser = new NotamParser();
 
+    // Shared across fetchers so overlapping routes reuse each other's queries
+    private static final NotamTileCache tileCache = NotamTileCache.fromEnvironment();
+
+    // Adapts how many FAA queries run at once to the latency and 429s observed
+    private static final AdaptiveConcurrencyLimiter concurrencyLimiter = AdaptiveConcurrencyLimiter.fromEnvironment();
+
     /**
-     * Constructs a NotamFetcher.
+     * Constructs a NotamFetcher using the execution mode from NOTAM_FETCH_MODE.
      * Credential validation is handled by ConnectToAPI when making API calls.
      */
     public NotamFetcher() {
+        this(DEFAULT_EXECUTION_MODE, DEFAULT_MAX_CONCURRENT_FETCHES);
+    }
+
+    /**
+     * Constructs a NotamFetcher with an explicit execution mode.
+     *
+     * @param executionMode how route fan-out runs
+     * @param maxConcurrentFetches max waypoint fetches in flight at once (VIRTUAL_THREADS mode)
+     */
+    public NotamFetcher(final ExecutionMode executionMode, final int maxConcurrentFetches) {
+        if (maxConcurrentFetches <= 0) {
+            throw new IllegalArgumentException("maxConcurrentFetches must be positive, got: " + maxConcurrentFetches);
+        }
         this.airportDirectory = new AirportDirectory();
+        this.executionMode = executionMode;
+        if (executionMode == ExecutionMode.VIRTUAL_THREADS) {
+            this.executor = Executors.newVirtualThreadPerTaskExecutor();
+            this.concurrencyLimit = new Semaphore(maxConcurrentFetches);
+        } else {
+            this.executor = null;
+            this.concurrencyLimit = null;
+        }
     }
 
     /**
      * Fetch list of NOTAMs for a flight route between two airports.
-     * Queries along the great-circle route using waypoints.
+     * Queries along the great-circle route at the fewest waypoints whose query
+     * circles cover a corridor of CORRIDOR_HALF_WIDTH_NM either side of the track.
+     * Bounded by NOTAM_ROUTE_BUDGET_SECONDS when that is set; waypoints still
+     * running when it expires are left out.
      *
      * @param departureCode IATA or ICAO code of the departure airport
      * @param destinationCode IATA or ICAO code of the destination airport
      */
     public List<Notam> fetchForRoute(String departureCode, String destinationCode)
             throws Exception {
+        return fetchRoute(departureCode, destinationCode, defaultDeadline()).notams();
+    }
+
+    /**
+     * Fetches a route's NOTAMs within an overall time budget. Each HTTP request
+     * is given at most the budget that remains when it starts, and waypoints
+     * still running when the budget expires are cancelled. The result holds
+     * whatever completed in time plus a report of the waypoints that are missing.
+     *
+     * @param departureCode IATA or ICAO code of the departure airport
+     * @param destinationCode IATA or ICAO code of the destination airport
+     * @param budget total time allowed for the fetch
+     * @throws RateLimitException if any waypoint hit the FAA rate limit
+     */
+    public RouteResult fetchForRoute(String departureCode, String destinationCode, Duration budget)
+            throws Exception {
+        return fetchRoute(departureCode, destinationCode, FetchDeadline.after(budget));
+    }
+
+    /**
+     * Streaming variant of {@link #fetchForRoute(String, String)}: each waypoint's
+     * NOTAMs are handed to {@code onWaypointNotams} as soon as that waypoint's
+     * fetch completes, in completion order, so downstream work (dedup, ranking)
+     * can start before the slowest waypoint finishes. Calls to the consumer are
+     * serialized, so it need not be thread-safe. Returns once every waypoint has
+     * been delivered or skipped.
+     *
+     * @param departureCode IATA or ICAO code of the departure airport
+     * @param destinationCode IATA or ICAO code of the destination airport
+     * @param onWaypointNotams receives the NOTAMs of each completed waypoint
+     * @return which waypoints were covered
+     * @throws RateLimitException if any waypoint hit the FAA rate limit
+     */
+    public RouteCoverageReport fetchForRoute(String departureCode, String destinationCode,
+                                             Consumer<List<Notam>> onWaypointNotams)
+            throws Exception {
+        return streamRoute(departureCode, destinationCode, defaultDeadline(), onWaypointNotams);
+    }
+
+    /**
+     * Streaming variant of {@link #fetchForRoute(String, String, Duration)}. The
+     * consumer is never called after this method returns, even for waypoints
+     * that complete after the budget expired.
+     *
+     * @param departureCode IATA or ICAO code of the departure airport
+     * @param destinationCode IATA or ICAO code of the destination airport
+     * @param budget total time allowed for the fetch
+     * @param onWaypointNotams receives the NOTAMs of each completed waypoint
+     * @return which waypoints were covered
+     * @throws RateLimitException if any waypoint hit the FAA rate limit
+     */
+    public RouteCoverageReport fetchForRoute(String departureCode, String destinationCode, Duration budget,
+                                             Consumer<List<Notam>> onWaypointNotams)
+            throws Exception {
+        return streamRoute(departureCode, destinationCode, FetchDeadline.after(budget), onWaypointNotams);
+    }
+
+    /**
+     * NOTAMs of a budgeted route fetch and which waypoints they cover.
+     */
+    public record RouteResult(List<Notam> notams, RouteCoverageReport coverage) { }
+
+    private RouteResult fetchRoute(final String departureCode, final String destinationCode,
+                                   final FetchDeadline deadline) throws Exception {
 
         final long overallStart = System.currentTimeMillis();
 
+        final RouteFetch routeFetch = startRouteFetch(departureCode, destinationCode, deadline, null);
+        final List<Notam> notams = new ArrayList<>();
+        final RouteCoverageReport coverage = awaitRouteFetch(routeFetch, notams::addAll);
+
+        final long overallEnd = System.currentTimeMillis();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Total fetchForRoute() time: {} ms", (overallEnd - overallStart));
+            logger.debug("Tile cache: {}", tileCache.stats());
+            logger.debug("Adaptive concurrency: {}", concurrencyLimiter.metrics());
+            logger.debug("Request hedging: {}", FaaNotamApiWrapper.hedgeMetrics());
+        }
+
+        return new RouteResult(notams, coverage);
+    }
+
+    private RouteCoverageReport streamRoute(final String departureCode, final String destinationCode,
+                                            final FetchDeadline deadline,
+                                            final Consumer<List<Notam>> onWaypointNotams) throws Exception {
+
+        final long overallStart = System.currentTimeMillis();
+
+        final RouteFetch routeFetch = startRouteFetch(departureCode, destinationCode, deadline, onWaypointNotams);
+        final RouteCoverageReport coverage = awaitRouteFetch(routeFetch, waypointNotams -> { });
+
+        final long overallEnd = System.currentTimeMillis();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Total streaming fetchForRoute() time: {} ms", (overallEnd - overallStart));
+            logger.debug("Tile cache: {}", tileCache.stats());
+            logger.debug("Adaptive concurrency: {}", concurrencyLimiter.metrics());
+            logger.debug("Request hedging: {}", FaaNotamApiWrapper.hedgeMetrics());
+        }
+
+        return coverage;
+    }
+
+    private static FetchDeadline defaultDeadline() {
+        return ROUTE_BUDGET_SECONDS > 0
+                ? FetchDeadline.after(Duration.ofSeconds(ROUTE_BUDGET_SECONDS))
+                : FetchDeadline.unbounded();
+    }
+
+    private enum WaypointStatus { PENDING, COMPLETED, FAILED }
+
+    /**
+     * State of one route fetch. {@code status} and {@code abandoned} are guarded
+     * by {@code lock}; once abandoned, late waypoints are neither delivered nor
+     * counted as covered.
+     */
+    private static final class RouteFetch {
+        final List<Coordinate> waypoints;
+        final FetchDeadline deadline;
+        final long fetchStart;
+        final List<CompletableFuture<List<Notam>>> sources = new ArrayList<>();
+        final List<CompletableFuture<List<Notam>>> futures = new ArrayList<>();
+        final WaypointStatus[] status;
+        final Object lock = new Object();
+        volatile boolean abandoned;
+
+        RouteFetch(final List<Coordinate> waypoints, final FetchDeadline deadline, final long fetchStart) {
+            this.waypoints = waypoints;
+            this.deadline = deadline;
+            this.fetchStart = fetchStart;
+            this.status = new WaypointStatus[waypoints.size()];
+            Arrays.fill(status, WaypointStatus.PENDING);
+        }
+    }
+
+    /**
+     * Plans the route and starts every waypoint fetch. Failed waypoints other than
+     * rate limiting are logged and yield an empty list.
+     *
+     * @param onArrival if not null, receives each waypoint's NOTAMs as they complete
+     */
+    private RouteFetch startRouteFetch(final String departureCode, final String destinationCode,
+                                       final FetchDeadline deadline, final Consumer<List<Notam>> onArrival) {
         // Airport lookup
         final long airportStart = System.currentTimeMillis();
         final Coordinate depCoords = getAirportCoordinates(departureCode);
@@ -87,16 +312,15 @@ public class NotamFetcher {
 
         // Waypoint calculation
         final long waypointStart = System.currentTimeMillis();
-        List<Coordinate> waypoints = RouteCalculator.getRouteWaypoints(
+        List<Coordinate> waypoints = RouteCoveragePlanner.planCoverage(
                 depCoords.getLatitude(), depCoords.getLongitude(),
                 destCoords.getLatitude(), destCoords.getLongitude(),
-                WAYPOINT_SPACING_NM
+                QUERY_RADIUS_NM, CORRIDOR_HALF_WIDTH_NM
         );
         final long waypointEnd = System.currentTimeMillis();
         if (logger.isDebugEnabled()) {
-            final double approxPathLengthNm = Math.max(0, (waypoints.size() - 1) * WAYPOINT_SPACING_NM);
-            logger.debug("Waypoint calculation took {} ms ({} waypoints, spacing {} nm, approx length ~{} nm)",
-                    (waypointEnd - waypointStart), waypoints.size(), WAYPOINT_SPACING_NM, Math.round(approxPathLengthNm));
+            logger.debug("Waypoint calculation took {} ms ({} waypoints, radius {} nm, corridor half-width {} nm)",
+                    (waypointEnd - waypointStart), waypoints.size(), QUERY_RADIUS_NM, CORRIDOR_HALF_WIDTH_NM);
         }
 
         // Google Maps visualization toggleable via system properties
@@ -108,55 +332,117 @@ public class NotamFetcher {
         }
 
         // Fetch NOTAMs
-        final long fetchStart = System.currentTimeMillis();
-
-        final List<CompletableFuture<List<Notam>>> futures = new ArrayList<>();
-        int idx = 1;
+        final RouteFetch routeFetch = new RouteFetch(waypoints, deadline, System.currentTimeMillis());
+
+        for (int i = 0; i < waypoints.size(); i++) {
+            final int thisIndex = i;
+            final Coordinate waypoint = waypoints.get(i);
+            final long singleFetchStart = System.currentTimeMillis();
+            final CompletableFuture<List<Notam>> source = fetchWaypoint(waypoint, deadline);
+            routeFetch.sources.add(source);
+            routeFetch.futures.add(
+                source
+                    .handle((waypointNotams, error) -> {
+                        if (routeFetch.abandoned) {
+                            // Arrived after the budget expired; reported as timed out
+                            return Collections.<Notam>emptyList();
+                        }
+                        if (error != null) {
+                            final Throwable cause = FaaNotamApiWrapper.unwrap(error);
+                            if (cause instanceof RateLimitException) {
+                                markFailed(routeFetch, thisIndex);
+                                // RateLimitException so caller can handle it
+                                throw new CompletionException(cause);
+                            }
+                            logger.warn("Skipping waypoint ({}, {}) due to error: {}",
+                                    waypoint.getLatitude(), waypoint.getLongitude(), cause.getMessage());
+                            if (logger.isDebugEnabled()) {
+                                logger.debug("Stack trace for failed waypoint:", cause);
+                            }
+                            waypointNotams = Collections.emptyList();
+                        }
 
-        for (Coordinate waypoint : waypoints) {
-            final int thisIndex = idx++;
-            futures.add(
-                CompletableFuture.supplyAsync(() -> {
-                    final long singleFetchStart = System.currentTimeMillis();
-                    List<Notam> waypointNotams = Collections.emptyList();
-
-                    try {
-                        waypointNotams = fetchForLocation(
-                                waypoint.getLatitude(),
-                                waypoint.getLongitude(),
-                                QUERY_RADIUS_NM
-                        );
-                    } catch (RateLimitException e) {
-                        // RateLimitException so caller can handle it
-                        throw new CompletionException(e);
-                    } catch (Exception e) {
-                        logger.warn("Skipping waypoint ({}, {}) due to error: {}",
-                                waypoint.getLatitude(), waypoint.getLongitude(), e.getMessage());
+                        final long singleFetchEnd = System.currentTimeMillis();
                         if (logger.isDebugEnabled()) {
-                            logger.debug("Stack trace for failed waypoint:", e);
+                            logger.debug("Fetch {}/{} at ({}, {}) took {} ms ({} NOTAMs) [thread={}]",
+                                    thisIndex + 1, waypoints.size(),
+                                    waypoint.getLatitude(), waypoint.getLongitude(),
+                                    (singleFetchEnd - singleFetchStart), waypointNotams.size(),
+                                    Thread.currentThread().getName());
                         }
-                    }
 
-                    final long singleFetchEnd = System.currentTimeMillis();
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Fetch {}/{} at ({}, {}) took {} ms ({} NOTAMs) [thread={}]",
-                                thisIndex, waypoints.size(),
-                                waypoint.getLatitude(), waypoint.getLongitude(),
-                                (singleFetchEnd - singleFetchStart), waypointNotams.size(),
-                                Thread.currentThread().getName());
-                    }
+                        synchronized (routeFetch.lock) {
+                            if (routeFetch.abandoned) {
+                                return Collections.<Notam>emptyList();
+                            }
+                            routeFetch.status[thisIndex] = error == null
+                                    ? WaypointStatus.COMPLETED
+                                    : WaypointStatus.FAILED;
+                            if (onArrival != null && !waypointNotams.isEmpty()) {
+                                onArrival.accept(waypointNotams);
+                            }
+                        }
 
-                    return waypointNotams;
-                }, executor)
+                        return waypointNotams;
+                    })
             );
         }
 
-        final List<Notam> notams = new ArrayList<>();
+        return routeFetch;
+    }
+
+    private static void markFailed(final RouteFetch routeFetch, final int index) {
+        synchronized (routeFetch.lock) {
+            if (!routeFetch.abandoned) {
+                routeFetch.status[index] = WaypointStatus.FAILED;
+            }
+        }
+    }
+
+    /**
+     * Waits for the waypoints of a route fetch until all have finished or the
+     * deadline expires, then passes each finished result to {@code inOrder} in
+     * waypoint order. Waypoints still running at the deadline are cancelled.
+     *
+     * @return which waypoints were covered
+     * @throws RateLimitException if any waypoint hit the FAA rate limit
+     */
+    private static RouteCoverageReport awaitRouteFetch(final RouteFetch routeFetch,
+                                                       final Consumer<List<Notam>> inOrder)
+            throws RateLimitException, InterruptedException {
+        final CompletableFuture<Void> all =
+                CompletableFuture.allOf(routeFetch.futures.toArray(new CompletableFuture<?>[0]));
+        try {
+            if (routeFetch.deadline.isBounded()) {
+                all.get(routeFetch.deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            } else {
+                all.join();
+            }
+        } catch (final TimeoutException | ExecutionException | CompletionException e) {
+            // Timed-out and failed waypoints are sorted out below
+        } catch (final InterruptedException e) {
+            abandon(routeFetch);
+            throw e;
+        }
+
+        // Freeze which waypoints made it; anything still pending is abandoned
+        final WaypointStatus[] status = abandon(routeFetch);
+
+        final List<Coordinate> timedOut = new ArrayList<>();
+        final List<Coordinate> failed = new ArrayList<>();
         RateLimitException rateLimitException = null;
 
-        for (CompletableFuture<List<Notam>> f : futures) {
+        for (int i = 0; i < routeFetch.futures.size(); i++) {
+            final Coordinate waypoint = routeFetch.waypoints.get(i);
+            if (status[i] == WaypointStatus.PENDING) {
+                timedOut.add(waypoint);
+                continue;
+            }
+            if (status[i] == WaypointStatus.FAILED) {
+                failed.add(waypoint);
+            }
             try {
-                notams.addAll(f.join());
+                inOrder.accept(routeFetch.futures.get(i).join());
             } catch (CompletionException ce) {
                 final Throwable cause = ce.getCause();
                 if (cause instanceof RateLimitException re) {
@@ -179,17 +465,83 @@ public class NotamFetcher {
         }
 
         final long fetchEnd = System.currentTimeMillis();
-        final long totalFetchTime = fetchEnd - fetchStart;
+        final long totalFetchTime = fetchEnd - routeFetch.fetchStart;
         if (logger.isDebugEnabled()) {
             logger.debug("Total API response time across all waypoints: {} ms", totalFetchTime);
         }
 
-        final long overallEnd = System.currentTimeMillis();
-        if (logger.isDebugEnabled()) {
-            logger.debug("Total fetchForRoute() time: {} ms", (overallEnd - overallStart));
+        final RouteCoverageReport coverage = new RouteCoverageReport(routeFetch.waypoints, timedOut, failed,
+                Duration.ofMillis(totalFetchTime));
+        if (!timedOut.isEmpty()) {
+            logger.warn("Route time budget expired: {}", coverage);
+        }
+        return coverage;
+    }
+
+    /**
+     * Stops delivery for a route fetch and cancels the waypoints still running,
+     * along with the HTTP requests they have in flight.
+     *
+     * @return the final status of every waypoint
+     */
+    private static WaypointStatus[] abandon(final RouteFetch routeFetch) {
+        final WaypointStatus[] status;
+        synchronized (routeFetch.lock) {
+            routeFetch.abandoned = true;
+            status = routeFetch.status.clone();
         }
+        for (int i = 0; i < status.length; i++) {
+            if (status[i] == WaypointStatus.PENDING) {
+                routeFetch.sources.get(i).cancel(true);
+            }
+        }
+        routeFetch.deadline.cancel();
+        return status;
+    }
+
+    /**
+     * Starts the fetch for one waypoint using the configured execution mode.
+     * Cancelling the returned future in VIRTUAL_THREADS mode interrupts the
+     * thread running the fetch.
+     */
+    private CompletableFuture<List<Notam>> fetchWaypoint(final Coordinate waypoint, final FetchDeadline deadline) {
+        if (executionMode == ExecutionMode.ASYNC) {
+            return fetchForLocationAsync(waypoint.getLatitude(), waypoint.getLongitude(), QUERY_RADIUS_NM, deadline);
+        }
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("NotamFetcher has been closed");
+        }
+        final CompletableFuture<List<Notam>> result = new CompletableFuture<>();
+        final Future<?> task = executor.submit(() -> {
+            try {
+                concurrencyLimit.acquire();
+                try {
+                    result.complete(fetchForLocation(waypoint.getLatitude(), waypoint.getLongitude(),
+                            QUERY_RADIUS_NM, deadline));
+                } finally {
+                    concurrencyLimit.release();
+                }
+            } catch (final Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((notams, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
 
-        return notams;
+    /**
+     * Shuts down the virtual-thread executor, waiting for fetches already
+     * started to finish. A no-op in ASYNC mode.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.close();
+        }
     }
 
     /**
@@ -219,6 +571,8 @@ public class NotamFetcher {
      * Fetches NOTAMs (Notice to Airmen) for a specified geographic location and radius.
      * Uses ConnectToAPI utility class to eliminate duplicate HTTP client code.
      * The response is returned in GeoJSON format.
+     * Results come from the tile cache when the location's tile was fetched recently;
+     * the returned NOTAMs may then extend slightly beyond {@code radiusNm}.
      *
      * @param latitude   the latitude of the location to fetch NOTAMs for
      * @param longitude  the longitude of the location to fetch NOTAMs for
@@ -228,16 +582,36 @@ public class NotamFetcher {
      */
     public List<Notam> fetchForLocation(double latitude, double longitude, int radiusNm)
             throws Exception {
+        return fetchForLocation(latitude, longitude, radiusNm, FetchDeadline.none());
+    }
+
+    private List<Notam> fetchForLocation(final double latitude, final double longitude, final int radiusNm,
+                                         final FetchDeadline deadline) throws Exception {
 
         final long t0 = System.currentTimeMillis();
 
-        final FaaNotamApiWrapper.QueryParamsBuilder queryParams = new FaaNotamApiWrapper.QueryParamsBuilder(latitude, longitude, radiusNm)
-                .pageSize(200);
+        final NotamTileCache.Tile tile = tileCache.tileFor(latitude, longitude, radiusNm);
+        final Optional<List<Notam>> cached = tileCache.get(tile.key());
+        if (cached.isPresent()) {
+            logger.debug("Tile cache hit for ({}, {}) -> {}", latitude, longitude, tile.key());
+            return cached.get();
+        }
 
-        final List<String> response = FaaNotamApiWrapper.fetchAllPages(queryParams, HTTP_TIMEOUT_SECONDS);
-        List<Notam> waypointNotams = response.stream()
-                .map( parser::parseGeoJson ).flatMap( List::stream )
-                .toList();
+        final AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquireBlocking();
+        if (deadline.isExpired()) {
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+            throw budgetExpired();
+        }
+        final List<Notam> waypointNotams;
+        try {
+            waypointNotams = FaaNotamApiWrapper.fetchAllNotams(tileQuery(tile), deadline,
+                    HTTP_TIMEOUT_SECONDS, parser);
+        } catch (final Exception e) {
+            permit.release(outcomeOf(e, deadline));
+            throw e;
+        }
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        tileCache.put(tile.key(), waypointNotams);
 
         final long t1 = System.currentTimeMillis();
         if (logger.isDebugEnabled()) {
@@ -248,6 +622,90 @@ public class NotamFetcher {
         return waypointNotams;
     }
 
+    /**
+     * Non-blocking variant of {@link #fetchForLocation(double, double, int)}.
+     * Pages are fetched with {@link FaaNotamApiWrapper#fetchAllNotamsAsync} and parsed
+     * from their UTF-8 bytes as soon as they arrive.
+     *
+     * @param latitude   the latitude of the location to fetch NOTAMs for
+     * @param longitude  the longitude of the location to fetch NOTAMs for
+     * @param radiusNm   the radius (in nautical miles) around the location to search for NOTAMs
+     * @return a future completing with the parsed NOTAMs
+     */
+    public CompletableFuture<List<Notam>> fetchForLocationAsync(double latitude, double longitude, int radiusNm) {
+        return fetchForLocationAsync(latitude, longitude, radiusNm, FetchDeadline.none());
+    }
+
+    private CompletableFuture<List<Notam>> fetchForLocationAsync(final double latitude, final double longitude,
+                                                                 final int radiusNm, final FetchDeadline deadline) {
+        final NotamTileCache.Tile tile = tileCache.tileFor(latitude, longitude, radiusNm);
+        final Optional<List<Notam>> cached = tileCache.get(tile.key());
+        if (cached.isPresent()) {
+            logger.debug("Tile cache hit for ({}, {}) -> {}", latitude, longitude, tile.key());
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        return concurrencyLimiter.acquire()
+                .thenCompose(permit -> {
+                    if (deadline.isExpired()) {
+                        // Queued behind the limiter past the budget; do not start the request
+                        permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+                        return CompletableFuture.<List<Notam>>failedFuture(budgetExpired());
+                    }
+                    // Another route may have fetched the tile while this one queued behind the limiter
+                    final Optional<List<Notam>> filled = tileCache.get(tile.key());
+                    if (filled.isPresent()) {
+                        permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+                        return CompletableFuture.completedFuture(filled.get());
+                    }
+                    return FaaNotamApiWrapper.fetchAllNotamsAsync(tileQuery(tile), deadline,
+                                    HTTP_TIMEOUT_SECONDS, parser)
+                            .whenComplete((notams, error) -> {
+                                // Cached here so a waypoint abandoned at the deadline still warms the cache,
+                                // and before the permit is released so the next waiter finds the tile
+                                if (error == null) {
+                                    tileCache.put(tile.key(), notams);
+                                }
+                                permit.release(error == null
+                                        ? AdaptiveConcurrencyLimiter.Outcome.SUCCESS
+                                        : outcomeOf(error, deadline));
+                            });
+                });
+    }
+
+    /**
+     * Hit, miss and eviction counters of the shared tile cache.
+     */
+    public static NotamTileCache.Stats tileCacheStats() {
+        return tileCache.stats();
+    }
+
+    /**
+     * Current adaptive concurrency limit, counters and recent limit changes.
+     */
+    public static AdaptiveConcurrencyLimiter.Metrics concurrencyMetrics() {
+        return concurrencyLimiter.metrics();
+    }
+
+    /**
+     * Limiter outcome for a failed query. Timeouts caused by our own route budget
+     * say nothing about FAA health, so they do not shrink the limit.
+     */
+    private static AdaptiveConcurrencyLimiter.Outcome outcomeOf(final Throwable error, final FetchDeadline deadline) {
+        return deadline.isExpired()
+                ? AdaptiveConcurrencyLimiter.Outcome.IGNORED
+                : AdaptiveConcurrencyLimiter.outcomeOf(error);
+    }
+
+    private static TimeoutException budgetExpired() {
+        return new TimeoutException("Route time budget expired before the query started");
+    }
+
+    private static FaaNotamApiWrapper.QueryParamsBuilder tileQuery(final NotamTileCache.Tile tile) {
+        return new FaaNotamApiWrapper.QueryParamsBuilder(tile.latitude(), tile.longitude(), tile.radiusNm())
+                .pageSize(200);
+    }
+
 	public List<Notam> fetchForAirport( final String airportCode )
 			throws Exception
 	{
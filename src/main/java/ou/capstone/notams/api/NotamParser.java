@@ -3,9 +3,12 @@ package ou.capstone.notams.api;
 import ou.capstone.notams.Notam;
 import ou.capstone.notams.route.Coordinate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -13,14 +16,19 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Parses FAA GeoJSON responses and converts them into Notam objects.
  * CCS-31: Responsible for extracting key NOTAM properties from API responses.
  * CCS-58: Added text-based coordinate extraction fallback for NOTAMs with missing geometry.
+ * Responses are read with a streaming JsonParser in a single pass; no tree is built
+ * for the whole document.
  */
 public class NotamParser {
     private static final Logger logger = LoggerFactory.getLogger(NotamParser.class);
@@ -36,6 +44,19 @@ public class NotamParser {
         this.objectMapper = new ObjectMapper();
     }
 
+    /**
+     * A single page of a FAA response: its pagination metadata and the NOTAMs it contains.
+     *
+     * @param pageNum    the page number reported by the API (0 if absent)
+     * @param totalPages the total page count reported by the API (0 if absent)
+     * @param notams     the NOTAMs parsed from the page
+     */
+    public record ParsedPage(int pageNum, int totalPages, List<Notam> notams) {
+        static ParsedPage empty() {
+            return new ParsedPage(0, 0, Collections.emptyList());
+        }
+    }
+
     /**
      * Parses a FAA GeoJSON response string and extracts a list of Notam objects.
      *
@@ -44,11 +65,27 @@ public class NotamParser {
      * @throws IllegalArgumentException if the JSON is malformed or missing required fields
      */
     public List<Notam> parseGeoJson(final String geoJsonResponse) {
+        return parsePage(geoJsonResponse).notams();
+    }
+
+    /**
+     * Parses a FAA GeoJSON response string in a single streaming pass, returning
+     * both its pagination metadata and its NOTAMs.
+     * <p>
+     * Only the geometry and {@code properties.coreNOTAMData.notam} of each feature
+     * are materialized; everything else (translations, events, ...) is skipped
+     * without building a tree for it.
+     *
+     * @param geoJsonResponse the GeoJSON response string from the FAA API
+     * @return the parsed page
+     * @throws IllegalArgumentException if the JSON is malformed or missing required fields
+     */
+    public ParsedPage parsePage(final String geoJsonResponse) {
         logger.info("Starting GeoJSON parsing");
 
         if (geoJsonResponse == null || geoJsonResponse.trim().isEmpty()) {
             logger.warn("Empty or null GeoJSON response provided");
-            return java.util.Collections.emptyList();
+            return ParsedPage.empty();
         }
 
         if (logger.isDebugEnabled()) {
@@ -58,93 +95,241 @@ public class NotamParser {
 
         logger.debug("Raw GeoJSON response length: {} characters", geoJsonResponse.length());
 
-        try {
-            final JsonNode root = objectMapper.readTree(geoJsonResponse);
-            logger.debug("Successfully parsed root JSON object");
-
-            // Support both FAA 'items' shape and standard GeoJSON 'features'
-            JsonNode container = null;
-            if (root.has("items")) {
-                container = root.get("items");
-            } else if (root.has("features")) {
-                container = root.get("features");
-            }
+        return parseWith(() -> objectMapper.getFactory().createParser(geoJsonResponse));
+    }
 
-            // If neither exists, treat as an error instead of silently succeeding
-            if (container == null) {
-                throw new IllegalArgumentException("GeoJSON missing expected 'items' or 'features' array");
-            }
-            if (!container.isArray()) {
-                throw new IllegalArgumentException("'items'/'features' must be an array");
-            }
+    /**
+     * Parses a FAA GeoJSON response from raw UTF-8 bytes, without decoding it
+     * into a String first.
+     *
+     * @param geoJsonResponse the response body bytes
+     * @return the parsed page
+     * @throws IllegalArgumentException if the JSON is malformed or missing required fields
+     */
+    public ParsedPage parsePage(final byte[] geoJsonResponse) {
+        logger.info("Starting GeoJSON parsing");
+
+        if (geoJsonResponse == null || geoJsonResponse.length == 0) {
+            logger.warn("Empty or null GeoJSON response provided");
+            return ParsedPage.empty();
+        }
+
+        logger.debug("Raw GeoJSON response length: {} bytes", geoJsonResponse.length);
+
+        return parseWith(() -> objectMapper.getFactory().createParser(geoJsonResponse));
+    }
+
+    /**
+     * Parses a FAA GeoJSON response directly from a stream, such as an HTTP
+     * response body, so the page never needs to be held in memory in full.
+     * The stream is read to the end of the JSON document but not closed.
+     *
+     * @param geoJsonResponse the response body stream
+     * @return the parsed page
+     * @throws IllegalArgumentException if the JSON is malformed or missing required fields
+     */
+    public ParsedPage parsePage(final InputStream geoJsonResponse) {
+        logger.info("Starting GeoJSON parsing");
+
+        if (geoJsonResponse == null) {
+            logger.warn("Empty or null GeoJSON response provided");
+            return ParsedPage.empty();
+        }
+
+        return parseWith(() -> {
+            final JsonParser jsonParser = objectMapper.getFactory().createParser(geoJsonResponse);
+            jsonParser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return jsonParser;
+        });
+    }
+
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser open() throws IOException;
+    }
+
+    /**
+     * Opens a parser from the given source and parses one page, mapping every
+     * failure to IllegalArgumentException.
+     */
+    private ParsedPage parseWith(final ParserSource source) {
+        try (JsonParser jsonParser = source.open()) {
+            return parsePage(jsonParser);
+        } catch (final IllegalArgumentException e) {
+            logger.error("Failed to parse GeoJSON response: {}", e.getMessage(), e);
+            throw e;
+        } catch (final JsonProcessingException e) {
+            logger.error("Failed to parse GeoJSON response due to JSON processing error: {}", e.getMessage(), e);
+            throw new IllegalArgumentException("Invalid GeoJSON response: " + e.getMessage(), e);
+        } catch (final Exception e) {
+            logger.error("Failed to parse GeoJSON response due to unexpected error: {}", e.getMessage(), e);
+            throw new IllegalArgumentException("Invalid GeoJSON response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Streams through a response page. Pagination fields and the
+     * 'items'/'features' array may appear in any order.
+     */
+    private ParsedPage parsePage(final JsonParser jsonParser) throws IOException {
+        final JsonToken first = jsonParser.nextToken();
+        if (first == null) {
+            logger.warn("Empty GeoJSON response provided");
+            return ParsedPage.empty();
+        }
+        if (first != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("GeoJSON response must be a JSON object");
+        }
 
-            logger.info("Found {} items in GeoJSON response", container.size());
-            if (container.size() == 0) {
-                return java.util.Collections.emptyList();
+        int pageNum = 0;
+        int totalPages = 0;
+        List<Notam> notams = null;
+        boolean fromItems = false;
+
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = jsonParser.currentName();
+            final JsonToken value = jsonParser.nextToken();
+
+            switch (field) {
+                case "pageNum" -> pageNum = jsonParser.getValueAsInt();
+                case "totalPages" -> totalPages = jsonParser.getValueAsInt();
+                // Support both FAA 'items' shape and standard GeoJSON 'features';
+                // 'items' wins if a response somehow carries both
+                case "items", "features" -> {
+                    final boolean isItems = "items".equals(field);
+                    if (fromItems && !isItems) {
+                        jsonParser.skipChildren();
+                    } else {
+                        if (value != JsonToken.START_ARRAY) {
+                            throw new IllegalArgumentException("'items'/'features' must be an array");
+                        }
+                        notams = parseFeatures(jsonParser);
+                        fromItems = isItems;
+                    }
+                }
+                default -> jsonParser.skipChildren();
             }
+        }
+
+        // If neither exists, treat as an error instead of silently succeeding
+        if (notams == null) {
+            throw new IllegalArgumentException("GeoJSON missing expected 'items' or 'features' array");
+        }
+
+        return new ParsedPage(pageNum, totalPages, notams);
+    }
 
-            final List<Notam> notams = new ArrayList<>();
-            int successfullyParsed = 0;
-            int skipped = 0;
-            int totalCoordinatesFromGeometry = 0;
-            int totalCoordinatesFromText = 0;
-            int totalNoCoordinates = 0;
-
-            for (int i = 0; i < container.size(); i++) {
-                try {
-                    final JsonNode feature = container.get(i);
-                    logger.debug("Processing feature {}/{}", i + 1, container.size());
-
-                    final Notam notam = parseFeature(feature);
-                    if (notam != null) {
-                        notams.add(notam);
-                        successfullyParsed++;
-                        logger.debug("Successfully parsed NOTAM: {}", notam.getId());
-
-                        // Track coordinate sources for statistics
-                        if (notam.getLatitude() != null) {
-                            // Check if coordinates came from text by looking for PSN pattern
-                            // and checking if geometry was invalid
-                            final String notamText = notam.getText();
-                            final boolean hasTextPattern = notamText != null &&
-                                    COORDINATE_PATTERN.matcher(notamText).find();
-                            final boolean hasValidGeometry = feature.has("geometry") &&
-                                    hasValidGeometry(feature.get("geometry"));
-
-                            if (hasTextPattern && !hasValidGeometry) {
-                                totalCoordinatesFromText++;
-                            } else {
-                                totalCoordinatesFromGeometry++;
-                            }
+    /**
+     * Parses each feature of an 'items'/'features' array. The parser must be
+     * positioned on the array's START_ARRAY token and is left on its END_ARRAY.
+     */
+    private List<Notam> parseFeatures(final JsonParser jsonParser) throws IOException {
+        final List<Notam> notams = new ArrayList<>();
+        int index = 0;
+        int successfullyParsed = 0;
+        int skipped = 0;
+        int totalCoordinatesFromGeometry = 0;
+        int totalCoordinatesFromText = 0;
+        int totalNoCoordinates = 0;
+
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            index++;
+            final ObjectNode feature = readFeature(jsonParser);
+            try {
+                logger.debug("Processing feature {}", index);
+
+                final Notam notam = parseFeature(feature);
+                if (notam != null) {
+                    notams.add(notam);
+                    successfullyParsed++;
+                    logger.debug("Successfully parsed NOTAM: {}", notam.getId());
+
+                    // Track coordinate sources for statistics
+                    if (notam.getLatitude() != null) {
+                        // Check if coordinates came from text by looking for PSN pattern
+                        // and checking if geometry was invalid
+                        final String notamText = notam.getText();
+                        final boolean hasTextPattern = notamText != null &&
+                                COORDINATE_PATTERN.matcher(notamText).find();
+                        final boolean hasValidGeometry = feature.has("geometry") &&
+                                hasValidGeometry(feature.get("geometry"));
+
+                        if (hasTextPattern && !hasValidGeometry) {
+                            totalCoordinatesFromText++;
                         } else {
-                            totalNoCoordinates++;
+                            totalCoordinatesFromGeometry++;
                         }
                     } else {
-                        skipped++;
-                        logger.debug("Skipped feature {}: missing required fields", i + 1);
+                        totalNoCoordinates++;
                     }
-                } catch (final DateTimeParseException e) {
-                    skipped++;
-                    logger.warn("Failed to parse feature {} due to date parsing error: {}", i + 1, e.getMessage());
-                } catch (final Exception e) {
+                } else {
                     skipped++;
-                    logger.warn("Failed to parse feature {} due to unexpected error: {}", i + 1, e.getMessage());
+                    logger.debug("Skipped feature {}: missing required fields", index);
                 }
+            } catch (final DateTimeParseException e) {
+                skipped++;
+                logger.warn("Failed to parse feature {} due to date parsing error: {}", index, e.getMessage());
+            } catch (final Exception e) {
+                skipped++;
+                logger.warn("Failed to parse feature {} due to unexpected error: {}", index, e.getMessage());
             }
+        }
 
-            logger.info("Parsing complete: {} NOTAMs parsed successfully, {} skipped",
-                    successfullyParsed, skipped);
-            logger.info("Coordinate sources: {} from geometry, {} from text, {} with no coordinates",
-                    totalCoordinatesFromGeometry, totalCoordinatesFromText, totalNoCoordinates);
-            return notams;
+        logger.info("Found {} items in GeoJSON response", index);
+        logger.info("Parsing complete: {} NOTAMs parsed successfully, {} skipped",
+                successfullyParsed, skipped);
+        logger.info("Coordinate sources: {} from geometry, {} from text, {} with no coordinates",
+                totalCoordinatesFromGeometry, totalCoordinatesFromText, totalNoCoordinates);
+        return notams;
+    }
 
-        } catch (final JsonProcessingException e) {
-            logger.error("Failed to parse GeoJSON response due to JSON processing error: {}", e.getMessage(), e);
-            throw new IllegalArgumentException("Invalid GeoJSON response: " + e.getMessage(), e);
-        } catch (final Exception e) {
-            logger.error("Failed to parse GeoJSON response due to unexpected error: {}", e.getMessage(), e);
-            throw new IllegalArgumentException("Invalid GeoJSON response: " + e.getMessage(), e);
+    /**
+     * Reads one feature into a slim tree holding only 'geometry' and
+     * 'properties.coreNOTAMData.notam', skipping all other content.
+     * Non-object array elements produce an empty node, which parseFeature skips.
+     */
+    private ObjectNode readFeature(final JsonParser jsonParser) throws IOException {
+        final ObjectNode feature = objectMapper.createObjectNode();
+        if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+            jsonParser.skipChildren();
+            return feature;
+        }
+
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = jsonParser.currentName();
+            final JsonToken value = jsonParser.nextToken();
+            if ("geometry".equals(field)) {
+                feature.set("geometry", objectMapper.readTree(jsonParser));
+            } else if ("properties".equals(field) && value == JsonToken.START_OBJECT) {
+                feature.set("properties", readProperties(jsonParser));
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return feature;
+    }
+
+    private ObjectNode readProperties(final JsonParser jsonParser) throws IOException {
+        final ObjectNode properties = objectMapper.createObjectNode();
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = jsonParser.currentName();
+            final JsonToken value = jsonParser.nextToken();
+            if ("coreNOTAMData".equals(field) && value == JsonToken.START_OBJECT) {
+                final ObjectNode coreData = properties.putObject("coreNOTAMData");
+                while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String coreField = jsonParser.currentName();
+                    jsonParser.nextToken();
+                    if ("notam".equals(coreField)) {
+                        coreData.set("notam", objectMapper.readTree(jsonParser));
+                    } else {
+                        jsonParser.skipChildren();
+                    }
+                }
+            } else {
+                jsonParser.skipChildren();
+            }
         }
+        return properties;
     }
 
     /**
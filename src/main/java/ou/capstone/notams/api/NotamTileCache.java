@@ -0,0 +1,179 @@
+package ou.capstone.notams.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.route.RouteCalculator;
+
+/**
+ * Cache of parsed NOTAMs for coordinate queries, keyed by a lat/lon grid cell
+ * and radius.
+ * <p>
+ * A query point is snapped to the centre of its grid cell and the radius is
+ * widened by the cell's half-diagonal, so the cached answer for a tile always
+ * covers the circle the caller asked for anywhere inside that tile. Nearby
+ * waypoints from different routes (e.g. many flights out of KOKC) therefore
+ * share one upstream query.
+ * <p>
+ * Entries expire after a fixed TTL and the least recently used entry is evicted
+ * once the cache is full. Thread-safe.
+ */
+public final class NotamTileCache {
+
+    /** Grid cell plus radius identifying one cached query. */
+    public record TileKey(long latIndex, long lonIndex, int radiusNm) { }
+
+    /**
+     * The upstream query to make for a tile: its centre and widened radius.
+     */
+    public record Tile(TileKey key, double latitude, double longitude, int radiusNm) { }
+
+    /** Snapshot of the cache counters. */
+    public record Stats(long hits, long misses, long evictions, long expirations, int size) {
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, evictions=%d, expirations=%d, size=%d",
+                    hits, misses, evictions, expirations, size);
+        }
+    }
+
+    private record Entry(List<Notam> notams, Instant expiresAt) { }
+
+    private final double cellDegrees;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<TileKey, Entry> entries;
+
+    /**
+     * @param cellDegrees size of a grid cell in degrees of latitude and longitude
+     * @param ttl how long a cached tile stays valid
+     * @param maxEntries maximum tiles kept before LRU eviction (0 disables caching)
+     * @param clock time source for expiry
+     */
+    public NotamTileCache(final double cellDegrees, final Duration ttl, final int maxEntries, final Clock clock) {
+        if (!(cellDegrees > 0) || cellDegrees > 10) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 10], got: " + cellDegrees);
+        }
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative, got: " + ttl);
+        }
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative, got: " + maxEntries);
+        }
+        this.cellDegrees = cellDegrees;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<TileKey, Entry> eldest) {
+                if (size() > NotamTileCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache configured from NOTAM_TILE_CACHE_DEGREES (default 0.1),
+     * NOTAM_TILE_CACHE_TTL_SECONDS (default 300) and NOTAM_TILE_CACHE_MAX_ENTRIES
+     * (default 512).
+     */
+    public static NotamTileCache fromEnvironment() {
+        return new NotamTileCache(
+                Double.parseDouble(System.getenv().getOrDefault("NOTAM_TILE_CACHE_DEGREES", "0.1")),
+                Duration.ofSeconds(Long.parseLong(System.getenv().getOrDefault("NOTAM_TILE_CACHE_TTL_SECONDS", "300"))),
+                Integer.parseInt(System.getenv().getOrDefault("NOTAM_TILE_CACHE_MAX_ENTRIES", "512")),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Returns the tile containing a point, with the query centre and radius that
+     * cover a {@code radiusNm} circle around any point in the tile.
+     */
+    public Tile tileFor(final double latitude, final double longitude, final int radiusNm) {
+        final long latIndex = (long) Math.floor(latitude / cellDegrees);
+        final long lonIndex = (long) Math.floor(longitude / cellDegrees);
+
+        final double south = latIndex * cellDegrees;
+        final double west = lonIndex * cellDegrees;
+        final double centreLat = clamp(south + cellDegrees / 2, -90, 90);
+        final double centreLon = clamp(west + cellDegrees / 2, -180, 180);
+
+        // The corner nearest the equator is the farthest from the centre
+        final double cornerLat = clamp(Math.abs(south) < Math.abs(south + cellDegrees) ? south : south + cellDegrees,
+                -90, 90);
+        final double halfDiagonalNm = RouteCalculator.distanceNm(centreLat, centreLon, cornerLat, west);
+
+        return new Tile(new TileKey(latIndex, lonIndex, radiusNm), centreLat, centreLon,
+                radiusNm + (int) Math.ceil(halfDiagonalNm));
+    }
+
+    /**
+     * Returns the cached NOTAMs for a tile if present and not expired, counting a
+     * hit or a miss.
+     */
+    public Optional<List<Notam>> get(final TileKey key) {
+        final Instant now = clock.instant();
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && now.isBefore(entry.expiresAt())) {
+                hits.incrementAndGet();
+                return Optional.of(entry.notams());
+            }
+            if (entry != null) {
+                entries.remove(key);
+                expirations.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /** Stores the NOTAMs for a tile, evicting the least recently used tile if full. */
+    public void put(final TileKey key, final List<Notam> notams) {
+        if (maxEntries == 0 || ttl.isZero()) {
+            return;
+        }
+        final Entry entry = new Entry(List.copyOf(notams), clock.instant().plus(ttl));
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /** Drops every cached tile. Counters are kept. */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Stats stats() {
+        final int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), expirations.get(), size);
+    }
+
+    private static double clamp(final double value, final double min, final double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
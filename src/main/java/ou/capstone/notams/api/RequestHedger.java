@@ -0,0 +1,216 @@
+package ou.capstone.notams.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate of a slow request and keeps whichever copy answers first.
+ * <p>
+ * The hedge delay is a percentile of the latencies of recent successful
+ * attempts (hedges included), so only the slow tail is duplicated. No request
+ * is hedged until {@link FaaHedgeSettings#minSamples()} latencies have been
+ * seen. Once one copy answers, the other is cancelled; the caller makes that
+ * cancellation abort the copy's HTTP exchange. A losing answer that arrives
+ * before the cancellation takes effect is handed to a discard callback.
+ * <p>
+ * Since a cancelled copy never reports its latency, the time saved by a
+ * winning hedge is estimated from the window: the median latency of past
+ * attempts that ran at least as long as the cancelled copy had, minus that time.
+ * <p>
+ * Thread-safe.
+ */
+public final class RequestHedger {
+
+    /** Snapshot of the hedging counters. */
+    public record Metrics(long requests, long hedgesSent, long hedgesSuppressed, long hedgeWins,
+                          Duration timeSaved, Optional<Duration> currentDelay) {
+
+        /** Fraction of requests that sent a hedge. */
+        public double hedgeRate() {
+            return requests == 0 ? 0.0 : (double) hedgesSent / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d, hedgesSent=%d (%.1f%%), suppressed=%d, hedgeWins=%d, "
+                            + "timeSaved=%d ms, delay=%s",
+                    requests, hedgesSent, hedgeRate() * 100, hedgesSuppressed, hedgeWins, timeSaved.toMillis(),
+                    currentDelay.map(d -> d.toMillis() + " ms").orElse("warming up"));
+        }
+    }
+
+    private final FaaHedgeSettings settings;
+    private final LongSupplier nanoTime;
+
+    // Ring buffer of recent latencies in nanoseconds, guarded by this
+    private final long[] latencies;
+    private int latencyCount;
+    private int nextLatency;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedgesSent = new AtomicLong();
+    private final AtomicLong hedgesSuppressed = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    RequestHedger(final FaaHedgeSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    RequestHedger(final FaaHedgeSettings settings, final LongSupplier nanoTime) {
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+        this.latencies = new long[settings.windowSize()];
+    }
+
+    boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    /**
+     * Runs {@code attempt}, and runs it a second time if the first has not
+     * answered by the current hedge delay and {@code hedgeAllowed} agrees.
+     * The result completes with the first successful answer, or with the
+     * error of the last attempt to fail if none succeeds.
+     *
+     * @param attempt starts one copy of the request
+     * @param hedgeAllowed checked just before sending a hedge
+     * @param discard receives the answer of the losing copy
+     */
+    <T> CompletableFuture<T> execute(final Supplier<CompletableFuture<T>> attempt,
+                                     final BooleanSupplier hedgeAllowed,
+                                     final Consumer<? super T> discard) {
+        requests.incrementAndGet();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        // Attempts that have not failed yet; the result fails when this reaches zero
+        final AtomicInteger live = new AtomicInteger(1);
+        // Claimed by whichever attempt settles the result, before completing it,
+        // so the counters are up to date by the time callers see the result
+        final AtomicBoolean settled = new AtomicBoolean();
+        final AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+
+        final long start = nanoTime.getAsLong();
+        final CompletableFuture<T> first = attempt.get();
+        // Whichever copy is still running once the result settles has lost
+        result.whenComplete((value, error) -> {
+            first.cancel(true);
+            final CompletableFuture<T> second = hedge.get();
+            if (second != null) {
+                second.cancel(true);
+            }
+        });
+        first.whenComplete((value, error) -> {
+            if (error == null) {
+                recordLatency(nanoTime.getAsLong() - start);
+                if (settled.compareAndSet(false, true)) {
+                    result.complete(value);
+                } else {
+                    discard.accept(value);
+                }
+            } else if (live.decrementAndGet() == 0 && settled.compareAndSet(false, true)) {
+                result.completeExceptionally(error);
+            }
+        });
+
+        final Optional<Duration> delay = hedgeDelay();
+        if (delay.isEmpty() || result.isDone()) {
+            return result;
+        }
+
+        CompletableFuture.delayedExecutor(delay.get().toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!hedgeAllowed.getAsBoolean()) {
+                hedgesSuppressed.incrementAndGet();
+                return;
+            }
+            if (live.getAndIncrement() == 0) {
+                // The first attempt failed in the meantime and already failed the result
+                return;
+            }
+            hedgesSent.incrementAndGet();
+            final long hedgeStart = nanoTime.getAsLong();
+            final CompletableFuture<T> second = attempt.get();
+            hedge.set(second);
+            if (result.isDone()) {
+                second.cancel(true);
+            }
+            second.whenComplete((value, error) -> {
+                if (error == null) {
+                    final long now = nanoTime.getAsLong();
+                    recordLatency(now - hedgeStart);
+                    if (settled.compareAndSet(false, true)) {
+                        hedgeWins.incrementAndGet();
+                        savedNanos.addAndGet(estimatedRemainingNanos(now - start));
+                        result.complete(value);
+                    } else {
+                        discard.accept(value);
+                    }
+                } else if (live.decrementAndGet() == 0 && settled.compareAndSet(false, true)) {
+                    result.completeExceptionally(error);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * How much longer an attempt that has run for {@code elapsedNanos} would
+     * typically have taken: the median of the window's longer latencies minus
+     * the time already spent, or 0 if no recent attempt ran that long.
+     */
+    long estimatedRemainingNanos(final long elapsedNanos) {
+        final long[] window;
+        synchronized (this) {
+            window = Arrays.copyOf(latencies, latencyCount);
+        }
+        final long[] longer = Arrays.stream(window).filter(nanos -> nanos > elapsedNanos).sorted().toArray();
+        return longer.length == 0 ? 0L : longer[longer.length / 2] - elapsedNanos;
+    }
+
+    /**
+     * Current hedge delay: the configured percentile of the latency window,
+     * but at least the minimum delay. Empty while warming up or when disabled.
+     */
+    Optional<Duration> hedgeDelay() {
+        if (!settings.enabled()) {
+            return Optional.empty();
+        }
+        final long[] window;
+        synchronized (this) {
+            if (latencyCount < settings.minSamples()) {
+                return Optional.empty();
+            }
+            window = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(window);
+        final int index = (int) Math.ceil(settings.percentile() / 100.0 * window.length) - 1;
+        final long nanos = Math.max(window[Math.max(0, index)], settings.minDelay().toNanos());
+        return Optional.of(Duration.ofNanos(nanos));
+    }
+
+    Metrics metrics() {
+        return new Metrics(requests.get(), hedgesSent.get(), hedgesSuppressed.get(), hedgeWins.get(),
+                Duration.ofNanos(savedNanos.get()), hedgeDelay());
+    }
+
+    private synchronized void recordLatency(final long nanos) {
+        latencies[nextLatency] = nanos;
+        nextLatency = (nextLatency + 1) % latencies.length;
+        if (latencyCount < latencies.length) {
+            latencyCount++;
+        }
+    }
+}
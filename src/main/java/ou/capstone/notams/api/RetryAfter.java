@@ -0,0 +1,45 @@
+package ou.capstone.notams.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Parses the HTTP {@code Retry-After} header, which is either a number of
+ * seconds or an HTTP date.
+ */
+final class RetryAfter {
+
+    private RetryAfter() {
+    }
+
+    /**
+     * Returns the delay requested by a {@code Retry-After} value, or empty if the
+     * value is missing or malformed. Dates in the past yield a zero delay.
+     *
+     * @param value the header value, may be null
+     * @param now the current time, used to resolve HTTP dates
+     */
+    static Optional<Duration> parse(final String value, final Instant now) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        final String trimmed = value.trim();
+        try {
+            final long seconds = Long.parseLong(trimmed);
+            return seconds < 0 ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+        } catch (final NumberFormatException ignored) {
+            // Not delta-seconds, try an HTTP date
+        }
+        try {
+            final Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            final Duration delay = Duration.between(now, at);
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
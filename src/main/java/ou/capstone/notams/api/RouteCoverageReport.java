@@ -0,0 +1,61 @@
+package ou.capstone.notams.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import ou.capstone.notams.route.Coordinate;
+
+/**
+ * Which planned waypoints of a route fetch actually contributed NOTAMs.
+ * <p>
+ * A waypoint is missing if its fetch was still running when the time budget
+ * ran out ({@link #timedOut()}) or if it failed and was skipped
+ * ({@link #failed()}). The NOTAMs returned alongside an incomplete report only
+ * cover the remaining waypoints.
+ *
+ * @param waypoints every planned waypoint, in route order
+ * @param timedOut waypoints abandoned when the budget expired, in route order
+ * @param failed waypoints whose fetch failed, in route order
+ * @param elapsed wall time spent fetching
+ */
+public record RouteCoverageReport(
+        List<Coordinate> waypoints,
+        List<Coordinate> timedOut,
+        List<Coordinate> failed,
+        Duration elapsed
+) {
+    public RouteCoverageReport {
+        waypoints = List.copyOf(waypoints);
+        timedOut = List.copyOf(timedOut);
+        failed = List.copyOf(failed);
+        Objects.requireNonNull(elapsed, "elapsed is required");
+    }
+
+    /** Waypoints that did not contribute, timed out first then failed. */
+    public List<Coordinate> missing() {
+        final List<Coordinate> missing = new ArrayList<>(timedOut);
+        missing.addAll(failed);
+        return missing;
+    }
+
+    /** Number of waypoints whose NOTAMs are included. */
+    public int completedCount() {
+        return waypoints.size() - timedOut.size() - failed.size();
+    }
+
+    /** True when every planned waypoint contributed. */
+    public boolean isComplete() {
+        return timedOut.isEmpty() && failed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if (isComplete()) {
+            return String.format("all %d waypoints covered in %d ms", waypoints.size(), elapsed.toMillis());
+        }
+        return String.format("%d of %d waypoints covered in %d ms; timed out: %s; failed: %s",
+                completedCount(), waypoints.size(), elapsed.toMillis(), timedOut, failed);
+    }
+}
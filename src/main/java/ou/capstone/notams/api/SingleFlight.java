@@ -0,0 +1,211 @@
+package ou.capstone.notams.api;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ou.capstone.notams.exceptions.NotamException;
+
+/**
+ * Coalesces concurrent calls with equal keys into one in-flight call.
+ * <p>
+ * The first caller for a key runs the call; callers arriving while it is in
+ * flight share its result instead of starting their own. The entry is removed
+ * as soon as the call completes, normally or not, and its callers have been
+ * handed the result, so results are never reused afterwards (caching is
+ * {@link NotamTileCache}'s job). Keys must be immutable, or copies
+ * that are not modified afterwards.
+ * <p>
+ * Each call runs under a {@linkplain FetchDeadline#shared() shared deadline}
+ * that every caller's deadline joins, so it runs for as long as the longest
+ * caller allows. A caller whose deadline is cancelled, or who cancels its
+ * future, stops waiting on its own; the call itself is only cancelled once
+ * every caller has.
+ */
+final class SingleFlight<K, V> {
+
+    /** A blocking call that may fail with a NotamException. */
+    @FunctionalInterface
+    interface BlockingCall<V> {
+        V call() throws NotamException;
+    }
+
+    /** A blocking call run under the deadline shared by its callers. */
+    @FunctionalInterface
+    interface SharedBlockingCall<V> {
+        V call(FetchDeadline deadline) throws NotamException;
+    }
+
+    /** One call in flight: its result and the deadline its callers share. */
+    private record Flight<V>(CompletableFuture<V> result, FetchDeadline deadline) {
+        Flight() {
+            this(new CompletableFuture<>(), FetchDeadline.shared());
+        }
+    }
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Runs {@code call} unless an equal key is already in flight, in which case
+     * that call's future is shared. Each caller gets its own dependent future, so
+     * cancelling it does not affect the others.
+     */
+    CompletableFuture<V> execute(final K key, final Supplier<CompletableFuture<V>> call) {
+        return execute(key, FetchDeadline.none(), shared -> call.get());
+    }
+
+    /**
+     * Like {@link #execute(Object, Supplier)}, with {@code deadline} joining the
+     * shared deadline that {@code call} is given. Cancelling {@code deadline}
+     * cancels this caller's future.
+     */
+    CompletableFuture<V> execute(final K key, final FetchDeadline deadline,
+                                 final Function<FetchDeadline, CompletableFuture<V>> call) {
+        final Flight<V> flight = new Flight<>();
+        while (true) {
+            final Flight<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            final CompletableFuture<V> joined = join(existing, deadline);
+            if (joined != null) {
+                coalesced.incrementAndGet();
+                return joined;
+            }
+            // Every caller of that call has given up and it is being cancelled
+            inFlight.remove(key, existing);
+        }
+
+        started.incrementAndGet();
+        final CompletableFuture<V> result = join(flight, deadline);
+        try {
+            call.apply(flight.deadline()).whenComplete((value, error) -> finish(key, flight, value, error));
+        } catch (final RuntimeException e) {
+            finish(key, flight, null, e);
+        } catch (final Throwable t) {
+            // Never leave the key in flight, or later callers would wait forever
+            finish(key, flight, null, t);
+            throw t;
+        }
+        return result;
+    }
+
+    /**
+     * Blocking variant of {@link #execute}: the first caller runs {@code call} on
+     * its own thread; concurrent callers with an equal key wait for its result.
+     */
+    V executeBlocking(final K key, final BlockingCall<V> call) throws NotamException {
+        return executeBlocking(key, FetchDeadline.none(), shared -> call.call());
+    }
+
+    /**
+     * Blocking variant of {@link #execute(Object, FetchDeadline, Function)}. A
+     * waiting caller whose deadline is cancelled stops waiting at once.
+     */
+    V executeBlocking(final K key, final FetchDeadline deadline, final SharedBlockingCall<V> call)
+            throws NotamException {
+        final Flight<V> flight = new Flight<>();
+        while (true) {
+            final Flight<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            final CompletableFuture<V> joined = join(existing, deadline);
+            if (joined != null) {
+                coalesced.incrementAndGet();
+                return await(joined);
+            }
+            inFlight.remove(key, existing);
+        }
+
+        started.incrementAndGet();
+        join(flight, deadline);
+        try {
+            final V value = call.call(flight.deadline());
+            finish(key, flight, value, null);
+            return value;
+        } catch (final Throwable t) {
+            // Errors too: never leave the key in flight, or later callers would wait forever
+            finish(key, flight, null, t);
+            throw t;
+        }
+    }
+
+    /** Calls actually started. */
+    long started() {
+        return started.get();
+    }
+
+    /** Calls that joined one already in flight instead of starting their own. */
+    long coalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Adds a caller to a flight: its own future for the result, which is
+     * cancelled with its deadline and, once cancelled, withdraws the caller
+     * from the shared deadline.
+     *
+     * @return the caller's future, or null if the flight is being cancelled
+     */
+    private static <V> CompletableFuture<V> join(final Flight<V> flight, final FetchDeadline deadline) {
+        if (!flight.deadline().join(deadline)) {
+            return null;
+        }
+        final CompletableFuture<V> result = flight.result().copy();
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                flight.deadline().leave();
+            }
+        });
+        deadline.onCancel(() -> result.cancel(true));
+        return result;
+    }
+
+    private void finish(final K key, final Flight<V> flight, final V value, final Throwable error) {
+        // Complete first: callers' dependent stages (such as filling a cache) run
+        // before later callers can miss the entry and start a fresh call
+        if (error != null) {
+            flight.result().completeExceptionally(error);
+        } else {
+            flight.result().complete(value);
+        }
+        inFlight.remove(key, flight);
+    }
+
+    private static <V> V await(final CompletableFuture<V> future) throws NotamException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotamException(e);
+        } catch (final CancellationException e) {
+            throw new NotamException("Stopped waiting for a shared query: the fetch deadline was cancelled",
+                    new TimeoutException("Fetch deadline cancelled"));
+        } catch (final ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof NotamException ne) {
+                throw ne;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new NotamException(new Exception(cause));
+        }
+    }
+}
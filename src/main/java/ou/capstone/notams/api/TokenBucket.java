@@ -0,0 +1,121 @@
+package ou.capstone.notams.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter shared by every FAA request in the process.
+ * <p>
+ * Tokens refill continuously at {@code permitsPerSecond} up to {@code burst}.
+ * Each acquire reserves one token immediately and returns how long the caller
+ * must wait for it, so concurrent callers are spaced out in arrival order
+ * instead of all retrying at once. {@link #dropBurst()} lets a 429 response
+ * slow every caller to the steady rate without stalling them.
+ */
+final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(final double permitsPerSecond, final int burst, final LongSupplier nanoTime) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive, got: " + permitsPerSecond);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive, got: " + burst);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+        this.tokens = burst;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    /**
+     * Reserves one token and returns the number of nanoseconds the caller must
+     * wait before using it (0 if a token is available now).
+     */
+    long reserve() {
+        return reserve(Long.MAX_VALUE);
+    }
+
+    /**
+     * Reserves one token only if the caller would not have to wait longer than
+     * {@code maxWaitNanos} for it.
+     *
+     * @return the nanoseconds to wait before using the token, or -1 if no token
+     *         was reserved
+     */
+    synchronized long reserve(final long maxWaitNanos) {
+        refill();
+        final long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Returns a future that completes once a token is available. No thread is
+     * held while waiting.
+     *
+     * @param maxWaitNanos longest acceptable wait, e.g. what is left of a deadline
+     * @return a future completing with true once the token is available, or
+     *         with false right away if it would take longer than {@code maxWaitNanos}
+     */
+    CompletableFuture<Boolean> acquire(final long maxWaitNanos) {
+        final long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(waitNanos == 0);
+        }
+        return CompletableFuture.supplyAsync(() -> true,
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Blocking variant of {@link #acquire(long)} for synchronous callers.
+     *
+     * @return false, without waiting, if the token would take longer than {@code maxWaitNanos}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean acquireBlocking(final long maxWaitNanos) throws InterruptedException {
+        final long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos >= 0;
+    }
+
+    /**
+     * Drops any saved-up burst, so callers continue at the steady rate only.
+     * Callers already queued keep their place.
+     */
+    synchronized void dropBurst() {
+        refill();
+        tokens = Math.min(tokens, 0);
+    }
+
+    /** Tokens currently available (negative when callers are queued). */
+    synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        final long now = nanoTime.getAsLong();
+        if (now > lastRefill) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+        }
+        lastRefill = now;
+    }
+}
@@ -65,6 +65,14 @@ public abstract class NotamPrinter {
         System.out.println(render(notams));
     }
 
+    /**
+     * Print directly to stdout, keeping the given order if {@code presorted}.
+     * Delegates to {@link #render(List, boolean)}.
+     */
+    public void print(final List<NotamView> notams, final boolean presorted) {
+        System.out.println(render(notams, presorted));
+    }
+
     /**
      * Renders the formatted NOTAM table as a single String.
      * Intended for unit tests and logging – CLI code should use {@link #print(List)}.
@@ -73,21 +81,39 @@ public abstract class NotamPrinter {
      * @return the complete table as a String (including header and rows).
      */
     public String render(final List<NotamView> notams) {
+        return render(notams, false);
+    }
+
+    /**
+     * Renders the formatted NOTAM table as a single String.
+     *
+     * @param notams list of NOTAM view models; if null/empty, a friendly empty-state string is returned.
+     * @param presorted true if {@code notams} is already in display order (e.g. from a
+     *                  prioritizer), so it is rendered as given without sorting again;
+     *                  false to sort by score, location and start time.
+     * @return the complete table as a String (including header and rows).
+     */
+    public String render(final List<NotamView> notams, final boolean presorted) {
         if (notams == null || notams.isEmpty()) {
             return "No NOTAMs to display.";
         }
 
-        final List<NotamView> sorted = new ArrayList<>(notams);
-
-        // Sort primarily by score (highest first), then by location, then by start time
-        sorted.sort(
-                Comparator.comparing(NotamView::score,
-                                Comparator.nullsLast(Comparator.reverseOrder()))
-                        .thenComparing(NotamView::location,
-                                Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
-                        .thenComparing(NotamView::startTimeUtc,
-                                Comparator.nullsLast(Comparator.naturalOrder()))
-        );
+        final List<NotamView> sorted;
+        if (presorted) {
+            sorted = notams;
+        } else {
+            sorted = new ArrayList<>(notams);
+
+            // Sort primarily by score (highest first), then by location, then by start time
+            sorted.sort(
+                    Comparator.comparing(NotamView::score,
+                                    Comparator.nullsLast(Comparator.reverseOrder()))
+                            .thenComparing(NotamView::location,
+                                    Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                            .thenComparing(NotamView::startTimeUtc,
+                                    Comparator.nullsLast(Comparator.naturalOrder()))
+            );
+        }
 
         final StringBuilder sb = new StringBuilder();
         sb.append(buildHeader()).append('\n');
@@ -225,6 +251,13 @@ public abstract class NotamPrinter {
             line += "\n" + localLine;
         }
 
+        // Score explanation, when the prioritizer was tracing
+        if (n.explanation() != null) {
+            for (final String why : wrapText("Why: " + n.explanation()).split("\n")) {
+                line += "\n" + " ".repeat(conditionIndent) + why;
+            }
+        }
+
         return line;
     }
 
@@ -12,11 +12,23 @@ public record NotamView(
         Instant startTimeUtc,
         Instant endTimeUtc,
         String conditionText,
-        Double score // nullable if not applicable
+        Double score, // nullable if not applicable
+        String explanation // why the score, when tracing; nullable
 ) {
     private static final DateTimeFormatter TRADITIONAL_TIME_FORMAT =
         DateTimeFormatter.ofPattern("yyMMddHHmm").withZone(ZoneOffset.UTC);
 
+    /** A view without a score explanation. */
+    public NotamView(final String notamNumber,
+                     final String location,
+                     final String classification,
+                     final Instant startTimeUtc,
+                     final Instant endTimeUtc,
+                     final String conditionText,
+                     final Double score) {
+        this(notamNumber, location, classification, startTimeUtc, endTimeUtc, conditionText, score, null);
+    }
+
     /**
      * Returns the traditional NOTAM format: !LOC NUM LOC TEXT STARTTIME-ENDTIME
      */
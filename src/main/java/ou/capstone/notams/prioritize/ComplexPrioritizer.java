@@ -30,4 +30,24 @@ public final class ComplexPrioritizer implements NotamPrioritizer {
     public double score(final Notam n) {
         return delegate.score(n);
     }
+
+    @Override
+    public ScoredNotam scoreDetailed(final Notam n) {
+        return delegate.scoreDetailed(n);
+    }
+
+    @Override
+    public ScoredNotam explain(final Notam n) {
+        return delegate.explain(n);
+    }
+
+    @Override
+    public NotamPrioritizer tracing() {
+        return delegate.tracing();
+    }
+
+    @Override
+    public List<ScoredNotam> prioritizeScored(final List<Notam> notams) {
+        return delegate.prioritizeScored(notams);
+    }
 }
\ No newline at end of file
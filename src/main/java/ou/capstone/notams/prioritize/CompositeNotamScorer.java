@@ -1,26 +1,44 @@
 package ou.capstone.notams.prioritize;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import ou.capstone.notams.Notam;
 
 /**
  * Combines several NotamScorer rules by summing their contributions.
+ * <p>
+ * The scorers are kept in an array and walked by index, so
+ * {@link #score(Notam)} allocates nothing; only {@link #breakdown(Notam)},
+ * used when tracing, builds a map.
  */
 public final class CompositeNotamScorer implements NotamScorer {
 
-    private final List<NotamScorer> scorers;
+    private final NotamScorer[] scorers;
 
     public CompositeNotamScorer(final List<NotamScorer> scorers) {
-        this.scorers = List.copyOf(scorers);
+        this.scorers = List.copyOf(scorers).toArray(new NotamScorer[0]);
     }
 
     @Override
     public double score(final Notam notam) {
         double total = 0.0;
-        for (NotamScorer s : scorers) {
-            total += s.score(notam);
+        for (int i = 0; i < scorers.length; i++) {
+            total += scorers[i].score(notam);
         }
         return total;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns each scorer's contribution, keyed by the scorer's simple class name
+     * in scoring order. The values sum to {@link #score(Notam)}.
+     */
+    public Map<String, Double> breakdown(final Notam notam) {
+        final Map<String, Double> parts = new LinkedHashMap<>();
+        for (NotamScorer s : scorers) {
+            parts.merge(s.getClass().getSimpleName(), s.score(notam), Double::sum);
+        }
+        return parts;
+    }
+}
@@ -1,16 +1,23 @@
 package ou.capstone.notams.prioritize;
 
-import java.util.Locale;
-
 import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamKeywordMatcher;
 
 /**
  * Scores NOTAMs mentioning fuel unavailability.
  */
 public class FuelUnavailableScorer implements NotamScorer {
 
-    // Base weight when any fuel is unavailable
-    protected static final double W_FUEL_UNAVAILABLE = 35.0;
+    // Base weight when any fuel is unavailable, and the serious-case boost
+    protected final ScoringProfile profile;
+
+    public FuelUnavailableScorer() {
+        this(ScoringProfile.builtIn(NotamPrioritizer.Mode.IFR));
+    }
+
+    public FuelUnavailableScorer(final ScoringProfile profile) {
+        this.profile = profile;
+    }
 
     @Override
     public double score(final Notam notam) {
@@ -18,13 +25,9 @@ public class FuelUnavailableScorer implements NotamScorer {
         if (text == null) {
             return 0.0;
         }
-        final String s = text.toUpperCase(Locale.ROOT);
-
-        if (s.contains("FUEL NOT AVBL")
-                || s.contains("FUEL NOT AVAIL")
-                || s.contains("FUEL NOT AVAILABLE")
-                || s.contains("FUEL UNAVAIL")) {
-            return W_FUEL_UNAVAILABLE;
+        // FUEL NOT AVBL, FUEL NOT AVAIL(ABLE), FUEL UNAVAIL anywhere in the text
+        if (notam.getFeatures().has(NotamKeywordMatcher.Keyword.FUEL_UNAVAILABLE)) {
+            return profile.fuelUnavailableWeight();
         }
 
         return 0.0;
@@ -1,5 +1,6 @@
 package ou.capstone.notams.prioritize;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import ou.capstone.notams.Notam;
@@ -16,5 +17,90 @@ public interface NotamPrioritizer {
     List<Notam> prioritize(List<Notam> notams);
     
     double score(Notam notam);
-}
 
+    /**
+     * Scores one NOTAM, with a {@link ScoreTrace} if this prioritizer is
+     * tracing (see {@link #tracing()}); the default records none.
+     */
+    default ScoredNotam scoreDetailed(final Notam notam) {
+        return new ScoredNotam(notam, score(notam));
+    }
+
+    /**
+     * Scores one NOTAM and records why, whether or not this prioritizer is
+     * tracing. Prioritizers that can trace override this; the default records
+     * no trace.
+     */
+    default ScoredNotam explain(final Notam notam) {
+        return scoreDetailed(notam);
+    }
+
+    /**
+     * This prioritizer with tracing on: every {@link ScoredNotam} it returns,
+     * including from {@link #prioritizeScored(List)} and
+     * {@link #prioritizeTopK(List, int)}, carries a {@link ScoreTrace}.
+     * Tracing costs a few allocations per NOTAM; without it scoring allocates
+     * nothing beyond the result.
+     */
+    default NotamPrioritizer tracing() {
+        final NotamPrioritizer untraced = this;
+        return new NotamPrioritizer() {
+            @Override
+            public List<Notam> prioritize(final List<Notam> notams) {
+                return untraced.prioritize(notams);
+            }
+
+            @Override
+            public double score(final Notam notam) {
+                return untraced.score(notam);
+            }
+
+            @Override
+            public ScoredNotam scoreDetailed(final Notam notam) {
+                return untraced.explain(notam);
+            }
+
+            @Override
+            public ScoredNotam explain(final Notam notam) {
+                return untraced.explain(notam);
+            }
+
+            @Override
+            public NotamPrioritizer tracing() {
+                return this;
+            }
+        };
+    }
+
+    /**
+     * A prioritizer fixed to the current settings, such as the scoring profile
+     * and the time recency is measured from, for scoring many NOTAMs alike
+     * across calls. The default returns this prioritizer.
+     */
+    default NotamPrioritizer session() {
+        return this;
+    }
+
+    /**
+     * Like {@link #prioritize(List)}, but scores each NOTAM exactly once and
+     * returns the scores with the NOTAMs, highest priority first.
+     */
+    default List<ScoredNotam> prioritizeScored(final List<Notam> notams) {
+        final List<ScoredNotam> scored = new ArrayList<>(notams.size());
+        for (final Notam n : notams) {
+            scored.add(scoreDetailed(n));
+        }
+        scored.sort(ScoredNotam.PRIORITY_ORDER);
+        return scored;
+    }
+
+    /**
+     * The {@code k} highest-priority NOTAMs in order, selected with a bounded
+     * heap instead of a full sort; the remainder is sorted only on demand.
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    default TopKNotams prioritizeTopK(final List<Notam> notams, final int k) {
+        return TopKNotams.select(this, notams, k);
+    }
+}
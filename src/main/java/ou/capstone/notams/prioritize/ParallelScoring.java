@@ -0,0 +1,86 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import ou.capstone.notams.Notam;
+
+/**
+ * Scores and sorts NOTAMs on the common fork/join pool once a batch is large
+ * enough to pay for the task overhead, and on the calling thread below that.
+ * <p>
+ * Scores land in an array slot per input position, and both sorts used are
+ * stable ({@link List#sort} and {@link Arrays#parallelSort(Object[], java.util.Comparator)}),
+ * so the parallel result is identical to the sequential one, ties included.
+ */
+final class ParallelScoring {
+
+    /**
+     * Batch size from which scoring runs in parallel, from
+     * NOTAM_PARALLEL_SCORING_THRESHOLD (default 4096; see ParallelScoringBenchmark).
+     */
+    static final int DEFAULT_THRESHOLD =
+            Integer.parseInt(System.getenv().getOrDefault("NOTAM_PARALLEL_SCORING_THRESHOLD", "4096"));
+
+    // NOTAMs scored by one fork/join task without splitting further
+    private static final int LEAF_SIZE = 512;
+
+    private ParallelScoring() {
+    }
+
+    /**
+     * Scores every NOTAM once with {@code prioritizer} and returns them in
+     * {@link ScoredNotam#PRIORITY_ORDER}.
+     *
+     * @param threshold batch size from which to use the fork/join pool
+     */
+    static List<ScoredNotam> prioritize(final NotamPrioritizer prioritizer, final List<Notam> notams,
+                                        final int threshold) {
+        final Notam[] in = notams.toArray(new Notam[0]);
+        final ScoredNotam[] out = new ScoredNotam[in.length];
+        if (in.length >= threshold) {
+            ForkJoinPool.commonPool().invoke(new ScoreRange(prioritizer, in, out, 0, in.length));
+            Arrays.parallelSort(out, ScoredNotam.PRIORITY_ORDER);
+            return new ArrayList<>(Arrays.asList(out));
+        }
+        final List<ScoredNotam> scored = new ArrayList<>(in.length);
+        for (final Notam n : in) {
+            scored.add(prioritizer.scoreDetailed(n));
+        }
+        scored.sort(ScoredNotam.PRIORITY_ORDER);
+        return scored;
+    }
+
+    private static final class ScoreRange extends RecursiveAction {
+        private final NotamPrioritizer prioritizer;
+        private final Notam[] in;
+        private final ScoredNotam[] out;
+        private final int from;
+        private final int to;
+
+        ScoreRange(final NotamPrioritizer prioritizer, final Notam[] in, final ScoredNotam[] out,
+                   final int from, final int to) {
+            this.prioritizer = prioritizer;
+            this.in = in;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    out[i] = prioritizer.scoreDetailed(in[i]);
+                }
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            invokeAll(new ScoreRange(prioritizer, in, out, from, mid),
+                    new ScoreRange(prioritizer, in, out, mid, to));
+        }
+    }
+}
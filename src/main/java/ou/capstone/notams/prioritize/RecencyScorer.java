@@ -1,45 +1,57 @@
 package ou.capstone.notams.prioritize;
 
 import java.time.Clock;
-import java.time.Duration;
-import java.time.OffsetDateTime;
 
 import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamFeatures;
 
 /**
  * Scores NOTAMs based on how recent they are.
+ *
+ * Works on the NOTAM's issue time in epoch seconds and the profile's
+ * precomputed decay table, so scoring allocates nothing. For a batch,
+ * {@link #at(long)} fixes "now" so the clock is read once per pass rather
+ * than once per NOTAM.
  */
 public final class RecencyScorer implements NotamScorer {
 
-    // ---- Recency knobs ----
-    private static final double W_RECENCY_MAX = 20.0; // full credit if <= 24h old
-    private static final int RECENCY_HALF_LIFE_HOURS = 72; // exponential decay
-
     private final Clock clock;
+    private final ScoringProfile profile;
+    private final boolean fixed;
+    private final long nowEpochSecond;
 
     public RecencyScorer(final Clock clock) {
+        this(clock, ScoringProfile.builtIn(NotamPrioritizer.Mode.IFR));
+    }
+
+    public RecencyScorer(final Clock clock, final ScoringProfile profile) {
         this.clock = clock;
+        this.profile = profile;
+        this.fixed = false;
+        this.nowEpochSecond = 0L;
+    }
+
+    private RecencyScorer(final ScoringProfile profile, final long nowEpochSecond) {
+        this.clock = null;
+        this.profile = profile;
+        this.fixed = true;
+        this.nowEpochSecond = nowEpochSecond;
+    }
+
+    /** A scorer that measures recency against {@code nowEpochSecond} instead of the clock. */
+    public RecencyScorer at(final long nowEpochSecond) {
+        return new RecencyScorer(profile, nowEpochSecond);
     }
 
     @Override
     public double score(final Notam notam) {
-        final OffsetDateTime issued = notam.getIssued();
-        if (issued == null) {
+        final NotamFeatures features = notam.getFeatures();
+        if (!features.hasIssued()) {
             return 0.0;
         }
-        final long hours = Math.max(
-                0L,
-                Duration.between(issued, OffsetDateTime.now(clock)).toHours()
-        );
-
-        if (hours <= 24L) {
-            return W_RECENCY_MAX;
-        }
-
-        final double decayHours = (double) (hours - 24L);
-        final double factor = Math.pow(0.5,
-                decayHours / (double) RECENCY_HALF_LIFE_HOURS);
-
-        return W_RECENCY_MAX * factor;
+        final long now = fixed ? nowEpochSecond : clock.instant().getEpochSecond();
+        // Whole hours since issue, like Duration.between(issued, now).toHours()
+        final long hours = Math.max(0L, (now - features.issuedEpochSecond()) / 3600L);
+        return profile.recencyScore(hours);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import ou.capstone.notams.NotamKeywordMatcher;
+import ou.capstone.notams.NotamKeywordMatcher.Keyword;
+
+/**
+ * Why a NOTAM got its score: the contribution of each scorer and the keyword
+ * classes found in its text. Only recorded when tracing is on (see
+ * {@link NotamPrioritizer#tracing()}); otherwise scores carry {@link #NONE}.
+ *
+ * @param profile name of the scoring profile used, or null if unknown
+ * @param contributions contribution of each scorer by scorer name, in scoring order
+ * @param keywords keyword classes matched in the NOTAM text
+ */
+public record ScoreTrace(String profile, Map<String, Double> contributions, Set<Keyword> keywords) {
+
+    /** No trace recorded. */
+    public static final ScoreTrace NONE = new ScoreTrace(null, Map.of(), Set.of());
+
+    public ScoreTrace {
+        contributions = (contributions == null || contributions.isEmpty())
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(contributions));
+        keywords = (keywords == null || keywords.isEmpty())
+                ? Set.of()
+                : Collections.unmodifiableSet(EnumSet.copyOf(keywords));
+    }
+
+    /** A trace with the keyword classes set in a {@link NotamKeywordMatcher#scan(String)} mask. */
+    static ScoreTrace of(final String profile, final Map<String, Double> contributions, final int keywords) {
+        final Set<Keyword> matched = EnumSet.noneOf(Keyword.class);
+        for (final Keyword k : Keyword.values()) {
+            if (k.in(keywords)) {
+                matched.add(k);
+            }
+        }
+        return new ScoreTrace(profile, contributions, matched);
+    }
+
+    public boolean isEmpty() {
+        return contributions.isEmpty() && keywords.isEmpty();
+    }
+
+    /**
+     * One-line summary for display, e.g.
+     * {@code ifr: PatternMatchingScorer 90.0 + ProximityScorer 15.0 + RecencyScorer 20.0; keywords CLOSED}.
+     */
+    public String describe() {
+        final StringJoiner parts = new StringJoiner(" + ");
+        for (final Map.Entry<String, Double> e : contributions.entrySet()) {
+            parts.add(String.format(Locale.ROOT, "%s %.1f", e.getKey(), e.getValue()));
+        }
+        final StringBuilder sb = new StringBuilder();
+        if (profile != null) {
+            sb.append(profile).append(": ");
+        }
+        sb.append(parts.length() > 0 ? parts.toString() : "no contributions");
+        sb.append("; keywords ");
+        if (keywords.isEmpty()) {
+            sb.append("none");
+        } else {
+            final StringJoiner names = new StringJoiner(", ");
+            for (final Keyword k : keywords) {
+                names.add(k.name());
+            }
+            sb.append(names);
+        }
+        return sb.toString();
+    }
+}
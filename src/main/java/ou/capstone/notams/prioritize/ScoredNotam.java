@@ -0,0 +1,40 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import ou.capstone.notams.Notam;
+
+/**
+ * A NOTAM together with the score it was ranked by, so callers (e.g. the
+ * display) can reuse the score instead of scoring again.
+ *
+ * @param notam the NOTAM
+ * @param score its total priority score
+ * @param trace how the score was made up; {@link ScoreTrace#NONE} unless the
+ *              prioritizer was tracing
+ */
+public record ScoredNotam(Notam notam, double score, ScoreTrace trace) {
+
+    /** Priority order used by the prioritizers: score desc, issued desc, id. */
+    public static final Comparator<ScoredNotam> PRIORITY_ORDER =
+            Comparator.comparingDouble(ScoredNotam::score).reversed()
+                    .thenComparing(s -> s.notam().getIssued(), Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(s -> s.notam().getId(), Comparator.nullsLast(String::compareTo));
+
+    public ScoredNotam {
+        trace = (trace != null) ? trace : ScoreTrace.NONE;
+    }
+
+    public ScoredNotam(final Notam notam, final double score) {
+        this(notam, score, ScoreTrace.NONE);
+    }
+
+    /**
+     * Contribution of each scorer by scorer name, in scoring order; empty if
+     * no trace was recorded.
+     */
+    public Map<String, Double> breakdown() {
+        return trace.contributions();
+    }
+}
@@ -0,0 +1,269 @@
+package ou.capstone.notams.prioritize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+
+import ou.capstone.notams.NotamKeywordMatcher;
+import ou.capstone.notams.NotamKeywordMatcher.Keyword;
+
+/**
+ * Scoring weights from a profile file, compiled into the form the scorers
+ * evaluate: keyword weights become a table of totals indexed by the keyword
+ * bit mask, type weights a hash lookup, and recency decay a table per hour.
+ * <p>
+ * Profiles are {@code .properties} files; see {@code scoring/ifr.properties}
+ * for every key and the built-in values. A profile may start with
+ * {@code extends=<name>} to inherit another profile's weights and override
+ * some of them. Instances are immutable; {@link ScoringProfiles} reloads
+ * changed files into new instances.
+ */
+public final class ScoringProfile {
+
+    private static final String EXTENDS = "extends";
+
+    // Recency decay is tabulated for up to a year; older NOTAMs use Math.pow
+    private static final int DECAY_TABLE_HOURS = 365 * 24;
+
+    private static final Set<String> SCALAR_KEYS = Set.of(
+            "fuel.unavailable", "fuel.serious",
+            "proximity.nearRadiusNm", "proximity.nearWeight", "proximity.fadeRadiusNm",
+            "proximity.airportWeight", "proximity.regionRadiusNm", "proximity.regionPenalty",
+            "recency.maxWeight", "recency.fullCreditHours", "recency.halfLifeHours");
+
+    private static final Map<NotamPrioritizer.Mode, ScoringProfile> BUILT_IN =
+            new EnumMap<>(NotamPrioritizer.Mode.class);
+
+    private final String name;
+    private final Properties source;
+
+    private final Map<String, Double> typeWeights;
+    private final double[] keywordScores;
+    private final double fuelUnavailableWeight;
+    private final double seriousFuelWeight;
+
+    private final double nearRadiusNm;
+    private final double nearWeight;
+    private final double fadeRadiusNm;
+    private final double airportWeight;
+    private final double regionRadiusNm;
+    private final double regionPenalty;
+
+    private final double recencyMaxWeight;
+    private final long fullCreditHours;
+    private final double halfLifeHours;
+    private final double[] decay;
+
+    private ScoringProfile(final String name, final Properties source) {
+        this.name = name;
+        this.source = source;
+
+        final Map<String, Double> types = new HashMap<>();
+        final double[] keywordWeights = new double[Keyword.values().length];
+        for (final String key : source.stringPropertyNames()) {
+            if (key.equals(EXTENDS) || SCALAR_KEYS.contains(key)) {
+                continue;
+            }
+            if (key.startsWith("type.")) {
+                types.put(key.substring("type.".length()).toUpperCase(Locale.ROOT), number(key));
+            } else if (key.startsWith("keyword.")) {
+                final String keyword = key.substring("keyword.".length());
+                try {
+                    keywordWeights[Keyword.valueOf(keyword).ordinal()] = number(key);
+                } catch (final IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Profile '" + name + "': unknown keyword class " + keyword);
+                }
+            } else {
+                throw new IllegalArgumentException("Profile '" + name + "': unknown key " + key);
+            }
+        }
+        this.typeWeights = Map.copyOf(types);
+
+        // Total for every combination of keywords, summed in keyword order
+        this.keywordScores = new double[1 << keywordWeights.length];
+        for (int mask = 0; mask < keywordScores.length; mask++) {
+            double total = 0.0;
+            for (int k = 0; k < keywordWeights.length; k++) {
+                if ((mask & (1 << k)) != 0) {
+                    total += keywordWeights[k];
+                }
+            }
+            keywordScores[mask] = total;
+        }
+
+        this.fuelUnavailableWeight = number("fuel.unavailable");
+        this.seriousFuelWeight = number("fuel.serious");
+
+        this.nearRadiusNm = number("proximity.nearRadiusNm");
+        this.nearWeight = number("proximity.nearWeight");
+        this.fadeRadiusNm = number("proximity.fadeRadiusNm");
+        this.airportWeight = number("proximity.airportWeight");
+        this.regionRadiusNm = number("proximity.regionRadiusNm");
+        this.regionPenalty = number("proximity.regionPenalty");
+        if (!(fadeRadiusNm > nearRadiusNm)) {
+            throw new IllegalArgumentException("Profile '" + name
+                    + "': proximity.fadeRadiusNm must be greater than proximity.nearRadiusNm");
+        }
+
+        this.recencyMaxWeight = number("recency.maxWeight");
+        this.fullCreditHours = (long) number("recency.fullCreditHours");
+        this.halfLifeHours = number("recency.halfLifeHours");
+        if (!(halfLifeHours > 0)) {
+            throw new IllegalArgumentException("Profile '" + name + "': recency.halfLifeHours must be positive");
+        }
+        this.decay = new double[DECAY_TABLE_HOURS];
+        for (int h = 0; h < decay.length; h++) {
+            decay[h] = recencyMaxWeight * Math.pow(0.5, (double) h / halfLifeHours);
+        }
+    }
+
+    /**
+     * The built-in profile for a flight mode, from {@code scoring/ifr.properties}
+     * or {@code scoring/vfr.properties} on the classpath.
+     */
+    public static synchronized ScoringProfile builtIn(final NotamPrioritizer.Mode mode) {
+        final NotamPrioritizer.Mode m = (mode != null) ? mode : NotamPrioritizer.Mode.IFR;
+        return BUILT_IN.computeIfAbsent(m, key -> {
+            final String profileName = key.name().toLowerCase(Locale.ROOT);
+            return compile(profileName, readResource(profileName), parent -> builtIn(modeNamed(parent)));
+        });
+    }
+
+    /**
+     * Compiles a profile.
+     *
+     * @param name the profile name
+     * @param properties the profile's own keys
+     * @param parents looks up the profile named by {@code extends}
+     * @throws IllegalArgumentException if a key is unknown, a value is not a
+     *         finite number, a required key is missing or the parent is unknown
+     */
+    public static ScoringProfile compile(final String name, final Properties properties,
+                                         final Function<String, ScoringProfile> parents) {
+        final Properties merged = new Properties();
+        final String parentName = properties.getProperty(EXTENDS);
+        if (parentName != null) {
+            final ScoringProfile parent = parents.apply(parentName.trim().toLowerCase(Locale.ROOT));
+            if (parent == null) {
+                throw new IllegalArgumentException("Profile '" + name + "' extends unknown profile " + parentName);
+            }
+            merged.putAll(parent.source);
+        }
+        merged.putAll(properties);
+        merged.remove(EXTENDS);
+        return new ScoringProfile(name, merged);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /** Weight of an upper-cased NOTAM type; 0 for types the profile does not list. */
+    public double typeWeight(final String upperType) {
+        final Double weight = (upperType != null) ? typeWeights.get(upperType) : null;
+        return (weight != null) ? weight : 0.0;
+    }
+
+    /** Sum of the keyword weights for a {@link NotamKeywordMatcher#scan(String)} mask. */
+    public double keywordScore(final int keywords) {
+        return keywordScores[keywords];
+    }
+
+    public double fuelUnavailableWeight() {
+        return fuelUnavailableWeight;
+    }
+
+    public double seriousFuelWeight() {
+        return seriousFuelWeight;
+    }
+
+    /** Proximity credit for a NOTAM radius: full when near, fading linearly, penalized when region-wide. */
+    public double radiusScore(final double radiusNm) {
+        double s;
+        if (radiusNm <= nearRadiusNm) {
+            // Very local NOTAM -> full credit
+            s = nearWeight;
+        } else {
+            final double capped = Math.min(fadeRadiusNm, Math.max(nearRadiusNm, radiusNm));
+            final double factor = (fadeRadiusNm - capped) / (fadeRadiusNm - nearRadiusNm);
+            s = nearWeight * factor;
+        }
+        if (radiusNm >= regionRadiusNm) {
+            s += regionPenalty;
+        }
+        return s;
+    }
+
+    /** Bonus for a NOTAM at the departure or destination airport. */
+    public double airportWeight() {
+        return airportWeight;
+    }
+
+    /** Recency credit for a NOTAM issued {@code hours} whole hours ago (0 if issued later). */
+    public double recencyScore(final long hours) {
+        if (hours <= fullCreditHours) {
+            return recencyMaxWeight;
+        }
+        final long decayHours = hours - fullCreditHours;
+        if (decayHours < decay.length) {
+            return decay[(int) decayHours];
+        }
+        return recencyMaxWeight * Math.pow(0.5, (double) decayHours / halfLifeHours);
+    }
+
+    @Override
+    public String toString() {
+        return "ScoringProfile{" + name + "}";
+    }
+
+    private double number(final String key) {
+        final String value = source.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Profile '" + name + "' is missing " + key);
+        }
+        try {
+            final double d = Double.parseDouble(value.trim());
+            if (!Double.isFinite(d)) {
+                throw new NumberFormatException();
+            }
+            return d;
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Profile '" + name + "': " + key + " must be a number, got: " + value);
+        }
+    }
+
+    private static NotamPrioritizer.Mode modeNamed(final String profileName) {
+        for (final NotamPrioritizer.Mode m : NotamPrioritizer.Mode.values()) {
+            if (m.name().equalsIgnoreCase(profileName)) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    static Properties readResource(final String profileName) {
+        final String path = "/scoring/" + profileName + ".properties";
+        try (InputStream in = ScoringProfile.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Built-in scoring profile not found on classpath: " + path);
+            }
+            final Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            return properties;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
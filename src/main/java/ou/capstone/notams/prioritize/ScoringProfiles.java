@@ -0,0 +1,242 @@
+package ou.capstone.notams.prioritize;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The scoring profiles a prioritizer can be asked to use: the built-in
+ * {@code ifr} and {@code vfr}, plus any {@code <name>.properties} files in a
+ * profile directory, which may also replace the built-ins.
+ * <p>
+ * Files are checked for changes at most once per check interval, on the next
+ * lookup; changed files are recompiled and take effect for the next
+ * prioritization pass. A file that fails to load or compile is logged and the
+ * previous version of that profile stays in use.
+ */
+public final class ScoringProfiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoringProfiles.class);
+
+    private static final String SUFFIX = ".properties";
+
+    private final Path directory;
+    private final Duration checkInterval;
+    private final Clock clock;
+
+    private volatile Map<String, ScoringProfile> profiles = Map.of();
+    private volatile long nextCheckMillis;
+
+    // Last seen modified time and size of each profile file, by profile name
+    private Map<String, String> fingerprints;
+
+    /**
+     * @param directory directory of custom profiles, or null for the built-ins only
+     * @param checkInterval how often to look for changed files
+     * @param clock clock for the check interval
+     */
+    public ScoringProfiles(final Path directory, final Duration checkInterval, final Clock clock) {
+        this.directory = directory;
+        this.checkInterval = checkInterval;
+        this.clock = clock;
+        synchronized (this) {
+            this.fingerprints = fingerprint();
+            this.profiles = compileAll(builtIns());
+            this.nextCheckMillis = clock.millis() + checkInterval.toMillis();
+        }
+    }
+
+    /**
+     * Creates the registry configured from NOTAM_SCORING_PROFILE_DIR (unset:
+     * built-in profiles only) and NOTAM_SCORING_PROFILE_RELOAD_SECONDS
+     * (default 5).
+     */
+    public static ScoringProfiles fromEnvironment() {
+        final String dir = System.getenv("NOTAM_SCORING_PROFILE_DIR");
+        return new ScoringProfiles(
+                (dir == null || dir.isBlank()) ? null : Path.of(dir),
+                Duration.ofSeconds(Long.parseLong(
+                        System.getenv().getOrDefault("NOTAM_SCORING_PROFILE_RELOAD_SECONDS", "5"))),
+                Clock.systemUTC());
+    }
+
+    /**
+     * The current version of a profile, reloading changed files first if the
+     * check interval has passed.
+     *
+     * @param name profile name, case-insensitive
+     * @throws IllegalArgumentException if there is no such profile
+     */
+    public ScoringProfile get(final String name) {
+        reloadIfDue();
+        final String key = (name != null) ? name.trim().toLowerCase(Locale.ROOT) : "";
+        final ScoringProfile profile = profiles.get(key);
+        if (profile == null) {
+            throw new IllegalArgumentException(
+                    "Unknown scoring profile: " + name + " (available: " + String.join(", ", names()) + ")");
+        }
+        return profile;
+    }
+
+    /**
+     * Looks the profile up on every call, so a prioritizer built with it picks
+     * up reloads between passes.
+     *
+     * @throws IllegalArgumentException if there is no such profile now
+     */
+    public Supplier<ScoringProfile> supplier(final String name) {
+        get(name);
+        return () -> get(name);
+    }
+
+    /** Names of the available profiles, sorted. */
+    public Set<String> names() {
+        return new TreeSet<>(profiles.keySet());
+    }
+
+    /** Checks the profile directory for changes now, regardless of the interval. */
+    public synchronized void reload() {
+        nextCheckMillis = clock.millis() + checkInterval.toMillis();
+        final Map<String, String> current = fingerprint();
+        if (!current.equals(fingerprints)) {
+            fingerprints = current;
+            profiles = compileAll(profiles);
+            logger.info("Reloaded scoring profiles from {}: {}", directory, names());
+        }
+    }
+
+    private void reloadIfDue() {
+        if (directory == null || clock.millis() < nextCheckMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (clock.millis() >= nextCheckMillis) {
+                reload();
+            }
+        }
+    }
+
+    private static Map<String, ScoringProfile> builtIns() {
+        final Map<String, ScoringProfile> result = new HashMap<>();
+        for (final NotamPrioritizer.Mode mode : NotamPrioritizer.Mode.values()) {
+            result.put(mode.name().toLowerCase(Locale.ROOT), ScoringProfile.builtIn(mode));
+        }
+        return result;
+    }
+
+    private Map<String, String> fingerprint() {
+        final Map<String, String> result = new HashMap<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return result;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (final Path file : files) {
+                result.put(profileName(file),
+                        Files.getLastModifiedTime(file).toMillis() + ":" + Files.size(file));
+            }
+        } catch (final IOException e) {
+            logger.warn("Could not list scoring profiles in {}: {}", directory, e.getMessage());
+        }
+        return result;
+    }
+
+    /** Compiles the built-ins and every file, falling back to {@code previous} for files that fail. */
+    private Map<String, ScoringProfile> compileAll(final Map<String, ScoringProfile> previous) {
+        final Map<String, Properties> sources = new LinkedHashMap<>();
+        final Set<String> unreadable = new HashSet<>();
+        for (final NotamPrioritizer.Mode mode : NotamPrioritizer.Mode.values()) {
+            final String name = mode.name().toLowerCase(Locale.ROOT);
+            sources.put(name, ScoringProfile.readResource(name));
+        }
+        if (directory != null && Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+                for (final Path file : files) {
+                    final Properties properties = new Properties();
+                    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                        properties.load(reader);
+                        sources.put(profileName(file), properties);
+                    } catch (final IOException | IllegalArgumentException e) {
+                        logger.warn("Could not read scoring profile {}: {}", file, e.getMessage());
+                        unreadable.add(profileName(file));
+                    }
+                }
+            } catch (final IOException e) {
+                logger.warn("Could not list scoring profiles in {}: {}", directory, e.getMessage());
+            }
+        }
+
+        final Compiler compiler = new Compiler(sources, previous);
+        for (final String name : sources.keySet()) {
+            compiler.resolve(name);
+        }
+        for (final String name : unreadable) {
+            if (previous.containsKey(name)) {
+                compiler.compiled.putIfAbsent(name, previous.get(name));
+            }
+        }
+        return Map.copyOf(compiler.compiled);
+    }
+
+    private static String profileName(final Path file) {
+        final String fileName = file.getFileName().toString();
+        return fileName.substring(0, fileName.length() - SUFFIX.length()).toLowerCase(Locale.ROOT);
+    }
+
+    /** Compiles profiles parents first, detecting {@code extends} cycles. */
+    private static final class Compiler {
+        private final Map<String, Properties> sources;
+        private final Map<String, ScoringProfile> previous;
+        private final Map<String, ScoringProfile> compiled = new HashMap<>();
+        private final Set<String> inProgress = new HashSet<>();
+
+        Compiler(final Map<String, Properties> sources, final Map<String, ScoringProfile> previous) {
+            this.sources = sources;
+            this.previous = previous;
+        }
+
+        ScoringProfile resolve(final String name) {
+            final ScoringProfile done = compiled.get(name);
+            if (done != null) {
+                return done;
+            }
+            final Properties source = sources.get(name);
+            if (source == null) {
+                return null;
+            }
+            if (!inProgress.add(name)) {
+                throw new IllegalArgumentException("Scoring profile '" + name + "' is part of an extends cycle");
+            }
+            ScoringProfile profile;
+            try {
+                profile = ScoringProfile.compile(name, source, this::resolve);
+            } catch (final IllegalArgumentException e) {
+                profile = previous.get(name);
+                logger.warn("Invalid scoring profile '{}': {}{}", name, e.getMessage(),
+                        profile != null ? " (keeping the previous version)" : "");
+            } finally {
+                inProgress.remove(name);
+            }
+            if (profile != null) {
+                compiled.put(name, profile);
+            }
+            return profile;
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package ou.capstone.notams.prioritize;
 
-import java.util.Locale;
-
 import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamKeywordMatcher;
 
 /**
  * Extra boost for serious fuel unavailability conditions
@@ -10,7 +9,13 @@ import ou.capstone.notams.Notam;
  */
 public final class SeriousFuelUnScorer extends FuelUnavailableScorer {
 
-    private static final double W_SERIOUS_FUEL = 65.0; // stacked on top of base
+    public SeriousFuelUnScorer() {
+        super();
+    }
+
+    public SeriousFuelUnScorer(final ScoringProfile profile) {
+        super(profile);
+    }
 
     @Override
     public double score(final Notam notam) {
@@ -18,17 +23,13 @@ public final class SeriousFuelUnScorer extends FuelUnavailableScorer {
         if (text == null) {
             return 0.0;
         }
-        final String s = text.toUpperCase(Locale.ROOT);
 
         // Reuse the "normal" fuel scoring
         double base = super.score(notam);
 
         // Serious cases – all fuel / all self-serve out, etc.
-        if (s.contains("ALL FUEL")
-                || s.contains("NO FUEL")
-                || s.contains("SELF SERVE 100LL FUEL NOT AVBL")
-                || s.contains("SELF SERVE JET A FUEL NOT AVBL")) {
-            base += W_SERIOUS_FUEL;
+        if (notam.getFeatures().has(NotamKeywordMatcher.Keyword.SERIOUS_FUEL)) {
+            base += profile.seriousFuelWeight(); // stacked on top of base
         }
 
         return base;
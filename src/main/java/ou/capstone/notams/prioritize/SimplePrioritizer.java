@@ -2,8 +2,9 @@ package ou.capstone.notams.prioritize;
 
 import java.time.Clock;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import ou.capstone.notams.Notam;
 import ou.capstone.notams.prioritize.NotamPrioritizer.Mode;
@@ -17,16 +18,22 @@ import ou.capstone.notams.prioritize.NotamPrioritizer.Mode;
  *  - RecencyScorer (how recent the NOTAM is)
  *
  * This keeps SimplePrioritizer focused on "sort + tie-breaking", and moves
- * scoring details into separate, testable classes.
+ * scoring details into separate, testable classes. The scorers' weights come
+ * from a {@link ScoringProfile}: the built-in one for the flight mode, or one
+ * chosen by name from {@link ScoringProfiles}, fetched once per pass so a
+ * reloaded profile applies from the next pass.
  */
 public class SimplePrioritizer implements NotamPrioritizer {
 
     private final Clock clock;
     private final String departureAirport;
     private final String destinationAirport;
-    private final Mode mode;
+    private final Supplier<ScoringProfile> profile;
+    private final int parallelThreshold;
+    private final boolean tracing;
 
-    private final NotamScorer scorer;
+    // Scorers wired with the last profile seen
+    private volatile Wiring wiring;
 
     /** Default constructor: IFR, system clock, no specific route. */
     public SimplePrioritizer() {
@@ -52,27 +59,198 @@ public class SimplePrioritizer implements NotamPrioritizer {
                              final String departureAirport,
                              final String destinationAirport,
                              final Mode mode) {
+        this(clock, departureAirport, destinationAirport, mode, ParallelScoring.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor for a named or custom scoring profile, e.g.
+     * {@code ScoringProfiles.fromEnvironment().supplier("vfr")}. The supplier
+     * is asked once per prioritization pass.
+     */
+    public SimplePrioritizer(final Clock clock,
+                             final String departureAirport,
+                             final String destinationAirport,
+                             final Supplier<ScoringProfile> profile) {
+        this(clock, departureAirport, destinationAirport, profile, ParallelScoring.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Full constructor with the batch size from which NOTAMs are scored in
+     * parallel; tests and benchmarks use it to force either path.
+     */
+    SimplePrioritizer(final Clock clock,
+                      final String departureAirport,
+                      final String destinationAirport,
+                      final Mode mode,
+                      final int parallelThreshold) {
+        this(clock, departureAirport, destinationAirport,
+                builtIn(mode != null ? mode : Mode.IFR), parallelThreshold);
+    }
+
+    SimplePrioritizer(final Clock clock,
+                      final String departureAirport,
+                      final String destinationAirport,
+                      final Supplier<ScoringProfile> profile,
+                      final int parallelThreshold) {
+        this(clock, departureAirport, destinationAirport, profile, parallelThreshold, false);
+    }
+
+    private SimplePrioritizer(final Clock clock,
+                              final String departureAirport,
+                              final String destinationAirport,
+                              final Supplier<ScoringProfile> profile,
+                              final int parallelThreshold,
+                              final boolean tracing) {
         this.clock = clock;
         this.departureAirport = departureAirport;
         this.destinationAirport = destinationAirport;
-        this.mode = (mode != null) ? mode : Mode.IFR;
+        this.profile = profile;
+        this.parallelThreshold = parallelThreshold;
+        this.tracing = tracing;
+    }
 
-        // Wiring of the scorer.
-        this.scorer = new CompositeNotamScorer(List.of(
-                new PatternMatchingScorer(this.mode),
-                new ProximityScorer(this.departureAirport, this.destinationAirport),
-                new RecencyScorer(this.clock)
-        ));
+    private static Supplier<ScoringProfile> builtIn(final Mode mode) {
+        final ScoringProfile builtIn = ScoringProfile.builtIn(mode);
+        return () -> builtIn;
     }
 
+    /**
+     * Scores each NOTAM once, then sorts; tie-breakers (issued desc, id) provide
+     * stable ordering when scores are equal. See {@link ScoredNotam#PRIORITY_ORDER}.
+     */
     @Override
     public List<Notam> prioritize(final List<Notam> notams) {
-        final List<Notam> copy = new ArrayList<>(notams);
-        // Tie-breakers provide stable ordering when scores are equal
-        copy.sort(Comparator.<Notam>comparingDouble(this::score).reversed()
-                .thenComparing(Notam::getIssued, Comparator.nullsLast(Comparator.reverseOrder()))
-                .thenComparing(Notam::getId, Comparator.nullsLast(String::compareTo)));
-        return copy;
+        final List<ScoredNotam> scored = prioritizeScored(notams);
+        final List<Notam> sorted = new ArrayList<>(scored.size());
+        for (final ScoredNotam s : scored) {
+            sorted.add(s.notam());
+        }
+        return sorted;
+    }
+
+    /**
+     * Scores each NOTAM once, on the fork/join pool for large batches, and
+     * sorts. The order is the same either way.
+     */
+    @Override
+    public List<ScoredNotam> prioritizeScored(final List<Notam> notams) {
+        return ParallelScoring.prioritize(session(), notams, parallelThreshold);
+    }
+
+    @Override
+    public TopKNotams prioritizeTopK(final List<Notam> notams, final int k) {
+        return TopKNotams.select(session(), notams, k);
+    }
+
+    /** Scores a NOTAM, with the contribution of each scorer if tracing. */
+    @Override
+    public ScoredNotam scoreDetailed(final Notam n) {
+        final Wiring w = wiring();
+        return scoreDetailed(w.scorer(), w.profile(), n, tracing);
+    }
+
+    @Override
+    public ScoredNotam explain(final Notam n) {
+        final Wiring w = wiring();
+        return scoreDetailed(w.scorer(), w.profile(), n, true);
+    }
+
+    /** The same prioritizer, recording a {@link ScoreTrace} with every score. */
+    @Override
+    public SimplePrioritizer tracing() {
+        return tracing ? this : new SimplePrioritizer(clock, departureAirport, destinationAirport,
+                profile, parallelThreshold, true);
+    }
+
+    /**
+     * A scoring session: the scorers wired with the current profile and the
+     * clock read once, so every NOTAM in a prioritization pass is scored with
+     * the same weights against the same "now".
+     */
+    @Override
+    public NotamPrioritizer session() {
+        final Wiring w = wiring();
+        return new Session(new CompositeNotamScorer(List.of(w.pattern(), w.proximity(),
+                w.recency().at(clock.instant().getEpochSecond()))), w.profile(), tracing);
+    }
+
+    /** The scorers for the current profile, rebuilt only when the profile changes. */
+    private Wiring wiring() {
+        final ScoringProfile weights = profile.get();
+        Wiring w = wiring;
+        if (w == null || w.profile() != weights) {
+            w = new Wiring(weights,
+                    new PatternMatchingScorer(weights),
+                    new ProximityScorer(departureAirport, destinationAirport, weights),
+                    new RecencyScorer(clock, weights));
+            wiring = w;
+        }
+        return w;
+    }
+
+    private record Wiring(ScoringProfile profile,
+                          PatternMatchingScorer pattern,
+                          ProximityScorer proximity,
+                          RecencyScorer recency,
+                          CompositeNotamScorer scorer) {
+        Wiring(final ScoringProfile profile, final PatternMatchingScorer pattern,
+               final ProximityScorer proximity, final RecencyScorer recency) {
+            this(profile, pattern, proximity, recency,
+                    new CompositeNotamScorer(List.of(pattern, proximity, recency)));
+        }
+    }
+
+    /**
+     * Scores a NOTAM; only when tracing does it build the per-scorer
+     * breakdown, so the untraced path allocates nothing but the result.
+     */
+    private static ScoredNotam scoreDetailed(final CompositeNotamScorer scorer, final ScoringProfile profile,
+                                             final Notam n, final boolean trace) {
+        if (n == null) {
+            return new ScoredNotam(null, 0.0);
+        }
+        if (!trace) {
+            return new ScoredNotam(n, scorer.score(n));
+        }
+        final Map<String, Double> breakdown = scorer.breakdown(n);
+        double total = 0.0;
+        for (final double part : breakdown.values()) {
+            total += part;
+        }
+        return new ScoredNotam(n, total,
+                ScoreTrace.of(profile.name(), breakdown, n.getFeatures().keywords()));
+    }
+
+    private static final class Session implements NotamPrioritizer {
+        private final CompositeNotamScorer scorer;
+        private final ScoringProfile profile;
+        private final boolean tracing;
+
+        Session(final CompositeNotamScorer scorer, final ScoringProfile profile, final boolean tracing) {
+            this.scorer = scorer;
+            this.profile = profile;
+            this.tracing = tracing;
+        }
+
+        @Override
+        public List<Notam> prioritize(final List<Notam> notams) {
+            return prioritizeScored(notams).stream().map(ScoredNotam::notam).toList();
+        }
+
+        @Override
+        public double score(final Notam n) {
+            return n != null ? scorer.score(n) : 0.0;
+        }
+
+        @Override
+        public ScoredNotam scoreDetailed(final Notam n) {
+            return SimplePrioritizer.scoreDetailed(scorer, profile, n, tracing);
+        }
+
+        @Override
+        public ScoredNotam explain(final Notam n) {
+            return SimplePrioritizer.scoreDetailed(scorer, profile, n, true);
+        }
     }
 
     /**
@@ -84,7 +262,7 @@ public class SimplePrioritizer implements NotamPrioritizer {
         if (n == null) {
             return 0.0;
         }
-        return scorer.score(n);
+        return wiring().scorer().score(n);
     }
 
     /**
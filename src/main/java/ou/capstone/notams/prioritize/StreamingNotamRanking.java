@@ -0,0 +1,110 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamDeduplication;
+
+/**
+ * Incremental dedup + ranking for NOTAMs that arrive in batches, e.g. one
+ * batch per route waypoint as fetches complete.
+ * <p>
+ * Each NOTAM is deduplicated on arrival (same rules as
+ * {@link NotamDeduplication#dedup(List)}) and scored once. The survivors are
+ * kept in priority order, so the current top K is available at any time without
+ * re-sorting. Once every batch has been added, {@link #ranked()} equals
+ * {@code prioritizer.prioritize(NotamDeduplication.dedup(all))} for a
+ * {@link SimplePrioritizer} (up to the order of NOTAMs tying on score, issue
+ * time and id, which dedup only allows for blank ids; those are kept in arrival
+ * order).
+ * <p>
+ * Thread-safe; batches may be added from the threads completing the fetches.
+ */
+public final class StreamingNotamRanking {
+
+    private final NotamPrioritizer session;
+    private final NotamDeduplication.Accumulator dedup = new NotamDeduplication.Accumulator();
+    private final Map<Notam, Entry> entries = new IdentityHashMap<>();
+    // Same order as SimplePrioritizer.prioritize: score desc, issued desc, id; then arrival
+    private final TreeSet<Entry> ranked = new TreeSet<>(
+            Comparator.comparing(Entry::scored, ScoredNotam.PRIORITY_ORDER).thenComparingLong(Entry::sequence));
+    private long nextSequence;
+    private int received;
+
+    /** A held NOTAM's score and its arrival number, which makes every entry distinct in the set. */
+    private record Entry(ScoredNotam scored, long sequence) {}
+
+    /**
+     * @param prioritizer scores every batch with one {@link NotamPrioritizer#session()}
+     *        taken now, so later batches see the same profile and "now" as the first
+     */
+    public StreamingNotamRanking(final NotamPrioritizer prioritizer) {
+        this.session = prioritizer.session();
+    }
+
+    /**
+     * Adds a batch of NOTAMs, replacing any less preferred duplicates already held.
+     */
+    public synchronized void addAll(final List<Notam> batch) {
+        for (final Notam n : batch) {
+            if (n == null) {
+                continue;
+            }
+            received++;
+            final Notam displaced = dedup.add(n);
+            if (displaced == n) {
+                continue;
+            }
+            if (displaced != null) {
+                ranked.remove(entries.remove(displaced));
+            }
+            final Entry entry = new Entry(session.scoreDetailed(n), nextSequence++);
+            entries.put(n, entry);
+            ranked.add(entry);
+        }
+    }
+
+    /** The {@code k} highest-priority unique NOTAMs received so far. */
+    public synchronized List<Notam> topK(final int k) {
+        final List<Notam> top = new ArrayList<>(Math.min(k, ranked.size()));
+        final Iterator<Entry> it = ranked.iterator();
+        while (top.size() < k && it.hasNext()) {
+            top.add(it.next().scored().notam());
+        }
+        return top;
+    }
+
+    /** Every unique NOTAM received so far, highest priority first. */
+    public synchronized List<Notam> ranked() {
+        final List<Notam> notams = new ArrayList<>(ranked.size());
+        for (final Entry e : ranked) {
+            notams.add(e.scored().notam());
+        }
+        return notams;
+    }
+
+    /** Like {@link #ranked()}, with the score each NOTAM was ranked by. */
+    public synchronized List<ScoredNotam> rankedScored() {
+        final List<ScoredNotam> scored = new ArrayList<>(ranked.size());
+        for (final Entry e : ranked) {
+            scored.add(e.scored());
+        }
+        return scored;
+    }
+
+    /** NOTAMs received, including duplicates. */
+    public synchronized int receivedCount() {
+        return received;
+    }
+
+    /** Unique NOTAMs held after dedup. */
+    public synchronized int uniqueCount() {
+        return ranked.size();
+    }
+}
@@ -0,0 +1,93 @@
+package ou.capstone.notams.prioritize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import ou.capstone.notams.Notam;
+
+/**
+ * Result of {@link NotamPrioritizer#prioritizeTopK(List, int)}: the K
+ * highest-priority NOTAMs in order, plus the remaining NOTAMs, which are only
+ * sorted if someone asks for them.
+ * <p>
+ * {@code top()} followed by {@code rest()} is exactly
+ * {@link NotamPrioritizer#prioritizeScored(List)}, including the order of ties.
+ */
+public final class TopKNotams {
+
+    // Position in the input breaks full ties, matching the stable full sort
+    private record Entry(ScoredNotam scored, int index) { }
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.<Entry, ScoredNotam>comparing(Entry::scored, ScoredNotam.PRIORITY_ORDER)
+                    .thenComparingInt(Entry::index);
+
+    private final List<ScoredNotam> top;
+    private List<Entry> unsortedRest;
+    private List<ScoredNotam> rest;
+
+    private TopKNotams(final List<ScoredNotam> top, final List<Entry> unsortedRest) {
+        this.top = top;
+        this.unsortedRest = unsortedRest;
+    }
+
+    /**
+     * Scores every NOTAM once and keeps the best {@code k} in a bounded
+     * min-heap, so selecting them costs O(n log k) rather than a full sort.
+     *
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    static TopKNotams select(final NotamPrioritizer prioritizer, final List<Notam> notams, final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative, got: " + k);
+        }
+        // Head is the worst NOTAM kept so far
+        final PriorityQueue<Entry> heap = new PriorityQueue<>(Math.max(1, Math.min(k, notams.size())),
+                ORDER.reversed());
+        final List<Entry> rest = new ArrayList<>(Math.max(0, notams.size() - k));
+        for (int i = 0; i < notams.size(); i++) {
+            final Entry entry = new Entry(prioritizer.scoreDetailed(notams.get(i)), i);
+            if (heap.size() < k) {
+                heap.add(entry);
+            } else if (k > 0 && ORDER.compare(entry, heap.peek()) < 0) {
+                rest.add(heap.poll());
+                heap.add(entry);
+            } else {
+                rest.add(entry);
+            }
+        }
+
+        final ScoredNotam[] top = new ScoredNotam[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll().scored();
+        }
+        return new TopKNotams(List.of(top), rest);
+    }
+
+    /** The K highest-priority NOTAMs (fewer if there were fewer), best first. */
+    public List<ScoredNotam> top() {
+        return top;
+    }
+
+    /** Every other NOTAM, best first. Sorted on the first call. */
+    public synchronized List<ScoredNotam> rest() {
+        if (rest == null) {
+            unsortedRest.sort(ORDER);
+            final List<ScoredNotam> sorted = new ArrayList<>(unsortedRest.size());
+            for (final Entry entry : unsortedRest) {
+                sorted.add(entry.scored());
+            }
+            rest = Collections.unmodifiableList(sorted);
+            unsortedRest = null;
+        }
+        return rest;
+    }
+
+    /** Number of NOTAMs prioritized, top and rest together. */
+    public synchronized int totalCount() {
+        return top.size() + (rest != null ? rest.size() : unsortedRest.size());
+    }
+}
@@ -54,7 +54,24 @@ public class RouteCalculator {
                                                 int segments) {
         logger.debug("Starting route interpolation with {} segments between ({}, {}) and ({}, {})", 
                      segments, lat1Deg, lon1Deg, lat2Deg, lon2Deg);
-        
+
+        double[] fractions = new double[segments + 1];
+        for (int i = 0; i <= segments; i++) {
+            fractions[i] = (double) i / segments;
+        }
+
+        List<Coordinate> coords = pointsAlongRoute(lat1Deg, lon1Deg, lat2Deg, lon2Deg, fractions);
+        logger.debug("Route interpolation completed. Generated {} coordinates", coords.size());
+        return coords;
+    }
+
+    /**
+     * Points at the given fractions (0 = start, 1 = end) of the great-circle route,
+     * computed by spherical linear interpolation.
+     */
+    public static List<Coordinate> pointsAlongRoute(double lat1Deg, double lon1Deg,
+                                                    double lat2Deg, double lon2Deg,
+                                                    double... fractions) {
         double lat1 = Math.toRadians(lat1Deg);
         double lon1 = Math.toRadians(lon1Deg);
         double lat2 = Math.toRadians(lat2Deg);
@@ -75,18 +92,17 @@ public class RouteCalculator {
         dot = Math.max(-1.0, Math.min(1.0, dot));
         double theta = Math.acos(dot);
 
-        List<Coordinate> coords = new ArrayList<>(segments + 1);
+        List<Coordinate> coords = new ArrayList<>(fractions.length);
 
         // If points are identical or nearly so, just return the start
         if (theta < 1e-12) {
             logger.debug("Points are identical or nearly identical (theta={}), returning {} identical coordinates", 
-                         theta, segments + 1);
-            for (int i = 0; i <= segments; i++) coords.add(new Coordinate(lat1Deg, lon1Deg));
+                         theta, fractions.length);
+            for (int i = 0; i < fractions.length; i++) coords.add(new Coordinate(lat1Deg, lon1Deg));
             return coords;
         }
 
-        for (int i = 0; i <= segments; i++) {
-            double t = (double) i / segments;
+        for (double t : fractions) {
             double A = Math.sin((1 - t) * theta) / Math.sin(theta);
             double B = Math.sin(t * theta) / Math.sin(theta);
 
@@ -99,7 +115,6 @@ public class RouteCalculator {
 
             coords.add(new Coordinate(Math.toDegrees(phi), Math.toDegrees(lambda)));
         }
-        logger.debug("Route interpolation completed. Generated {} coordinates", coords.size());
         return coords;
     }
 
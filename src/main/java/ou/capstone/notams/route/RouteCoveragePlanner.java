@@ -0,0 +1,93 @@
+package ou.capstone.notams.route;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans the fewest query circles that cover a corridor around a route.
+ * <p>
+ * The corridor is every point within {@code halfWidthNm} of the great-circle
+ * track between the two endpoints, including a half-disc around each endpoint.
+ * Circles of radius {@code R} are centred on the track:
+ * <ul>
+ *   <li>Two circles {@code s = 2 * sqrt(R^2 - w^2)} apart jointly cover the full
+ *       corridor width {@code w} between them, so that is the widest spacing.</li>
+ *   <li>The first and last circles sit {@code R - w} in from the endpoints, the
+ *       farthest inset at which they still cover the half-disc at each end.</li>
+ * </ul>
+ * The circle count is the minimum for centres on the track; spacing is then
+ * evened out so the circles overlap by the same amount everywhere.
+ * <p>
+ * Distances along and across the track are treated as planar, which is accurate
+ * to well under a nautical mile for corridor widths of tens of miles.
+ */
+public final class RouteCoveragePlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouteCoveragePlanner.class);
+
+    private RouteCoveragePlanner() {
+    }
+
+    /**
+     * Half-width of the corridor fully covered by circles of radius
+     * {@code radiusNm} centred on the track every {@code spacingNm}:
+     * {@code sqrt(R^2 - (s/2)^2)}, where neighbouring circles cross.
+     *
+     * @throws IllegalArgumentException if the spacing is not positive or not less than twice the radius
+     */
+    public static double halfWidthForSpacing(final double radiusNm, final double spacingNm) {
+        if (!(spacingNm > 0) || spacingNm >= 2 * radiusNm) {
+            throw new IllegalArgumentException("Spacing must be in (0, 2 * radius), got: "
+                    + spacingNm + " with radius " + radiusNm);
+        }
+        return Math.sqrt(radiusNm * radiusNm - spacingNm * spacingNm / 4);
+    }
+
+    /**
+     * Returns circle centres covering the corridor around the route.
+     *
+     * @param lat1Deg departure latitude
+     * @param lon1Deg departure longitude
+     * @param lat2Deg destination latitude
+     * @param lon2Deg destination longitude
+     * @param radiusNm radius of each query circle
+     * @param halfWidthNm half-width of the corridor to cover, less than {@code radiusNm}
+     * @return circle centres in route order (at least one)
+     * @throws IllegalArgumentException if the radius or half-width are out of range
+     */
+    public static List<Coordinate> planCoverage(final double lat1Deg, final double lon1Deg,
+                                                final double lat2Deg, final double lon2Deg,
+                                                final double radiusNm, final double halfWidthNm) {
+        if (!(radiusNm > 0)) {
+            throw new IllegalArgumentException("Radius must be positive, got: " + radiusNm);
+        }
+        if (!(halfWidthNm >= 0) || halfWidthNm >= radiusNm) {
+            throw new IllegalArgumentException("Corridor half-width must be in [0, radius), got: "
+                    + halfWidthNm + " with radius " + radiusNm);
+        }
+
+        final double totalNm = RouteCalculator.distanceNm(lat1Deg, lon1Deg, lat2Deg, lon2Deg);
+        final double inset = radiusNm - halfWidthNm;
+        final double maxSpacing = 2 * Math.sqrt(radiusNm * radiusNm - halfWidthNm * halfWidthNm);
+
+        final double[] fractions;
+        if (totalNm <= 2 * inset) {
+            // One circle at the midpoint reaches both ends
+            fractions = new double[] { 0.5 };
+        } else {
+            final int gaps = (int) Math.ceil((totalNm - 2 * inset) / maxSpacing);
+            final double spacing = (totalNm - 2 * inset) / gaps;
+            fractions = new double[gaps + 1];
+            for (int i = 0; i <= gaps; i++) {
+                fractions[i] = (inset + i * spacing) / totalNm;
+            }
+        }
+
+        logger.info("Planned {} query circles ({} NM radius) covering a {} NM corridor along {} NM route",
+                fractions.length, radiusNm, 2 * halfWidthNm, Math.round(totalNm));
+
+        return RouteCalculator.pointsAlongRoute(lat1Deg, lon1Deg, lat2Deg, lon2Deg, fractions);
+    }
+}
@@ -1,9 +1,12 @@
 package ou.capstone.notams;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+
 import org.apache.commons.cli.ParseException;
 import org.junit.jupiter.api.Test;
 
@@ -94,4 +97,17 @@ public class AppArgParsingTest
             App.main( params );
         } );
     }
+
+    @Test
+    public void testTimeBudgetParsesFractionalSeconds()
+    {
+        assertEquals( Duration.ofMillis( 2500 ), App.parseTimeBudget( "2.5" ) );
+    }
+
+    @Test
+    public void testInvalidTimeBudgetThrowsException()
+    {
+        assertThrows( IllegalArgumentException.class, () -> App.parseTimeBudget( "soon" ) );
+        assertThrows( IllegalArgumentException.class, () -> App.parseTimeBudget( "0" ) );
+    }
 }
@@ -0,0 +1,103 @@
+package ou.capstone.notams;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.NotamKeywordMatcher.Keyword;
+
+class NotamKeywordMatcherTest {
+
+    // The regexes and contains() checks the scorers used before the matcher
+    private static final Map<Keyword, Predicate<String>> REFERENCE = Map.of(
+            Keyword.CLOSED, regex("\\b(CLOSED|CLSD)\\b"),
+            Keyword.UNSERVICEABLE, regex("\\b(UNSERVICEABLE|U/S)\\b"),
+            Keyword.MAINT, regex("\\b(MAINT|MAINTENANCE)\\b"),
+            Keyword.NAVAID, regex("\\b(NAVAID|VOR/DME?|VOR\\b|NDB\\b|ILS\\b|LOC\\b|GPS\\b|GLS\\b)"),
+            Keyword.FUEL_NOT_AVAILABLE, regex("\\bFUEL\\b.*\\bNOT\\s+AV(?:AIL(?:ABLE)?|BL)\\b"),
+            Keyword.UAS, regex("\\b(UAS|UNMANNED|DRONE)\\b"),
+            Keyword.GLIDER, regex("\\b(GLD|GLIDER)\\b"),
+            Keyword.HIGH_SPEED, regex("\\b(HIGH\\s*SPEED|HIGHSPD|HI-SPD)\\b"),
+            Keyword.FUEL_UNAVAILABLE, contains("FUEL NOT AVBL", "FUEL NOT AVAIL", "FUEL UNAVAIL"),
+            Keyword.SERIOUS_FUEL, contains("ALL FUEL", "NO FUEL",
+                    "SELF SERVE 100LL FUEL NOT AVBL", "SELF SERVE JET A FUEL NOT AVBL"));
+
+    private static final String[] WORDS = {
+            "CLOSED", "clsd", "CLSDX", "XCLSD", "UNSERVICEABLE", "U/S", "u/s", "U/SX", "MAINT", "MAINTENANCE",
+            "MAINTX", "NAVAID", "NAVAIDS", "VOR", "VOR/DME", "VOR/DM", "VORTAC", "NDB", "ILS", "LOC", "LOCX",
+            "GPS", "GLS", "FUEL", "fuel", "FUELS", "NOT", "CANNOT", "AVBL", "AVAIL", "AVAILABLE", "AVAILABILITY",
+            "UNAVAIL", "UAS", "UNMANNED", "DRONE", "DRONES", "GLD", "GLIDER", "HIGH", "SPEED", "HIGHSPEED",
+            "HIGHSPD", "HI-SPD", "ALL", "NO", "SELF", "SERVE", "100LL", "JET", "A", "RWY", "_", "-", "/", "1",
+    };
+
+    private static final String[] SEPARATORS = { " ", " ", " ", "  ", "\t", "\n", "\r\n", "", "-", "/", ",", "_" };
+
+    private static Predicate<String> regex(final String pattern) {
+        final Pattern p = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+        return text -> p.matcher(text).find();
+    }
+
+    private static Predicate<String> contains(final String... needles) {
+        return text -> {
+            final String s = text.toUpperCase(Locale.ROOT);
+            for (final String needle : needles) {
+                if (s.contains(needle)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static Set<Keyword> expected(final String text) {
+        final Set<Keyword> found = EnumSet.noneOf(Keyword.class);
+        REFERENCE.forEach((keyword, matches) -> {
+            if (matches.test(text)) {
+                found.add(keyword);
+            }
+        });
+        return found;
+    }
+
+    @Test
+    void matchesTypicalNotamTexts() {
+        assertEquals(EnumSet.of(Keyword.CLOSED), NotamKeywordMatcher.keywords("RWY 17L/35R CLSD"));
+        assertEquals(EnumSet.of(Keyword.NAVAID, Keyword.UNSERVICEABLE),
+                NotamKeywordMatcher.keywords("VOR/DME OKC U/S"));
+        assertEquals(EnumSet.of(Keyword.FUEL_NOT_AVAILABLE, Keyword.FUEL_UNAVAILABLE, Keyword.SERIOUS_FUEL),
+                NotamKeywordMatcher.keywords("SELF SERVE 100LL FUEL NOT AVBL"));
+        assertEquals(EnumSet.of(Keyword.FUEL_NOT_AVAILABLE, Keyword.MAINT),
+                NotamKeywordMatcher.keywords("JET A FUEL IS NOT\n AVAILABLE DUE TO MAINT"));
+        assertEquals(EnumSet.of(Keyword.HIGH_SPEED), NotamKeywordMatcher.keywords("HIGH \t SPEED MIL OPS"));
+        assertEquals(EnumSet.noneOf(Keyword.class), NotamKeywordMatcher.keywords(null));
+    }
+
+    @Test
+    void fuelAndNotOnDifferentLinesDoNotMatch() {
+        assertEquals(EnumSet.noneOf(Keyword.class), NotamKeywordMatcher.keywords("FUEL\nNOT AVBL"));
+        assertEquals(EnumSet.of(Keyword.FUEL_NOT_AVAILABLE),
+                NotamKeywordMatcher.keywords("FUEL\nNOT AVBL FUEL, NOT AVBL"));
+    }
+
+    @Test
+    void agreesWithTheRegularExpressionsOnRandomTexts() {
+        final Random random = new Random(19);
+        for (int i = 0; i < 20_000; i++) {
+            final StringBuilder text = new StringBuilder();
+            final int words = 1 + random.nextInt(8);
+            for (int w = 0; w < words; w++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]);
+                text.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+            }
+            final String s = text.toString();
+            assertEquals(expected(s), NotamKeywordMatcher.keywords(s), () -> "Text: '" + s + "'");
+        }
+    }
+}
@@ -2,6 +2,8 @@ package ou.capstone.notams;
 
 import org.junit.jupiter.api.Test;
 import java.time.OffsetDateTime;
+
+import ou.capstone.notams.NotamKeywordMatcher.Keyword;
 import static org.junit.jupiter.api.Assertions.*;
 
 class NotamTest {
@@ -29,4 +31,26 @@ class NotamTest {
         assertEquals(3.0, n.getRadiusNm(), 1e-6);
         assertTrue(n.getText().contains("CLOSED"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void derivesScoringFeaturesOnce() {
+        Notam n = new Notam.Builder()
+                .id("N556")
+                .number("5/32")
+                .type("runway")
+                .issued(OffsetDateTime.parse("2025-09-28T07:00:00-05:00"))
+                .location("katl")
+                .text("RWY 8L/26R CLSD FOR MAINT")
+                .build();
+
+        NotamFeatures features = n.getFeatures();
+
+        assertSame(features, n.getFeatures());
+        assertEquals("RUNWAY", features.type());
+        assertEquals("KATL", features.location());
+        assertEquals(OffsetDateTime.parse("2025-09-28T12:00:00Z").toEpochSecond(), features.issuedEpochSecond());
+        assertTrue(features.has(Keyword.CLOSED));
+        assertTrue(features.has(Keyword.MAINT));
+        assertFalse(features.has(Keyword.NAVAID));
+    }
+}
@@ -0,0 +1,105 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.exceptions.NotamException;
+import ou.capstone.notams.exceptions.RateLimitException;
+import ou.capstone.notams.api.AdaptiveConcurrencyLimiter.Outcome;
+import ou.capstone.notams.api.AdaptiveConcurrencyLimiter.Permit;
+
+class AdaptiveConcurrencyLimiterTest
+{
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    private final AtomicLong now = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter( final int initial )
+    {
+        return new AdaptiveConcurrencyLimiter( initial, 1, 20, 0.5, 3.0, now::get );
+    }
+
+    private void completeRound( final AdaptiveConcurrencyLimiter limiter, final Outcome outcome )
+    {
+        final int n = limiter.metrics().limit();
+        final Permit[] permits = new Permit[n];
+        for( int i = 0; i < n; i++ ) {
+            permits[i] = limiter.acquire().join();
+        }
+        now.addAndGet( 100 * MS );
+        for( final Permit p : permits ) {
+            p.release( outcome );
+        }
+    }
+
+    @Test
+    void growsByAboutOnePerHealthyRound()
+    {
+        final AdaptiveConcurrencyLimiter limiter = limiter( 4 );
+
+        completeRound( limiter, Outcome.SUCCESS );
+        assertEquals( 5, limiter.metrics().limit() );
+        completeRound( limiter, Outcome.SUCCESS );
+        assertEquals( 6, limiter.metrics().limit() );
+        assertEquals( 2, limiter.metrics().history().size() );
+    }
+
+    @Test
+    void halvesOnceOnRateLimitingPerRound()
+    {
+        final AdaptiveConcurrencyLimiter limiter = limiter( 8 );
+
+        completeRound( limiter, Outcome.DROPPED );
+        assertEquals( 4, limiter.metrics().limit(), "A burst of 429s in one round cuts only once" );
+        assertEquals( 1, limiter.metrics().decreases() );
+
+        completeRound( limiter, Outcome.DROPPED );
+        assertEquals( 2, limiter.metrics().limit() );
+    }
+
+    @Test
+    void slowResponsesCountAsCongestion()
+    {
+        final AdaptiveConcurrencyLimiter limiter = limiter( 8 );
+        completeRound( limiter, Outcome.SUCCESS );
+
+        final Permit slow = limiter.acquire().join();
+        now.addAndGet( 1000 * MS );
+        slow.release( Outcome.SUCCESS );
+
+        assertEquals( 4, limiter.metrics().limit() );
+    }
+
+    @Test
+    void queuesAboveTheLimitAndAdmitsOnRelease()
+    {
+        final AdaptiveConcurrencyLimiter limiter = limiter( 1 );
+        final Permit first = limiter.acquire().join();
+        final CompletableFuture<Permit> second = limiter.acquire();
+        assertFalse( second.isDone() );
+        assertEquals( 1, limiter.metrics().queued() );
+
+        first.release( Outcome.IGNORED );
+        assertTrue( second.isDone() );
+        assertEquals( 1, limiter.metrics().inFlight() );
+        assertThrows( IllegalStateException.class, () -> first.release( Outcome.IGNORED ) );
+    }
+
+    @Test
+    void classifiesRateLimitsAndTimeoutsAsDropped()
+    {
+        assertEquals( Outcome.DROPPED, AdaptiveConcurrencyLimiter.outcomeOf( new RateLimitException( "429" ) ) );
+        assertEquals( Outcome.DROPPED, AdaptiveConcurrencyLimiter.outcomeOf(
+                new NotamException( new HttpTimeoutException( "timed out" ) ) ) );
+        assertEquals( Outcome.IGNORED, AdaptiveConcurrencyLimiter.outcomeOf( new NotamException( "500" ) ) );
+    }
+}
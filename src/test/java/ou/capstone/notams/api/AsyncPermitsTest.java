@@ -0,0 +1,65 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncPermitsTest
+{
+    @Test
+    void grantsImmediatelyWhilePermitsAvailable()
+    {
+        final AsyncPermits permits = new AsyncPermits( 2 );
+
+        assertTrue( permits.acquire().isDone() );
+        assertTrue( permits.acquire().isDone() );
+        assertEquals( 0, permits.available() );
+    }
+
+    @Test
+    void queuesWaitersAndServesThemInOrder()
+    {
+        final AsyncPermits permits = new AsyncPermits( 1 );
+        permits.acquire();
+
+        final CompletableFuture<Void> first = permits.acquire();
+        final CompletableFuture<Void> second = permits.acquire();
+        assertFalse( first.isDone() );
+        assertFalse( second.isDone() );
+
+        permits.release();
+        assertTrue( first.isDone(), "Oldest waiter should get the released permit" );
+        assertFalse( second.isDone() );
+
+        permits.release();
+        assertTrue( second.isDone() );
+
+        permits.release();
+        assertEquals( 1, permits.available() );
+    }
+
+    @Test
+    void skipsCancelledWaiters()
+    {
+        final AsyncPermits permits = new AsyncPermits( 1 );
+        permits.acquire();
+
+        final CompletableFuture<Void> cancelled = permits.acquire();
+        final CompletableFuture<Void> live = permits.acquire();
+        cancelled.cancel( false );
+
+        permits.release();
+        assertTrue( live.isDone() && !live.isCancelled() );
+    }
+
+    @Test
+    void rejectsNonPositivePermits()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new AsyncPermits( 0 ) );
+    }
+}
@@ -0,0 +1,204 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DiskResponseCacheTest
+{
+    /** Clock whose time can be advanced by the test. */
+    private static final class MutableClock extends Clock
+    {
+        private Instant now = Instant.parse( "2025-10-04T21:00:00Z" );
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone( final ZoneId zone )
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return now;
+        }
+
+        void advance( final Duration d )
+        {
+            now = now.plus( d );
+        }
+    }
+
+    private static final String KEY = "responseFormat=geoJson&locationLatitude=35.45&locationLongitude=-97.55"
+            + "&locationRadius=54&pageSize=200&pageNum=1";
+
+    private final MutableClock clock = new MutableClock();
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory( "notam-cache-test" );
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException
+    {
+        try( Stream<Path> files = Files.walk( directory ) ) {
+            for( final Path file : files.sorted( Comparator.reverseOrder() ).toList() ) {
+                Files.deleteIfExists( file );
+            }
+        }
+    }
+
+    private static byte[] page( final int items )
+    {
+        final StringBuilder json = new StringBuilder( "{\"pageNum\":1,\"totalPages\":1,\"items\":[" );
+        for( int i = 0; i < items; i++ ) {
+            json.append( i == 0 ? "" : "," ).append( "{\"id\":\"" ).append( i )
+                    .append( "\",\"text\":\"RWY 17L/35R CLSD\"}" );
+        }
+        return json.append( "]}" ).toString().getBytes( StandardCharsets.UTF_8 );
+    }
+
+    private List<Path> cacheFiles() throws IOException
+    {
+        try( Stream<Path> files = Files.list( directory ) ) {
+            return files.toList();
+        }
+    }
+
+    @Test
+    void storesCompressedPagesThatSurviveANewInstance() throws IOException
+    {
+        final byte[] body = page( 200 );
+        new DiskResponseCache( directory, Duration.ofMinutes( 10 ), 1024 * 1024, clock ).put( KEY, body );
+
+        final List<Path> files = cacheFiles();
+        assertEquals( 1, files.size() );
+        assertTrue( Files.size( files.get( 0 ) ) < body.length / 4, "Page should be stored gzip-compressed" );
+
+        final DiskResponseCache reopened = new DiskResponseCache( directory, Duration.ofMinutes( 10 ),
+                1024 * 1024, clock );
+        assertArrayEquals( body, reopened.get( KEY ).orElseThrow() );
+        assertEquals( 1, reopened.stats().hits() );
+    }
+
+    @Test
+    void expiredPagesAreOnlyServedStale() throws IOException
+    {
+        final DiskResponseCache cache = new DiskResponseCache( directory, Duration.ofMinutes( 10 ), 1024 * 1024,
+                clock );
+        final byte[] body = page( 3 );
+        cache.put( KEY, body );
+
+        clock.advance( Duration.ofMinutes( 11 ) );
+        assertTrue( cache.get( KEY ).isEmpty() );
+        assertArrayEquals( body, cache.getStale( KEY ).orElseThrow() );
+
+        final DiskResponseCache.Stats stats = cache.stats();
+        assertEquals( 1, stats.misses() );
+        assertEquals( 1, stats.staleHits() );
+    }
+
+    @Test
+    void fallbackStopsAtTheMaxStaleAge() throws IOException
+    {
+        final DiskResponseCache cache = new DiskResponseCache( directory, Duration.ofMinutes( 10 ),
+                Duration.ofHours( 1 ), 1024 * 1024, clock );
+        final byte[] body = page( 3 );
+        cache.put( KEY, body );
+
+        clock.advance( Duration.ofMinutes( 59 ) );
+        final DiskResponseCache.Stored stored = cache.getFallback( KEY ).orElseThrow();
+        assertArrayEquals( body, stored.body() );
+        assertEquals( clock.instant().minus( Duration.ofMinutes( 59 ) ), stored.storedAt() );
+
+        clock.advance( Duration.ofMinutes( 2 ) );
+        assertTrue( cache.getFallback( KEY ).isEmpty(), "Too old to stand in for the API" );
+        assertArrayEquals( body, cache.getStale( KEY ).orElseThrow() );
+    }
+
+    @Test
+    void oldestHitIsTheStoreTimeOfTheOldestFreshPage() throws IOException
+    {
+        final DiskResponseCache cache = new DiskResponseCache( directory, Duration.ofMinutes( 10 ), 1024 * 1024,
+                clock );
+        assertTrue( cache.oldestHit().isEmpty() );
+
+        final Instant first = clock.instant();
+        cache.put( KEY + 1, page( 3 ) );
+        clock.advance( Duration.ofMinutes( 5 ) );
+        cache.put( KEY + 2, page( 3 ) );
+
+        cache.get( KEY + 2 );
+        cache.get( KEY + 1 );
+        assertEquals( first, cache.oldestHit().orElseThrow() );
+    }
+
+    @Test
+    void unknownKeyIsAMiss() throws IOException
+    {
+        final DiskResponseCache cache = new DiskResponseCache( directory, Duration.ofMinutes( 10 ), 1024 * 1024,
+                clock );
+        assertTrue( cache.get( KEY ).isEmpty() );
+        assertTrue( cache.getStale( KEY ).isEmpty() );
+    }
+
+    @Test
+    void corruptFilesAreTreatedAsMisses() throws IOException
+    {
+        final DiskResponseCache cache = new DiskResponseCache( directory, Duration.ofMinutes( 10 ), 1024 * 1024,
+                clock );
+        cache.put( KEY, page( 3 ) );
+        Files.write( cacheFiles().get( 0 ), "not a cache file".getBytes( StandardCharsets.UTF_8 ) );
+
+        assertTrue( cache.get( KEY ).isEmpty() );
+    }
+
+    @Test
+    void evictsOldestPagesOverTheSizeCap() throws IOException
+    {
+        final DiskResponseCache cache = new DiskResponseCache( directory, Duration.ofMinutes( 10 ), 4096, clock );
+
+        // Incompressible bodies so each file is roughly 1.5 KiB
+        final Random random = new Random( 7 );
+        for( int i = 0; i < 6; i++ ) {
+            final byte[] body = new byte[1500];
+            random.nextBytes( body );
+            cache.put( KEY + i, body );
+        }
+
+        long total = 0;
+        for( final Path file : cacheFiles() ) {
+            total += Files.size( file );
+        }
+        assertTrue( total <= 4096, "Cache should stay under its cap, was " + total );
+        assertTrue( cache.stats().evictions() > 0 );
+        assertTrue( cache.get( KEY + 5 ).isPresent(), "Newest page should survive eviction" );
+    }
+}
@@ -0,0 +1,59 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FaaHttpClientSettingsTest
+{
+    @AfterEach
+    void restoreDefaults()
+    {
+        FaaNotamApiWrapper.configureHttpClient( FaaHttpClientSettings.defaults() );
+    }
+
+    @Test
+    void defaultsPreferHttp2()
+    {
+        final FaaHttpClientSettings settings = FaaHttpClientSettings.defaults();
+        assertEquals( HttpClient.Version.HTTP_2, settings.httpVersion() );
+    }
+
+    @Test
+    void rejectsNonPositiveConnectionCap()
+    {
+        assertThrows( IllegalArgumentException.class,
+                () -> new FaaHttpClientSettings( HttpClient.Version.HTTP_1_1,
+                        Duration.ofSeconds( 5 ), null, 0 ) );
+    }
+
+    @Test
+    void rejectsNonPositiveConnectTimeout()
+    {
+        assertThrows( IllegalArgumentException.class,
+                () -> new FaaHttpClientSettings( HttpClient.Version.HTTP_1_1,
+                        Duration.ZERO, null, 4 ) );
+    }
+
+    @Test
+    void sharedClientIsReusedUntilReconfigured()
+    {
+        final HttpClient first = FaaNotamApiWrapper.httpClient();
+        assertSame( first, FaaNotamApiWrapper.httpClient(),
+                "Client should be shared between requests" );
+
+        FaaNotamApiWrapper.configureHttpClient( new FaaHttpClientSettings(
+                HttpClient.Version.HTTP_1_1, Duration.ofSeconds( 5 ), null, 4 ) );
+
+        final HttpClient second = FaaNotamApiWrapper.httpClient();
+        assertNotSame( first, second, "Reconfiguring should build a new client" );
+        assertEquals( HttpClient.Version.HTTP_1_1, second.version() );
+    }
+}
@@ -40,6 +40,9 @@ public class FaaNotamApiWrapperTest
             wrapper.when( () -> FaaNotamApiWrapper.fetchAllPages(
                             ArgumentMatchers.any(), ArgumentMatchers.anyInt() ) )
                     .thenCallRealMethod();
+            wrapper.when( () -> FaaNotamApiWrapper.fetchAllPages(
+                            ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt() ) )
+                    .thenCallRealMethod();
 
             wrapper.when( () -> FaaNotamApiWrapper.fetchRawJson(
                             ArgumentMatchers.any(), ArgumentMatchers.anyInt() ) )
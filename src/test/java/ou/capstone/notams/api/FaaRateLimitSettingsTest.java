@@ -0,0 +1,49 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FaaRateLimitSettingsTest
+{
+    @AfterEach
+    void restoreDefaults()
+    {
+        FaaNotamApiWrapper.configureRateLimit( FaaRateLimitSettings.defaults() );
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap()
+    {
+        final FaaRateLimitSettings settings = new FaaRateLimitSettings( 5, 10, 6,
+                Duration.ofSeconds( 1 ), Duration.ofSeconds( 5 ) );
+
+        assertEquals( Duration.ofSeconds( 1 ), settings.backoff( 0 ) );
+        assertEquals( Duration.ofSeconds( 2 ), settings.backoff( 1 ) );
+        assertEquals( Duration.ofSeconds( 4 ), settings.backoff( 2 ) );
+        assertEquals( Duration.ofSeconds( 5 ), settings.backoff( 3 ) );
+        assertEquals( Duration.ofSeconds( 5 ), settings.backoff( 100 ) );
+    }
+
+    @Test
+    void rejectsInvalidSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new FaaRateLimitSettings( 0, 10, 4,
+                Duration.ofSeconds( 1 ), Duration.ofSeconds( 30 ) ) );
+        assertThrows( IllegalArgumentException.class, () -> new FaaRateLimitSettings( 5, 10, -1,
+                Duration.ofSeconds( 1 ), Duration.ofSeconds( 30 ) ) );
+        assertThrows( IllegalArgumentException.class, () -> new FaaRateLimitSettings( 5, 10, 4,
+                Duration.ofSeconds( 30 ), Duration.ofSeconds( 1 ) ) );
+    }
+
+    @Test
+    void wrapperAcceptsNewSettings()
+    {
+        FaaNotamApiWrapper.configureRateLimit( new FaaRateLimitSettings( 1, 1, 0,
+                Duration.ZERO, Duration.ZERO ) );
+    }
+}
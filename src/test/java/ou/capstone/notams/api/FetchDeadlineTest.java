@@ -0,0 +1,156 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class FetchDeadlineTest
+{
+    private final AtomicLong now = new AtomicLong( 1_000L );
+
+    @Test
+    void unboundedDeadlineNeverExpiresAndUsesTheCap()
+    {
+        final FetchDeadline deadline = FetchDeadline.none();
+
+        assertFalse( deadline.isBounded() );
+        assertFalse( deadline.isExpired() );
+        assertEquals( 30, deadline.requestTimeoutSeconds( 30 ) );
+    }
+
+    @Test
+    void requestTimeoutShrinksWithTheRemainingBudget()
+    {
+        final FetchDeadline deadline = FetchDeadline.after( Duration.ofSeconds( 45 ), now::get );
+        assertEquals( 30, deadline.requestTimeoutSeconds( 30 ), "Capped at the per-request timeout" );
+
+        now.addAndGet( Duration.ofMillis( 42_500 ).toNanos() );
+        assertEquals( 3, deadline.requestTimeoutSeconds( 30 ), "2.5 s left rounds up to 3 s" );
+
+        now.addAndGet( Duration.ofMillis( 2_400 ).toNanos() );
+        assertEquals( 1, deadline.requestTimeoutSeconds( 30 ) );
+        assertFalse( deadline.isExpired() );
+    }
+
+    @Test
+    void expiresOnceTheBudgetIsSpent()
+    {
+        final FetchDeadline deadline = FetchDeadline.after( Duration.ofSeconds( 3 ), now::get );
+
+        now.addAndGet( Duration.ofSeconds( 3 ).toNanos() );
+        assertTrue( deadline.isExpired() );
+        assertEquals( 0L, deadline.remainingNanos() );
+        assertEquals( 1, deadline.requestTimeoutSeconds( 30 ), "Never hands out a zero timeout" );
+    }
+
+    @Test
+    void cancelExpiresTheDeadlineAndAbortsTrackedExchanges()
+    {
+        final FetchDeadline deadline = FetchDeadline.unbounded();
+        final CompletableFuture<String> inFlight = new CompletableFuture<>();
+        final CompletableFuture<String> finished = CompletableFuture.completedFuture( "done" );
+        assertSame( inFlight, deadline.track( inFlight ) );
+        deadline.track( finished );
+
+        deadline.cancel();
+
+        assertTrue( deadline.isExpired() );
+        assertTrue( inFlight.isCancelled() );
+        assertFalse( finished.isCancelled() );
+    }
+
+    @Test
+    void exchangeTrackedAfterCancelIsCancelledAtOnce()
+    {
+        final FetchDeadline deadline = FetchDeadline.after( Duration.ofSeconds( 30 ), now::get );
+        deadline.cancel();
+
+        final CompletableFuture<String> late = deadline.track( new CompletableFuture<>() );
+
+        assertTrue( late.isCancelled() );
+    }
+
+    @Test
+    void forkIsCancelledWithItsParentButNotTheOtherWayRound()
+    {
+        final FetchDeadline deadline = FetchDeadline.unbounded();
+        final FetchDeadline loser = deadline.fork();
+        final FetchDeadline winner = deadline.fork();
+        final CompletableFuture<String> loserExchange = loser.track( new CompletableFuture<>() );
+        final CompletableFuture<String> winnerExchange = winner.track( new CompletableFuture<>() );
+
+        loser.cancel();
+        assertTrue( loserExchange.isCancelled() );
+        assertFalse( winnerExchange.isCancelled() );
+        assertFalse( deadline.isExpired() );
+
+        deadline.cancel();
+        assertTrue( winnerExchange.isCancelled() );
+        assertTrue( winner.isExpired() );
+    }
+
+    @Test
+    void sharedDeadlineLastsAsLongAsItsLongestMember()
+    {
+        final FetchDeadline shared = FetchDeadline.shared();
+        assertTrue( shared.isExpired(), "Nobody is waiting yet" );
+
+        final FetchDeadline shortBudget = FetchDeadline.after( Duration.ofSeconds( 5 ), now::get );
+        final FetchDeadline longBudget = FetchDeadline.after( Duration.ofSeconds( 20 ), now::get );
+        assertTrue( shared.join( shortBudget ) );
+        assertTrue( shared.join( longBudget ) );
+        assertTrue( shared.isBounded() );
+        assertEquals( 20, shared.requestTimeoutSeconds( 30 ) );
+
+        now.addAndGet( Duration.ofSeconds( 10 ).toNanos() );
+        assertFalse( shared.isExpired(), "The longer budget is still running" );
+        assertEquals( 10, shared.requestTimeoutSeconds( 30 ) );
+
+        assertTrue( shared.join( FetchDeadline.none() ) );
+        assertFalse( shared.isBounded() );
+    }
+
+    @Test
+    void sharedDeadlineIsCancelledOnceEveryMemberHasLeft()
+    {
+        final FetchDeadline shared = FetchDeadline.shared();
+        shared.join( FetchDeadline.unbounded() );
+        shared.join( FetchDeadline.unbounded() );
+        final CompletableFuture<String> exchange = shared.track( new CompletableFuture<>() );
+        final AtomicLong cancelled = new AtomicLong();
+        shared.onCancel( cancelled::incrementAndGet );
+
+        shared.leave();
+        assertFalse( exchange.isCancelled(), "One member is still waiting" );
+
+        shared.leave();
+        assertTrue( exchange.isCancelled() );
+        assertTrue( shared.isExpired() );
+        assertEquals( 1L, cancelled.get() );
+        assertFalse( shared.join( FetchDeadline.unbounded() ), "Nobody may join work being cancelled" );
+
+        shared.onCancel( cancelled::incrementAndGet );
+        assertEquals( 2L, cancelled.get(), "Runs at once once cancelled" );
+    }
+
+    @Test
+    void sharedUnboundedDeadlineCannotBeCancelled()
+    {
+        assertThrows( UnsupportedOperationException.class, () -> FetchDeadline.none().cancel() );
+        assertFalse( FetchDeadline.none().isExpired() );
+    }
+
+    @Test
+    void rejectsNonPositiveBudget()
+    {
+        assertThrows( IllegalArgumentException.class, () -> FetchDeadline.after( Duration.ZERO ) );
+    }
+}
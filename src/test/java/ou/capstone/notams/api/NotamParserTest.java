@@ -4,6 +4,9 @@ import ou.capstone.notams.Notam;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -505,5 +508,79 @@ class NotamParserTest {
         assertEquals(1, notams.size());
         assertNotNull(notams.get(0).getIssued());
     }
-}
 
+    @Test
+    void testParsePageReadsPaginationAndNotamsInOnePass() throws Exception {
+        final String page1 = Files.readString(Path.of("src/test/resources/pages/okc-page-1.json"));
+        final String page2 = Files.readString(Path.of("src/test/resources/pages/okc-page-2.json"));
+
+        final NotamParser.ParsedPage first = parser.parsePage(page1);
+        assertEquals(1, first.pageNum());
+        assertEquals(2, first.totalPages());
+        assertEquals(10, first.notams().size());
+
+        final NotamParser.ParsedPage second = parser.parsePage(page2);
+        assertEquals(2, second.pageNum());
+        assertEquals(3, second.notams().size());
+    }
+
+    @Test
+    void testParsePageFromBytesAndStreamMatchesString() throws Exception {
+        final Path page = Path.of("src/test/resources/pages/okc-page-1.json");
+        final List<Notam> fromString = parser.parsePage(Files.readString(page)).notams();
+        final List<Notam> fromBytes = parser.parsePage(Files.readAllBytes(page)).notams();
+        final List<Notam> fromStream;
+        try (InputStream in = Files.newInputStream(page)) {
+            fromStream = parser.parsePage(in).notams();
+        }
+
+        assertEquals(fromString.stream().map(Notam::getId).toList(),
+                fromBytes.stream().map(Notam::getId).toList());
+        assertEquals(fromString.stream().map(Notam::getId).toList(),
+                fromStream.stream().map(Notam::getId).toList());
+        assertEquals(fromString.get(0).getText(), fromBytes.get(0).getText());
+    }
+
+    @Test
+    void testParsePageSkipsTranslationsButKeepsNotamFields() {
+        String geoJson = """
+            {
+              "items": [
+                {
+                  "type": "Feature",
+                  "properties": {
+                    "coreNOTAMData": {
+                      "notamEvent": { "scenario": "802" },
+                      "notam": {
+                        "id": "N1",
+                        "number": "1/001",
+                        "issued": "2025-10-01T12:00:00Z",
+                        "icaoLocation": "KOKC",
+                        "text": "RWY 17L CLSD"
+                      },
+                      "notamTranslation": [ { "type": "LOCAL_FORMAT", "simpleText": "!OKC 1/001" } ]
+                    }
+                  },
+                  "geometry": { "type": "Point", "coordinates": [-97.6, 35.4] }
+                }
+              ],
+              "pageNum": 1,
+              "totalPages": 1
+            }
+            """;
+
+        final NotamParser.ParsedPage page = parser.parsePage(geoJson);
+
+        assertEquals(1, page.pageNum());
+        assertEquals(1, page.totalPages());
+        assertEquals(1, page.notams().size());
+        assertEquals("KOKC", page.notams().get(0).getLocation());
+        assertEquals(35.4, page.notams().get(0).getLatitude(), 0.0001);
+    }
+
+    @Test
+    void testParseRejectsNonArrayItems() {
+        assertThrows(IllegalArgumentException.class,
+                () -> parser.parseGeoJson("{\"items\": {\"id\": 1}}"));
+    }
+}
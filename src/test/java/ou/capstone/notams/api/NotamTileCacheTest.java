@@ -0,0 +1,119 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.route.RouteCalculator;
+
+class NotamTileCacheTest
+{
+    /** Clock whose time can be advanced by the test. */
+    private static final class MutableClock extends Clock
+    {
+        private Instant now = Instant.parse( "2025-10-04T21:00:00Z" );
+
+        @Override
+        public ZoneId getZone()
+        {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone( final ZoneId zone )
+        {
+            return this;
+        }
+
+        @Override
+        public Instant instant()
+        {
+            return now;
+        }
+
+        void advance( final Duration d )
+        {
+            now = now.plus( d );
+        }
+    }
+
+    private final MutableClock clock = new MutableClock();
+
+    private static List<Notam> notams( final String id )
+    {
+        return List.of( new Notam.Builder()
+                .id( id )
+                .number( "5/31" )
+                .type( "N" )
+                .issued( OffsetDateTime.parse( "2025-10-04T20:00:00Z" ) )
+                .text( "TEST" )
+                .build() );
+    }
+
+    @Test
+    void nearbyPointsShareATileWhoseQueryCoversBoth()
+    {
+        final NotamTileCache cache = new NotamTileCache( 0.1, Duration.ofMinutes( 5 ), 10, clock );
+
+        final NotamTileCache.Tile a = cache.tileFor( 35.3931, -97.6007, 50 );
+        final NotamTileCache.Tile b = cache.tileFor( 35.3501, -97.6502, 50 );
+        assertEquals( a.key(), b.key() );
+
+        for( final double[] p : new double[][] { { 35.3931, -97.6007 }, { 35.3501, -97.6502 } } ) {
+            final double toCentre = RouteCalculator.distanceNm( p[0], p[1], a.latitude(), a.longitude() );
+            assertTrue( toCentre + 50 <= a.radiusNm(), "Tile query must cover the requested circle" );
+        }
+
+        assertNotEquals( a.key(), cache.tileFor( 35.3931, -97.6007, 25 ).key(),
+                "Different radii are cached separately" );
+    }
+
+    @Test
+    void countsHitsAndMissesAndExpiresAfterTtl()
+    {
+        final NotamTileCache cache = new NotamTileCache( 0.1, Duration.ofMinutes( 5 ), 10, clock );
+        final NotamTileCache.TileKey key = cache.tileFor( 35.39, -97.60, 50 ).key();
+
+        assertTrue( cache.get( key ).isEmpty() );
+        cache.put( key, notams( "N1" ) );
+        assertEquals( "N1", cache.get( key ).orElseThrow().get( 0 ).getId() );
+
+        clock.advance( Duration.ofMinutes( 6 ) );
+        assertTrue( cache.get( key ).isEmpty() );
+
+        final NotamTileCache.Stats stats = cache.stats();
+        assertEquals( 1, stats.hits() );
+        assertEquals( 2, stats.misses() );
+        assertEquals( 1, stats.expirations() );
+        assertEquals( 0, stats.size() );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedTileWhenFull()
+    {
+        final NotamTileCache cache = new NotamTileCache( 1.0, Duration.ofMinutes( 5 ), 2, clock );
+        final NotamTileCache.TileKey k1 = cache.tileFor( 35.5, -97.5, 50 ).key();
+        final NotamTileCache.TileKey k2 = cache.tileFor( 36.5, -97.5, 50 ).key();
+        final NotamTileCache.TileKey k3 = cache.tileFor( 37.5, -97.5, 50 ).key();
+
+        cache.put( k1, notams( "N1" ) );
+        cache.put( k2, notams( "N2" ) );
+        cache.get( k1 );
+        cache.put( k3, notams( "N3" ) );
+
+        assertTrue( cache.get( k1 ).isPresent(), "Recently used tile should survive" );
+        assertTrue( cache.get( k2 ).isEmpty(), "Least recently used tile should be evicted" );
+        assertEquals( 1, cache.stats().evictions() );
+    }
+}
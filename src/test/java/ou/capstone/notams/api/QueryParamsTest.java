@@ -1,5 +1,7 @@
 package ou.capstone.notams.api;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -32,4 +34,18 @@ public class QueryParamsTest
         final FaaNotamApiWrapper.QueryParamsBuilder qpb = new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ).pageNum(999);
         assertTrue( qpb.build().contains("pageNum=" + pageNum), "QueryParamsBuilder did not use correct page size" );
     }
+
+    @Test
+    public void testForPageCopiesWithoutModifyingOriginal() {
+        final FaaNotamApiWrapper.QueryParamsBuilder original =
+                new FaaNotamApiWrapper.QueryParamsBuilder( 35.39, -97.60, 25 ).pageSize( 200 );
+        final FaaNotamApiWrapper.QueryParamsBuilder page3 = original.forPage( 3 );
+
+        assertTrue( original.build().contains( "pageNum=1" ), "forPage should not modify the original builder" );
+        assertTrue( page3.build().contains( "pageNum=3" ), "Copy did not use the requested page" );
+        assertTrue( page3.build().contains( "pageSize=200" ), "Copy did not keep the page size" );
+        assertTrue( page3.build().contains( "locationRadius=25" ), "Copy did not keep the radius" );
+        assertNotEquals( original, page3 );
+        assertEquals( original, page3.forPage( 1 ) );
+    }
 }
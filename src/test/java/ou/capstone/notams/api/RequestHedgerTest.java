@@ -0,0 +1,127 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RequestHedgerTest
+{
+    private static final FaaHedgeSettings SETTINGS =
+            new FaaHedgeSettings( true, 95, 20, 5, Duration.ofMillis( 20 ) );
+
+    /** Feeds the latency window with immediately answered requests. */
+    private static void warmUp( final RequestHedger hedger )
+    {
+        for( int i = 0; i < SETTINGS.minSamples(); i++ ) {
+            hedger.execute( () -> CompletableFuture.completedFuture( "fast" ), () -> true, discarded -> { } ).join();
+        }
+    }
+
+    @Test
+    void doesNotHedgeWhileWarmingUp()
+    {
+        final RequestHedger hedger = new RequestHedger( SETTINGS );
+        assertTrue( hedger.hedgeDelay().isEmpty() );
+
+        warmUp( hedger );
+        assertEquals( Duration.ofMillis( 20 ), hedger.hedgeDelay().orElseThrow(),
+                "Fast responses fall back to the minimum delay" );
+    }
+
+    @Test
+    void slowRequestIsHedgedAndHedgeWins()
+    {
+        final RequestHedger hedger = new RequestHedger( SETTINGS );
+        warmUp( hedger );
+
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        final Queue<CompletableFuture<String>> attempts = new ConcurrentLinkedQueue<>( List.of( slow,
+                CompletableFuture.completedFuture( "hedge" ) ) );
+        final List<String> discarded = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<String> result = hedger.execute( () -> attempts.poll(), () -> true,
+                discarded::add );
+
+        assertEquals( "hedge", result.orTimeout( 5, TimeUnit.SECONDS ).join() );
+        assertTrue( slow.isCancelled(), "Losing copy should be cancelled" );
+        assertEquals( List.of(), discarded );
+
+        final RequestHedger.Metrics metrics = hedger.metrics();
+        assertEquals( 1, metrics.hedgesSent() );
+        assertEquals( 1, metrics.hedgeWins() );
+        assertEquals( 1.0 / (SETTINGS.minSamples() + 1), metrics.hedgeRate(), 1e-9 );
+        assertTrue( metrics.timeSaved().compareTo( Duration.ZERO ) >= 0 );
+    }
+
+    @Test
+    void hedgeIsSuppressedWhenNotAllowed() throws Exception
+    {
+        final RequestHedger hedger = new RequestHedger( SETTINGS );
+        warmUp( hedger );
+
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        final CompletableFuture<String> result = hedger.execute( () -> slow, () -> false, discarded -> { } );
+
+        Thread.sleep( 100 );
+        assertFalse( result.isDone() );
+        assertEquals( 0, hedger.metrics().hedgesSent() );
+        assertEquals( 1, hedger.metrics().hedgesSuppressed() );
+
+        slow.complete( "primary" );
+        assertEquals( "primary", result.join() );
+    }
+
+    @Test
+    void failsOnlyOnceEveryAttemptHasFailed()
+    {
+        final RequestHedger hedger = new RequestHedger( SETTINGS );
+        warmUp( hedger );
+
+        final CompletableFuture<String> primary = new CompletableFuture<>();
+        final CompletableFuture<String> hedge = new CompletableFuture<>();
+        final Queue<CompletableFuture<String>> attempts = new ConcurrentLinkedQueue<>( List.of( primary, hedge ) );
+        final CompletableFuture<String> result = hedger.execute( () -> attempts.poll(), () -> true,
+                discarded -> { } );
+
+        // Wait until the hedge has been sent
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+        while( !attempts.isEmpty() && System.nanoTime() < deadline ) {
+            Thread.onSpinWait();
+        }
+        primary.completeExceptionally( new IllegalStateException( "primary failed" ) );
+        assertFalse( result.isDone(), "The hedge may still succeed" );
+
+        hedge.completeExceptionally( new IllegalStateException( "hedge failed" ) );
+        assertThrows( CompletionException.class, result::join );
+    }
+
+    @Test
+    void disabledSettingsNeverHedge()
+    {
+        final RequestHedger hedger = new RequestHedger(
+                new FaaHedgeSettings( false, 95, 20, 5, Duration.ofMillis( 20 ) ) );
+        warmUp( hedger );
+        assertTrue( hedger.hedgeDelay().isEmpty() );
+    }
+
+    @Test
+    void rejectsInvalidSettings()
+    {
+        assertThrows( IllegalArgumentException.class,
+                () -> new FaaHedgeSettings( true, 100, 20, 5, Duration.ZERO ) );
+        assertThrows( IllegalArgumentException.class,
+                () -> new FaaHedgeSettings( true, 95, 20, 21, Duration.ZERO ) );
+    }
+}
@@ -0,0 +1,38 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class RetryAfterTest
+{
+    private static final Instant NOW = Instant.parse( "2025-10-21T07:28:00Z" );
+
+    @Test
+    void parsesDeltaSeconds()
+    {
+        assertEquals( Optional.of( Duration.ofSeconds( 120 ) ), RetryAfter.parse( " 120 ", NOW ) );
+    }
+
+    @Test
+    void parsesHttpDate()
+    {
+        assertEquals( Optional.of( Duration.ofSeconds( 30 ) ),
+                RetryAfter.parse( "Tue, 21 Oct 2025 07:28:30 GMT", NOW ) );
+        assertEquals( Optional.of( Duration.ZERO ),
+                RetryAfter.parse( "Tue, 21 Oct 2025 07:00:00 GMT", NOW ), "Past dates mean retry now" );
+    }
+
+    @Test
+    void ignoresMissingOrMalformedValues()
+    {
+        assertTrue( RetryAfter.parse( null, NOW ).isEmpty() );
+        assertTrue( RetryAfter.parse( "soon", NOW ).isEmpty() );
+        assertTrue( RetryAfter.parse( "-5", NOW ).isEmpty() );
+    }
+}
@@ -0,0 +1,42 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.route.Coordinate;
+
+class RouteCoverageReportTest
+{
+    private static final Coordinate A = new Coordinate( 35.39, -97.60 );
+    private static final Coordinate B = new Coordinate( 36.00, -95.00 );
+    private static final Coordinate C = new Coordinate( 37.00, -92.00 );
+
+    @Test
+    void completeWhenNothingIsMissing()
+    {
+        final RouteCoverageReport report = new RouteCoverageReport( List.of( A, B, C ), List.of(), List.of(),
+                Duration.ofMillis( 1200 ) );
+
+        assertTrue( report.isComplete() );
+        assertEquals( 3, report.completedCount() );
+        assertTrue( report.missing().isEmpty() );
+    }
+
+    @Test
+    void namesTimedOutAndFailedWaypoints()
+    {
+        final RouteCoverageReport report = new RouteCoverageReport( List.of( A, B, C ), List.of( C ),
+                List.of( A ), Duration.ofSeconds( 3 ) );
+
+        assertFalse( report.isComplete() );
+        assertEquals( 1, report.completedCount() );
+        assertEquals( List.of( C, A ), report.missing() );
+        assertTrue( report.toString().contains( "1 of 3 waypoints" ), report.toString() );
+    }
+}
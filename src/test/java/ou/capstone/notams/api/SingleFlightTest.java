@@ -0,0 +1,189 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.exceptions.NotamException;
+import ou.capstone.notams.exceptions.RateLimitException;
+
+class SingleFlightTest
+{
+    private final SingleFlight<FaaNotamApiWrapper.QueryParamsBuilder, List<String>> flights = new SingleFlight<>();
+
+    @Test
+    void concurrentEqualQueriesShareOneCall()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<List<String>> upstream = new CompletableFuture<>();
+
+        final CompletableFuture<List<String>> first = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ),
+                () -> { calls.incrementAndGet(); return upstream; } );
+        final CompletableFuture<List<String>> second = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ),
+                () -> { calls.incrementAndGet(); return upstream; } );
+
+        upstream.complete( List.of( "page-1" ) );
+        assertSame( first.join(), second.join() );
+        assertEquals( 1, calls.get() );
+        assertEquals( 1, flights.coalesced() );
+    }
+
+    @Test
+    void differentQueriesAreNotCoalesced()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        flights.execute( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ),
+                () -> { calls.incrementAndGet(); return new CompletableFuture<>(); } );
+        flights.execute( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ).pageSize( 200 ),
+                () -> { calls.incrementAndGet(); return new CompletableFuture<>(); } );
+
+        assertEquals( 2, calls.get() );
+    }
+
+    @Test
+    void completedCallsAreNotReused()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        for( int i = 0; i < 2; i++ ) {
+            flights.execute( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ),
+                    () -> CompletableFuture.completedFuture( List.of( "call-" + calls.incrementAndGet() ) ) ).join();
+        }
+        assertEquals( 2, calls.get() );
+        assertEquals( 0, flights.coalesced() );
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotCancelOthers()
+    {
+        final CompletableFuture<List<String>> upstream = new CompletableFuture<>();
+        final CompletableFuture<List<String>> first = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), () -> upstream );
+        final CompletableFuture<List<String>> second = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), () -> upstream );
+
+        first.cancel( true );
+        upstream.complete( List.of( "page-1" ) );
+        assertFalse( second.isCancelled() );
+        assertEquals( List.of( "page-1" ), second.join() );
+    }
+
+    @Test
+    void callersWithDifferentDeadlinesShareOneCall()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<List<String>> upstream = new CompletableFuture<>();
+        final FetchDeadline[] callDeadline = new FetchDeadline[1];
+        final FetchDeadline firstRoute = FetchDeadline.unbounded();
+        final FetchDeadline secondRoute = FetchDeadline.unbounded();
+
+        final CompletableFuture<List<String>> first = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), firstRoute,
+                shared -> { calls.incrementAndGet(); callDeadline[0] = shared; return upstream; } );
+        final CompletableFuture<List<String>> second = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), secondRoute,
+                shared -> { calls.incrementAndGet(); return upstream; } );
+        assertEquals( 1, calls.get() );
+
+        firstRoute.cancel();
+        assertTrue( first.isCancelled(), "The cancelled route stops waiting at once" );
+        assertFalse( callDeadline[0].isExpired(), "The other route still needs the call" );
+
+        upstream.complete( List.of( "page-1" ) );
+        assertEquals( List.of( "page-1" ), second.join() );
+    }
+
+    @Test
+    void callIsCancelledOnceEveryCallerHasCancelled()
+    {
+        final CompletableFuture<List<String>> exchange = new CompletableFuture<>();
+        final FetchDeadline firstRoute = FetchDeadline.unbounded();
+        final FetchDeadline secondRoute = FetchDeadline.unbounded();
+
+        flights.execute( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), firstRoute,
+                shared -> shared.track( exchange ) );
+        final CompletableFuture<List<String>> second = flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), secondRoute,
+                shared -> { throw new AssertionError( "Should join the call in flight" ); } );
+
+        firstRoute.cancel();
+        assertFalse( exchange.isCancelled() );
+        second.cancel( true );
+        assertTrue( exchange.isCancelled() );
+
+        final AtomicInteger calls = new AtomicInteger();
+        flights.execute( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), FetchDeadline.unbounded(),
+                shared -> { calls.incrementAndGet(); return new CompletableFuture<>(); } );
+        assertEquals( 1, calls.get(), "A later caller starts a fresh call" );
+    }
+
+    @Test
+    void errorsDoNotLeaveTheKeyInFlight() throws Exception
+    {
+        assertThrows( StackOverflowError.class, () -> flights.executeBlocking(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), () -> { throw new StackOverflowError(); } ) );
+        assertThrows( StackOverflowError.class, () -> flights.execute(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), () -> { throw new StackOverflowError(); } ) );
+
+        assertEquals( List.of( "page-1" ), flights.executeBlocking(
+                new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), () -> List.of( "page-1" ) ) );
+        assertEquals( 0, flights.coalesced() );
+    }
+
+    @Test
+    void blockingJoinerReceivesLeadersFailure() throws Exception
+    {
+        final CountDownLatch leaderStarted = new CountDownLatch( 1 );
+        final CountDownLatch release = new CountDownLatch( 1 );
+
+        final Thread leader = new Thread( () -> {
+            try {
+                flights.executeBlocking( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ), () -> {
+                    leaderStarted.countDown();
+                    try {
+                        release.await();
+                    }
+                    catch( final InterruptedException e ) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new RateLimitException( "429" );
+                } );
+            }
+            catch( final NotamException expected ) {
+                // The leader sees its own failure
+            }
+        } );
+        leader.start();
+        assertTrue( leaderStarted.await( 5, TimeUnit.SECONDS ) );
+
+        final CompletableFuture<Throwable> joinerError = CompletableFuture.supplyAsync( () -> {
+            try {
+                flights.executeBlocking( new FaaNotamApiWrapper.QueryParamsBuilder( "KOKC" ),
+                        () -> List.of( "unused" ) );
+                return null;
+            }
+            catch( final NotamException e ) {
+                return e;
+            }
+        } );
+        while( flights.coalesced() == 0 ) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertTrue( joinerError.get( 5, TimeUnit.SECONDS ) instanceof RateLimitException );
+        assertEquals( 1, flights.started() );
+        leader.join();
+    }
+}
@@ -0,0 +1,424 @@
+package ou.capstone.notams.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the FAA NOTAM API, for deterministic load and latency
+ * tests without credentials or network access.
+ * <p>
+ * Serves GeoJSON pages built from recorded responses (such as
+ * {@code pages/okc-page-*.json}) and paginates them by the {@code pageSize}
+ * and {@code pageNum} query parameters, so any page count can be produced from
+ * a few recorded items. Each response can be delayed by a
+ * {@link LatencyDistribution}, and a seeded share of requests can be answered
+ * with HTTP 429 or 500. Point the wrapper at it with
+ * {@link FaaNotamApiWrapper#configureBaseUri(URI)}:
+ *
+ * <pre>{@code
+ * try (StubFaaServer stub = StubFaaServer.builder()
+ *         .recordedPages("pages/okc-page-1.json", "pages/okc-page-2.json")
+ *         .totalItems(500)
+ *         .latency(LatencyDistribution.logNormal(Duration.ofMillis(80), 0.5))
+ *         .start()) {
+ *     FaaNotamApiWrapper.configureBaseUri(stub.baseUri());
+ *     ...
+ * }
+ * }</pre>
+ *
+ * Run {@link #main(String[])} to serve the recorded pages on a fixed port and
+ * point the CLI at it with NOTAM_API_BASE_URI.
+ */
+public final class StubFaaServer implements AutoCloseable
+{
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PATH = "/notamapi/v1/notams";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** Draws the artificial delay for one response. */
+    @FunctionalInterface
+    public interface LatencyDistribution
+    {
+        Duration next( Random random );
+
+        static LatencyDistribution none()
+        {
+            return random -> Duration.ZERO;
+        }
+
+        static LatencyDistribution fixed( final Duration latency )
+        {
+            return random -> latency;
+        }
+
+        static LatencyDistribution uniform( final Duration min, final Duration max )
+        {
+            final long span = max.toNanos() - min.toNanos();
+            return random -> min.plusNanos( span <= 0 ? 0 : (long) (random.nextDouble() * span) );
+        }
+
+        /**
+         * Log-normal latency with the given median; sigma around 0.5 gives the
+         * long right tail typical of real API response times.
+         */
+        static LatencyDistribution logNormal( final Duration median, final double sigma )
+        {
+            return random -> Duration.ofNanos( (long) (median.toNanos() * Math.exp( sigma * random.nextGaussian() )) );
+        }
+
+        /** With probability {@code p} adds {@code extra} on top of this distribution. */
+        default LatencyDistribution withTail( final double p, final Duration extra )
+        {
+            return random -> {
+                final Duration base = next( random );
+                return random.nextDouble() < p ? base.plus( extra ) : base;
+            };
+        }
+    }
+
+    public static final class Builder
+    {
+        private final List<JsonNode> items = new ArrayList<>();
+        private int totalItems = -1;
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double rateLimitRate;
+        private int rateLimitFirst;
+        private Duration retryAfter;
+        private double errorRate;
+        private long seed = 42;
+        private boolean requireCredentials = true;
+        private int port;
+
+        private Builder()
+        {
+        }
+
+        /** Adds the items of recorded GeoJSON pages from the test classpath. */
+        public Builder recordedPages( final String... resources )
+        {
+            for( final String resource : resources ) {
+                try( InputStream in = StubFaaServer.class.getClassLoader().getResourceAsStream( resource ) ) {
+                    Objects.requireNonNull( in, "No such test resource: " + resource );
+                    MAPPER.readTree( in ).path( "items" ).forEach( items::add );
+                }
+                catch( final IOException e ) {
+                    throw new UncheckedIOException( e );
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Serves this many items in total, repeating the recorded ones with
+         * unique ids. Defaults to the recorded items once each.
+         */
+        public Builder totalItems( final int totalItems )
+        {
+            this.totalItems = totalItems;
+            return this;
+        }
+
+        public Builder latency( final LatencyDistribution latency )
+        {
+            this.latency = latency;
+            return this;
+        }
+
+        /** Answers this share of requests with HTTP 429. */
+        public Builder rateLimitRate( final double rate )
+        {
+            this.rateLimitRate = rate;
+            return this;
+        }
+
+        /** Answers the first {@code count} requests with HTTP 429. */
+        public Builder rateLimitFirst( final int count )
+        {
+            this.rateLimitFirst = count;
+            return this;
+        }
+
+        /** Retry-After sent with injected 429s, or none if null. */
+        public Builder retryAfter( final Duration retryAfter )
+        {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /** Answers this share of requests with HTTP 500. */
+        public Builder errorRate( final double rate )
+        {
+            this.errorRate = rate;
+            return this;
+        }
+
+        /** Seed for latency and fault injection, for repeatable runs. */
+        public Builder seed( final long seed )
+        {
+            this.seed = seed;
+            return this;
+        }
+
+        /** Whether requests without client_id / client_secret get HTTP 401. */
+        public Builder requireCredentials( final boolean require )
+        {
+            this.requireCredentials = require;
+            return this;
+        }
+
+        /** Port to listen on; 0 (the default) picks a free one. */
+        public Builder port( final int port )
+        {
+            this.port = port;
+            return this;
+        }
+
+        public StubFaaServer start() throws IOException
+        {
+            if( items.isEmpty() ) {
+                throw new IllegalStateException( "No recorded items; call recordedPages first" );
+            }
+            return new StubFaaServer( this );
+        }
+    }
+
+    private final List<JsonNode> items;
+    private final LatencyDistribution latency;
+    private final double rateLimitRate;
+    private final Duration retryAfter;
+    private final double errorRate;
+    private final boolean requireCredentials;
+    private final Random random;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicInteger rateLimitFirstRemaining;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<String> queries = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger rateLimited = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private StubFaaServer( final Builder builder ) throws IOException
+    {
+        this.items = expand( builder.items, builder.totalItems < 0 ? builder.items.size() : builder.totalItems );
+        this.latency = builder.latency;
+        this.rateLimitRate = builder.rateLimitRate;
+        this.retryAfter = builder.retryAfter;
+        this.errorRate = builder.errorRate;
+        this.requireCredentials = builder.requireCredentials;
+        this.random = new Random( builder.seed );
+        this.rateLimitFirstRemaining = new AtomicInteger( builder.rateLimitFirst );
+
+        this.server = HttpServer.create( new InetSocketAddress( "127.0.0.1", builder.port ), 0 );
+        // A thread per request so artificial latency does not serialize responses
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor( executor );
+        server.createContext( PATH, this::handle );
+        server.start();
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /** Endpoint to pass to {@link FaaNotamApiWrapper#configureBaseUri(URI)}. */
+    public URI baseUri()
+    {
+        return URI.create( "http://127.0.0.1:" + server.getAddress().getPort() + PATH );
+    }
+
+    /** Requests received, including injected failures. */
+    public int requestCount()
+    {
+        return requests.get();
+    }
+
+    /** Distinct query strings received. */
+    public int distinctQueryCount()
+    {
+        return queries.size();
+    }
+
+    public int rateLimitedCount()
+    {
+        return rateLimited.get();
+    }
+
+    public int errorCount()
+    {
+        return errors.get();
+    }
+
+    @Override
+    public void close()
+    {
+        server.stop( 0 );
+        executor.shutdownNow();
+    }
+
+    private void handle( final HttpExchange exchange ) throws IOException
+    {
+        try( exchange ) {
+            requests.incrementAndGet();
+            queries.add( String.valueOf( exchange.getRequestURI().getRawQuery() ) );
+
+            final Duration delay;
+            final double faultRoll;
+            synchronized( random ) {
+                delay = latency.next( random );
+                faultRoll = random.nextDouble();
+            }
+            sleep( delay );
+
+            if( requireCredentials && (exchange.getRequestHeaders().getFirst( "client_id" ) == null
+                    || exchange.getRequestHeaders().getFirst( "client_secret" ) == null) ) {
+                respond( exchange, 401, "{\"error\":\"missing credentials\"}" );
+                return;
+            }
+            if( rateLimitFirstRemaining.getAndUpdate( n -> Math.max( 0, n - 1 ) ) > 0
+                    || faultRoll < rateLimitRate ) {
+                rateLimited.incrementAndGet();
+                if( retryAfter != null ) {
+                    exchange.getResponseHeaders().add( "Retry-After",
+                            Long.toString( Math.max( 0, retryAfter.toSeconds() ) ) );
+                }
+                respond( exchange, 429, "{\"error\":\"rate limit exceeded\"}" );
+                return;
+            }
+            if( faultRoll < rateLimitRate + errorRate ) {
+                errors.incrementAndGet();
+                respond( exchange, 500, "{\"error\":\"injected failure\"}" );
+                return;
+            }
+
+            final Map<String, String> query = parseQuery( exchange.getRequestURI().getRawQuery() );
+            final int pageSize = Integer.parseInt( query.getOrDefault( "pageSize", "" + DEFAULT_PAGE_SIZE ) );
+            final int pageNum = Integer.parseInt( query.getOrDefault( "pageNum", "1" ) );
+            respond( exchange, 200, page( pageSize, pageNum ) );
+        }
+    }
+
+    private String page( final int pageSize, final int pageNum ) throws IOException
+    {
+        final int totalPages = Math.max( 1, (items.size() + pageSize - 1) / pageSize );
+        final ObjectNode page = MAPPER.createObjectNode();
+        page.put( "pageSize", pageSize );
+        page.put( "pageNum", pageNum );
+        page.put( "totalCount", items.size() );
+        page.put( "totalPages", totalPages );
+        final ArrayNode pageItems = page.putArray( "items" );
+        final int from = (pageNum - 1) * pageSize;
+        for( int i = Math.max( 0, from ); i < Math.min( items.size(), from + pageSize ); i++ ) {
+            pageItems.add( items.get( i ) );
+        }
+        return MAPPER.writeValueAsString( page );
+    }
+
+    /** Repeats the recorded items up to {@code total}, giving repeats unique ids. */
+    private static List<JsonNode> expand( final List<JsonNode> recorded, final int total )
+    {
+        final List<JsonNode> expanded = new ArrayList<>( total );
+        for( int i = 0; i < total; i++ ) {
+            final JsonNode item = recorded.get( i % recorded.size() );
+            if( i < recorded.size() ) {
+                expanded.add( item );
+                continue;
+            }
+            final JsonNode copy = item.deepCopy();
+            final JsonNode notam = copy.path( "properties" ).path( "coreNOTAMData" ).path( "notam" );
+            if( notam instanceof ObjectNode notamObject ) {
+                notamObject.put( "id", notamObject.path( "id" ).asText() + "_" + (i / recorded.size()) );
+            }
+            expanded.add( copy );
+        }
+        return expanded;
+    }
+
+    private static Map<String, String> parseQuery( final String rawQuery )
+    {
+        final Map<String, String> query = new HashMap<>();
+        if( rawQuery == null ) {
+            return query;
+        }
+        for( final String pair : rawQuery.split( "&" ) ) {
+            final int eq = pair.indexOf( '=' );
+            if( eq > 0 ) {
+                query.put( URLDecoder.decode( pair.substring( 0, eq ), StandardCharsets.UTF_8 ),
+                        URLDecoder.decode( pair.substring( eq + 1 ), StandardCharsets.UTF_8 ) );
+            }
+        }
+        return query;
+    }
+
+    private static void respond( final HttpExchange exchange, final int status, final String body )
+            throws IOException
+    {
+        final byte[] bytes = body.getBytes( StandardCharsets.UTF_8 );
+        exchange.getResponseHeaders().add( "Content-Type", "application/json" );
+        exchange.sendResponseHeaders( status, bytes.length );
+        try( OutputStream out = exchange.getResponseBody() ) {
+            out.write( bytes );
+        }
+    }
+
+    private static void sleep( final Duration delay )
+    {
+        if( delay.isZero() || delay.isNegative() ) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep( delay.toNanos() );
+        }
+        catch( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Serves the recorded OKC pages until killed.
+     * Arguments: [port] [totalItems] [medianLatencyMillis].
+     */
+    public static void main( final String[] args ) throws IOException
+    {
+        final int port = args.length > 0 ? Integer.parseInt( args[0] ) : 8089;
+        final Builder builder = builder()
+                .recordedPages( "pages/okc-page-1.json", "pages/okc-page-2.json" )
+                .requireCredentials( false )
+                .port( port );
+        if( args.length > 1 ) {
+            builder.totalItems( Integer.parseInt( args[1] ) );
+        }
+        if( args.length > 2 ) {
+            builder.latency( LatencyDistribution.logNormal( Duration.ofMillis( Long.parseLong( args[2] ) ), 0.5 ) );
+        }
+        final StubFaaServer stub = builder.start();
+        System.out.println( "Stub FAA NOTAM API listening; export NOTAM_API_BASE_URI=" + stub.baseUri() );
+    }
+}
@@ -0,0 +1,331 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.exceptions.NotamException;
+import ou.capstone.notams.exceptions.RateLimitException;
+
+/**
+ * Runs the real wrapper (HTTP client, pagination, rate limiting and retries)
+ * against {@link StubFaaServer} instead of the FAA API.
+ */
+class StubFaaServerTest
+{
+    private static final String[] OKC_PAGES = { "pages/okc-page-1.json", "pages/okc-page-2.json" };
+
+    private final NotamParser parser = new NotamParser();
+
+    private Path cacheDirectory;
+
+    @BeforeEach
+    void useStubCredentials()
+    {
+        System.setProperty( "FAA_CLIENT_ID", "stub-id" );
+        System.setProperty( "FAA_CLIENT_SECRET", "stub-secret" );
+        FaaNotamApiWrapper.configureRateLimit( new FaaRateLimitSettings( 1000, 1000, 3,
+                Duration.ofMillis( 10 ), Duration.ofMillis( 50 ) ) );
+    }
+
+    @AfterEach
+    void restoreDefaults() throws Exception
+    {
+        FaaNotamApiWrapper.configureBaseUri( null );
+        FaaNotamApiWrapper.configureDiskCache( null );
+        if( cacheDirectory != null ) {
+            try( Stream<Path> files = Files.walk( cacheDirectory ) ) {
+                for( final Path file : files.sorted( Comparator.reverseOrder() ).toList() ) {
+                    Files.deleteIfExists( file );
+                }
+            }
+        }
+        FaaNotamApiWrapper.configureRateLimit( FaaRateLimitSettings.defaults() );
+        System.clearProperty( "FAA_CLIENT_ID" );
+        System.clearProperty( "FAA_CLIENT_SECRET" );
+    }
+
+    /** Turns on a disk cache whose pages expire at once but may stand in for the API for an hour. */
+    private void useShortLivedDiskCache() throws Exception
+    {
+        cacheDirectory = Files.createTempDirectory( "notam-stub-cache" );
+        FaaNotamApiWrapper.configureDiskCache( new DiskResponseCache( cacheDirectory, Duration.ofMillis( 1 ),
+                Duration.ofHours( 1 ), 1024 * 1024, Clock.systemUTC() ) );
+    }
+
+    private static FaaNotamApiWrapper.QueryParamsBuilder query( final int pageSize )
+    {
+        return new FaaNotamApiWrapper.QueryParamsBuilder( 35.39, -97.60, 50 ).pageSize( pageSize );
+    }
+
+    @Test
+    void servesRecordedPagesThroughTheWrapper() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            final List<Notam> notams = FaaNotamApiWrapper.fetchAllNotams( query( 10 ), 5, parser );
+
+            assertEquals( 13, notams.size() );
+            assertEquals( 2, stub.requestCount(), "13 items at 10 per page is two pages" );
+        }
+    }
+
+    @Test
+    void synthesizesLargerResultSets() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).totalItems( 130 ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            final List<Notam> notams = FaaNotamApiWrapper.fetchAllNotamsAsync( query( 20 ), 5, parser ).join();
+
+            assertEquals( 130, notams.size() );
+            assertEquals( 7, stub.requestCount() );
+            final Set<String> ids = new HashSet<>();
+            notams.forEach( n -> ids.add( n.getId() ) );
+            assertEquals( 130, ids.size(), "Repeated items should get unique ids" );
+        }
+    }
+
+    @Test
+    void retriesInjectedRateLimits() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES )
+                .rateLimitFirst( 2 ).retryAfter( Duration.ZERO ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            final List<Notam> notams = FaaNotamApiWrapper.fetchAllNotams( query( 50 ), 5, parser );
+
+            assertEquals( 13, notams.size() );
+            assertEquals( 2, stub.rateLimitedCount() );
+            assertEquals( 3, stub.requestCount() );
+        }
+    }
+
+    @Test
+    void persistentRateLimitingSurfacesAsRateLimitException() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).rateLimitRate( 1.0 ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            assertThrows( RateLimitException.class, () -> FaaNotamApiWrapper.fetchAllNotams( query( 50 ), 5, parser ) );
+            assertEquals( 4, stub.requestCount(), "First attempt plus three retries" );
+        }
+    }
+
+    @Test
+    void retryAfterBeyondMaxBackoffFailsWithoutWaiting() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES )
+                .rateLimitFirst( 1 ).retryAfter( Duration.ofHours( 1 ) ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            final long start = System.nanoTime();
+            assertThrows( RateLimitException.class, () -> FaaNotamApiWrapper.fetchAllNotams( query( 50 ), 5, parser ) );
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals( 1, stub.requestCount(), "An hour's Retry-After is not waited out" );
+            assertTrue( elapsedMillis < 5_000, "Should fail fast, took " + elapsedMillis + " ms" );
+        }
+    }
+
+    @Test
+    void retryAfterPastTheDeadlineFailsWithoutWaiting() throws Exception
+    {
+        FaaNotamApiWrapper.configureRateLimit( new FaaRateLimitSettings( 1000, 1000, 3,
+                Duration.ofMillis( 10 ), Duration.ofSeconds( 30 ) ) );
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES )
+                .rateLimitFirst( 1 ).retryAfter( Duration.ofSeconds( 20 ) ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+            final FetchDeadline deadline = FetchDeadline.after( Duration.ofSeconds( 10 ) );
+
+            final long start = System.nanoTime();
+            assertThrows( RateLimitException.class,
+                    () -> FaaNotamApiWrapper.fetchAllNotams( query( 50 ), deadline, 5, parser ) );
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals( 1, stub.requestCount(), "A Retry-After past the deadline is not waited out" );
+            assertTrue( elapsedMillis < 5_000, "Should fail fast, took " + elapsedMillis + " ms" );
+        }
+    }
+
+    @Test
+    void expiredDeadlineSendsNoRequests() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+            final FetchDeadline deadline = FetchDeadline.unbounded();
+            deadline.cancel();
+
+            assertThrows( NotamException.class,
+                    () -> FaaNotamApiWrapper.fetchAllNotams( query( 50 ), deadline, 5, parser ) );
+            assertEquals( 0, stub.requestCount() );
+        }
+    }
+
+    @Test
+    void cancellingTheDeadlineAbortsTheRequestInFlight() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).totalItems( 130 )
+                .latency( StubFaaServer.LatencyDistribution.fixed( Duration.ofSeconds( 3 ) ) ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+            final FetchDeadline deadline = FetchDeadline.unbounded();
+
+            final CompletableFuture<List<Notam>> fetch =
+                    FaaNotamApiWrapper.fetchAllNotamsAsync( query( 20 ), deadline, 5, parser );
+            while( stub.requestCount() == 0 ) {
+                Thread.sleep( 10 );
+            }
+            final long start = System.nanoTime();
+            deadline.cancel();
+            assertThrows( Exception.class, fetch::join );
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue( elapsedMillis < 1_500, "Should not wait for the response, took " + elapsedMillis + " ms" );
+            assertEquals( 1, stub.requestCount(), "Later pages are never requested" );
+        }
+    }
+
+    @Test
+    void injectedErrorsFailTheFetch() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).errorRate( 1.0 ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            final Throwable error = assertThrows( Exception.class,
+                    () -> FaaNotamApiWrapper.fetchAllNotamsAsync( query( 50 ), 5, parser ).join() );
+            assertInstanceOf( NotamException.class, FaaNotamApiWrapper.unwrap( error ) );
+            assertEquals( 1, stub.errorCount() );
+        }
+    }
+
+    @Test
+    void appliesConfiguredLatency() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES )
+                .latency( StubFaaServer.LatencyDistribution.fixed( Duration.ofMillis( 200 ) ) ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+
+            final long start = System.nanoTime();
+            FaaNotamApiWrapper.fetchAllNotams( query( 50 ), 5, parser );
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue( elapsedMillis >= 200, "Response should be delayed, took " + elapsedMillis + " ms" );
+        }
+    }
+
+    @Test
+    void unreachableApiIsAnsweredFromTheWholeCachedQuery() throws Exception
+    {
+        useShortLivedDiskCache();
+        final List<Notam> fresh;
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+            fresh = FaaNotamApiWrapper.fetchAllNotams( query( 5 ), 5, parser );
+        }
+        Thread.sleep( 10 );
+        final long staleBefore = FaaNotamApiWrapper.staleQueryCount();
+
+        final List<Notam> stale = FaaNotamApiWrapper.fetchAllNotamsAsync( query( 5 ), 5, parser ).join();
+
+        assertEquals( fresh.size(), stale.size() );
+        assertEquals( staleBefore + 1, FaaNotamApiWrapper.staleQueryCount() );
+        assertTrue( FaaNotamApiWrapper.oldestStaleResponse().isPresent() );
+    }
+
+    @Test
+    void queryWithAPageMissingFromTheCacheIsNotPartlyServedStale() throws Exception
+    {
+        useShortLivedDiskCache();
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+            FaaNotamApiWrapper.fetchAllNotams( query( 5 ), 5, parser );
+        }
+        try( Stream<Path> files = Files.list( cacheDirectory ) ) {
+            final List<Path> pages = files.toList();
+            assertTrue( pages.size() > 1, "Query should span several pages" );
+            Files.delete( pages.get( pages.size() - 1 ) );
+        }
+        Thread.sleep( 10 );
+
+        assertThrows( NotamException.class, () -> FaaNotamApiWrapper.fetchAllNotams( query( 5 ), 5, parser ) );
+    }
+
+    @Test
+    void cachedPagesAreOnlyServedForTheEndpointTheyCameFrom() throws Exception
+    {
+        cacheDirectory = Files.createTempDirectory( "notam-stub-cache" );
+        FaaNotamApiWrapper.configureDiskCache( new DiskResponseCache( cacheDirectory, Duration.ofMinutes( 10 ),
+                1024 * 1024, Clock.systemUTC() ) );
+        try( StubFaaServer first = StubFaaServer.builder().recordedPages( OKC_PAGES ).start();
+             StubFaaServer second = StubFaaServer.builder().recordedPages( OKC_PAGES ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( first.baseUri() );
+            FaaNotamApiWrapper.fetchAllNotams( query( 10 ), 5, parser );
+            FaaNotamApiWrapper.fetchAllNotams( query( 10 ), 5, parser );
+            assertEquals( 2, first.requestCount(), "The repeat query should come from the cache" );
+
+            FaaNotamApiWrapper.configureBaseUri( second.baseUri() );
+            FaaNotamApiWrapper.fetchAllNotams( query( 10 ), 5, parser );
+            assertEquals( 2, second.requestCount(), "Pages cached from another endpoint must not be served" );
+        }
+    }
+
+    @Test
+    void concurrentRouteFetchesSendEachSharedQueryOnce() throws Exception
+    {
+        try( StubFaaServer stub = StubFaaServer.builder().recordedPages( OKC_PAGES )
+                .latency( StubFaaServer.LatencyDistribution.fixed( Duration.ofMillis( 300 ) ) ).start() ) {
+            FaaNotamApiWrapper.configureBaseUri( stub.baseUri() );
+            final NotamFetcher fetcher = new NotamFetcher();
+            final long coalescedBefore = FaaNotamApiWrapper.coalescedQueryCount();
+
+            final List<CompletableFuture<List<Notam>>> routes = List.of(
+                    CompletableFuture.supplyAsync( () -> fetchRoute( fetcher, "KOKC", "KTUL" ) ),
+                    CompletableFuture.supplyAsync( () -> fetchRoute( fetcher, "KOKC", "KTUL" ) ) );
+            for( final CompletableFuture<List<Notam>> route : routes ) {
+                route.join();
+            }
+
+            assertTrue( stub.requestCount() > 0, "The route should have queried the stub" );
+            assertEquals( stub.distinctQueryCount(), stub.requestCount(), "Each shared query should be sent once" );
+            assertTrue( FaaNotamApiWrapper.coalescedQueryCount() > coalescedBefore,
+                    "The second route should have joined the first route's queries" );
+        }
+    }
+
+    private static List<Notam> fetchRoute( final NotamFetcher fetcher, final String departure,
+                                           final String destination )
+    {
+        try {
+            return fetcher.fetchForRoute( departure, destination );
+        }
+        catch( final Exception e ) {
+            throw new IllegalStateException( "Route fetch failed: " + departure + " -> " + destination, e );
+        }
+    }
+
+    @Test
+    void rejectsRelativeBaseUri()
+    {
+        assertThrows( IllegalArgumentException.class,
+                () -> FaaNotamApiWrapper.configureBaseUri( URI.create( "/notams" ) ) );
+    }
+}
@@ -0,0 +1,69 @@
+package ou.capstone.notams.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest
+{
+    private static final long SECOND = TimeUnit.SECONDS.toNanos( 1 );
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void allowsBurstThenSpacesRequestsAtTheSteadyRate()
+    {
+        final TokenBucket bucket = new TokenBucket( 2.0, 3, now::get );
+
+        assertEquals( 0, bucket.reserve() );
+        assertEquals( 0, bucket.reserve() );
+        assertEquals( 0, bucket.reserve() );
+        assertEquals( SECOND / 2, bucket.reserve(), "4th request waits one refill interval" );
+        assertEquals( SECOND, bucket.reserve(), "Queued callers are spaced out, not released together" );
+    }
+
+    @Test
+    void refillsOverTimeUpToBurst()
+    {
+        final TokenBucket bucket = new TokenBucket( 1.0, 2, now::get );
+        bucket.reserve();
+        bucket.reserve();
+
+        now.addAndGet( 10 * SECOND );
+        assertEquals( 2.0, bucket.available(), 1e-9 );
+    }
+
+    @Test
+    void boundedReserveRefusesLongWaitsWithoutTakingAToken()
+    {
+        final TokenBucket bucket = new TokenBucket( 1.0, 1, now::get );
+        bucket.reserve();
+
+        assertEquals( -1, bucket.reserve( SECOND / 2 ), "The next token is a second away" );
+        assertEquals( SECOND, bucket.reserve( SECOND ), "The refused call did not queue" );
+    }
+
+    @Test
+    void dropBurstSlowsCallersToTheSteadyRateWithoutStallingThem()
+    {
+        final TokenBucket bucket = new TokenBucket( 1.0, 5, now::get );
+
+        bucket.dropBurst();
+        assertEquals( SECOND, bucket.reserve(), "One refill interval for an empty bucket, no longer" );
+        assertEquals( 2 * SECOND, bucket.reserve() );
+
+        now.addAndGet( 3 * SECOND );
+        assertEquals( 1.0, bucket.available(), 1e-9, "Tokens keep accruing after the drop" );
+    }
+
+    @Test
+    void rejectsInvalidSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new TokenBucket( 0, 1 ) );
+        assertThrows( IllegalArgumentException.class, () -> new TokenBucket( 1, 0 ) );
+    }
+}
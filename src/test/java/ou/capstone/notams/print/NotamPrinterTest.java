@@ -112,4 +112,44 @@ final class NotamPrinterTest {
         assertTrue(out.contains("2025-01-02 10:00 UTC"),
                 "Local time line should include formatted local start (UTC zone here)");
     }
+
+    @Test
+    void rendersPresortedInputInGivenOrder() {
+        final NotamPrinter printer =
+                new NotamPlainPrinter(ZoneId.of("UTC"), NotamPrinter.TimeMode.UTC_ONLY);
+
+        final NotamView lower = new NotamView("10/001", "KOKC", "Aerodrome",
+                Instant.parse("2025-10-26T02:14:00Z"), null, "TWY A CLSD", 1.0);
+        final NotamView higher = new NotamView("10/002", "KDFW", "Aerodrome",
+                Instant.parse("2025-10-26T02:14:00Z"), null, "RWY 17R CLSD", 2.0);
+
+        final String sorted = printer.render(List.of(lower, higher));
+        final String presorted = printer.render(List.of(lower, higher), true);
+
+        assertTrue(sorted.indexOf("10/002") < sorted.indexOf("10/001"),
+                "Default rendering sorts by score");
+        assertTrue(presorted.indexOf("10/001") < presorted.indexOf("10/002"),
+                "Presorted input should be rendered as given");
+    }
+
+    @Test
+    void rendersScoreExplanationUnderTheRow() {
+        final NotamPrinter printer =
+                new NotamPlainPrinter(ZoneId.of("UTC"), NotamPrinter.TimeMode.UTC_ONLY);
+
+        final NotamView explained = new NotamView("10/002", "KDFW", "Aerodrome",
+                Instant.parse("2025-10-26T02:14:00Z"), null, "RWY 17R CLSD", 2.0,
+                "ifr: PatternMatchingScorer 2.0; keywords CLOSED");
+        final NotamView plain = new NotamView("10/001", "KOKC", "Aerodrome",
+                Instant.parse("2025-10-26T02:14:00Z"), null, "TWY A CLSD", 1.0);
+
+        final String out = printer.render(List.of(explained, plain), true);
+
+        assertTrue(out.contains("Why: ifr: PatternMatchingScorer 2.0; keywords CLOSED"),
+                "Explanation should be rendered");
+        assertTrue(out.indexOf("Why:") < out.indexOf("10/001"),
+                "Explanation belongs to the explained NOTAM's row");
+        assertTrue(out.indexOf("Why:") == out.lastIndexOf("Why:"),
+                "Views without an explanation render as before");
+    }
 }
@@ -0,0 +1,56 @@
+package ou.capstone.notams.prioritize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.Notam;
+
+class RecencyScorerTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-04T21:00:00Z");
+
+    private static Notam issuedAt(final OffsetDateTime issued) {
+        return new Notam.Builder()
+                .id("R")
+                .number("1/01")
+                .type("RUNWAY")
+                .issued(issued)
+                .text("RWY CLOSED")
+                .build();
+    }
+
+    // The formula the scorer used before the decay table
+    private static double expected(final OffsetDateTime issued) {
+        final long hours = Math.max(0L,
+                Duration.between(issued, OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC)).toHours());
+        if (hours <= 24L) {
+            return 20.0;
+        }
+        return 20.0 * Math.pow(0.5, (double) (hours - 24L) / 72.0);
+    }
+
+    @Test
+    void decayTableMatchesExponentialFormula() {
+        final RecencyScorer scorer = new RecencyScorer(Clock.fixed(NOW, ZoneOffset.UTC));
+        // Every hour for two years, plus partial hours and future issue times
+        for (long minutes = -600; minutes < 2 * 365 * 24 * 60; minutes += 37) {
+            final OffsetDateTime issued = OffsetDateTime.ofInstant(NOW.minusSeconds(minutes * 60), ZoneOffset.UTC);
+            assertEquals(expected(issued), scorer.score(issuedAt(issued)), 0.0, "Issued " + issued);
+        }
+    }
+
+    @Test
+    void fixedNowIgnoresTheClock() {
+        final RecencyScorer live = new RecencyScorer(Clock.fixed(NOW.plusSeconds(86_400 * 30), ZoneOffset.UTC));
+        final RecencyScorer pinned = live.at(NOW.getEpochSecond());
+        final OffsetDateTime issued = OffsetDateTime.parse("2025-10-01T09:30:00Z");
+
+        assertEquals(expected(issued), pinned.score(issuedAt(issued)), 0.0);
+    }
+}
@@ -0,0 +1,107 @@
+package ou.capstone.notams.prioritize;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import com.sun.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.Notam;
+
+/**
+ * Allocation bounds for untraced scoring, measured with the thread's
+ * allocated-bytes counter. {@code score} should allocate nothing and
+ * {@code scoreDetailed} only the ScoredNotam it returns. A bound below the
+ * smallest object (16 bytes) still leaves room for the counter's own overhead.
+ */
+class ScoringAllocationTest {
+
+    private static final Clock FIXED = Clock.fixed(Instant.parse("2025-10-04T21:00:00Z"), ZoneOffset.UTC);
+
+    private static final String[] TEXTS = {
+            "RWY 17L/35R CLSD",
+            "TWY A CLSD DUE WIP",
+            "OBST TOWER LGT U/S",
+            "ILS RWY 35R U/S",
+            "AD AP BCN U/S",
+            "FUEL 100LL NOT AVBL",
+            "TWY B MAINT IN PROGRESS",
+            "TEMP AIRSPACE RESTRICTION"
+    };
+
+    private static final int WARM_UP_PASSES = 20_000;
+    private static final int MEASURED_PASSES = 2_000;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private List<Notam> notams;
+    // Keeps each detailed result reachable so the JIT cannot elide its allocation
+    private ScoredNotam lastScored;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocation counter unavailable");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        notams = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            notams.add(new Notam.Builder()
+                    .id("N" + i)
+                    .number(i + "/25")
+                    .type(i % 3 == 0 ? "RUNWAY" : "TAXIWAY")
+                    .issued(OffsetDateTime.parse("2025-10-04T20:00:00Z").minusHours(i * 7L))
+                    .location(i % 2 == 0 ? "KOKC" : "KJFK")
+                    .latitude(35.39 + i * 0.01)
+                    .longitude(-97.60)
+                    .radiusNm((double) (i % 60))
+                    .text(TEXTS[i % TEXTS.length])
+                    .build());
+        }
+    }
+
+    /** Bytes this thread allocates per NOTAM scored, once the scoring path is warm. */
+    private double bytesPerNotam(final ToDoubleFunction<Notam> scoring) {
+        double sink = 0.0;
+        for (int pass = 0; pass < WARM_UP_PASSES; pass++) {
+            for (final Notam n : notams) {
+                sink += scoring.applyAsDouble(n);
+            }
+        }
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int pass = 0; pass < MEASURED_PASSES; pass++) {
+            for (final Notam n : notams) {
+                sink += scoring.applyAsDouble(n);
+            }
+        }
+        final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(sink > 0.0);
+        return (double) allocated / ((long) MEASURED_PASSES * notams.size());
+    }
+
+    @Test
+    void untracedScoreAllocatesNothing() {
+        final NotamPrioritizer prioritizer = new SimplePrioritizer(FIXED, "OKC", "JFK", NotamPrioritizer.Mode.IFR);
+
+        final double bytes = bytesPerNotam(prioritizer::score);
+
+        assertTrue(bytes < 8.0, "score() allocated " + bytes + " bytes per NOTAM");
+    }
+
+    @Test
+    void untracedScoreDetailedAllocatesOnlyTheResult() {
+        final NotamPrioritizer prioritizer = new SimplePrioritizer(FIXED, "OKC", "JFK", NotamPrioritizer.Mode.IFR);
+
+        final double bytes = bytesPerNotam(n -> (lastScored = prioritizer.scoreDetailed(n)).score());
+
+        assertTrue(bytes <= 48.0, "scoreDetailed() allocated " + bytes + " bytes per NOTAM");
+    }
+}
@@ -0,0 +1,176 @@
+package ou.capstone.notams.prioritize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamKeywordMatcher.Keyword;
+
+class ScoringProfilesTest {
+
+    /** Clock whose time can be advanced by the test. */
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-10-04T21:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(final Duration d) {
+            now = now.plus(d);
+        }
+    }
+
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    private final MutableClock clock = new MutableClock();
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("notam-scoring-test");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void writeProfile(final String name, final String content) throws IOException {
+        Files.writeString(directory.resolve(name + ".properties"), content, StandardCharsets.UTF_8);
+    }
+
+    private ScoringProfiles profiles() {
+        return new ScoringProfiles(directory, CHECK_INTERVAL, clock);
+    }
+
+    private static Notam maintenanceNotam() {
+        return new Notam.Builder()
+                .id("M")
+                .number("1/01")
+                .type("TAXIWAY")
+                .location("KTEST")
+                .issued(OffsetDateTime.parse("2025-10-04T20:00:00Z"))
+                .text("TWY B MAINT IN PROGRESS")
+                .build();
+    }
+
+    @Test
+    void builtInIfrProfileKeepsTheOriginalWeights() {
+        final ScoringProfile ifr = ScoringProfile.builtIn(NotamPrioritizer.Mode.IFR);
+
+        assertEquals(50.0, ifr.typeWeight("RWY"), 0.0);
+        assertEquals(0.0, ifr.typeWeight("OTHER"), 0.0);
+        assertEquals(40.0 + 30.0, ifr.keywordScore(Keyword.CLOSED.bit() | Keyword.UNSERVICEABLE.bit()), 0.0);
+        assertEquals(0.0, ifr.keywordScore(Keyword.FUEL_UNAVAILABLE.bit()), 0.0);
+        assertEquals(15.0, ifr.radiusScore(5.0), 0.0);
+        assertEquals(7.5, ifr.radiusScore(27.5), 0.0);
+        assertEquals(-10.0, ifr.radiusScore(150.0), 0.0);
+        assertEquals(20.0, ifr.recencyScore(24), 0.0);
+        assertEquals(10.0, ifr.recencyScore(24 + 72), 1e-12);
+    }
+
+    @Test
+    void vfrProfileOverridesOnlySomeIfrWeights() {
+        final ScoringProfile vfr = ScoringProfile.builtIn(NotamPrioritizer.Mode.VFR);
+
+        assertEquals(50.0, vfr.typeWeight("RUNWAY"), 0.0);
+        assertEquals(50.0, vfr.typeWeight("AIRSPACE"), 0.0);
+        assertEquals(15.0, vfr.keywordScore(Keyword.NAVAID.bit()), 0.0);
+        assertEquals(40.0, vfr.keywordScore(Keyword.CLOSED.bit()), 0.0);
+    }
+
+    @Test
+    void customProfileExtendsAnotherProfile() throws IOException {
+        writeProfile("Strict", "extends=vfr\nkeyword.MAINT=45\n");
+
+        final ScoringProfile strict = profiles().get("STRICT");
+
+        assertEquals("strict", strict.name());
+        assertEquals(45.0, strict.keywordScore(Keyword.MAINT.bit()), 0.0);
+        assertEquals(15.0, strict.keywordScore(Keyword.NAVAID.bit()), 0.0);
+    }
+
+    @Test
+    void unknownProfileIsRejected() {
+        final ScoringProfiles profiles = profiles();
+
+        assertThrows(IllegalArgumentException.class, () -> profiles.get("missing"));
+        assertThrows(IllegalArgumentException.class, () -> profiles.supplier("missing"));
+    }
+
+    @Test
+    void changedFileIsReloadedAfterTheCheckInterval() throws IOException {
+        writeProfile("custom", "extends=ifr\nkeyword.MAINT=45\n");
+        final ScoringProfiles profiles = profiles();
+        final NotamPrioritizer prioritizer = new SimplePrioritizer(clock, null, null, profiles.supplier("custom"));
+        final double before = prioritizer.score(maintenanceNotam());
+
+        writeProfile("custom", "extends=ifr\nkeyword.MAINT=100\n");
+        assertEquals(45.0, profiles.get("custom").keywordScore(Keyword.MAINT.bit()), 0.0,
+                "Files are not checked again within the interval");
+
+        clock.advance(CHECK_INTERVAL);
+        assertEquals(100.0, profiles.get("custom").keywordScore(Keyword.MAINT.bit()), 0.0);
+        assertEquals(before + 55.0, prioritizer.score(maintenanceNotam()), 1e-9);
+    }
+
+    @Test
+    void invalidFileKeepsThePreviousVersion() throws IOException {
+        writeProfile("custom", "extends=ifr\nkeyword.MAINT=45\n");
+        final ScoringProfiles profiles = profiles();
+
+        writeProfile("custom", "extends=ifr\nkeyword.MAINT=lots\n");
+        profiles.reload();
+        assertEquals(45.0, profiles.get("custom").keywordScore(Keyword.MAINT.bit()), 0.0);
+
+        writeProfile("custom", "extends=ifr\nkeyword.MAINTENANCE=50\n");
+        profiles.reload();
+        assertEquals(45.0, profiles.get("custom").keywordScore(Keyword.MAINT.bit()), 0.0);
+    }
+
+    @Test
+    void extendsCycleIsRejected() throws IOException {
+        writeProfile("a", "extends=b\n");
+        writeProfile("b", "extends=a\n");
+
+        final ScoringProfiles profiles = profiles();
+
+        assertFalse(profiles.names().contains("a"));
+        assertFalse(profiles.names().contains("b"));
+        assertTrue(profiles.names().contains("ifr"));
+    }
+}
@@ -2,15 +2,22 @@ package ou.capstone.notams.prioritize;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamKeywordMatcher;
 
 class SimplePrioritizerTest {
 
@@ -112,4 +119,176 @@ class SimplePrioritizerTest {
                 33.6407, -84.4277, 3.0, "RWY CLOSED");
         assertTrue(pr.score(zulu) > pr.score(older)); // handles it as newer > older
     }
+
+    @Test
+    void prioritizeScored_reusesScoresAndReportsBreakdownWhenTracing() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-10-04T21:00:00Z"), ZoneOffset.UTC);
+        var pr = new SimplePrioritizer(fixed).tracing();
+
+        List<Notam> notams = List.of(
+                makeNotam("A", "RUNWAY", "KATL", "2025-10-04T20:00:00Z",
+                        33.6407, -84.4277, 3.0, "RWY 8L/26R CLOSED"),
+                makeNotam("B", "TAXIWAY", "KATL", "2025-10-02T20:00:00Z",
+                        33.6407, -84.4277, 8.0, "TWY B MAINT"),
+                makeNotam("C", "AIRSPACE", "KATL", "2025-10-03T20:00:00Z",
+                        33.6407, -84.4277, 50.0, "TEMP AIRSPACE RESTRICTION"));
+
+        List<ScoredNotam> scored = pr.prioritizeScored(notams);
+
+        assertEquals(pr.prioritize(notams), scored.stream().map(ScoredNotam::notam).toList());
+        for (ScoredNotam s : scored) {
+            assertEquals(pr.score(s.notam()), s.score(), 1e-9);
+            assertEquals(List.of("PatternMatchingScorer", "ProximityScorer", "RecencyScorer"),
+                    List.copyOf(s.breakdown().keySet()));
+            assertEquals(s.score(), s.breakdown().values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+        }
+    }
+
+    @Test
+    void tracingRecordsKeywordsAndDoesNotChangeScoresOrOrder() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-10-04T21:00:00Z"), ZoneOffset.UTC);
+        var pr = new SimplePrioritizer(fixed, "KATL", null, NotamPrioritizer.Mode.IFR);
+        var traced = pr.tracing();
+
+        List<Notam> notams = List.of(
+                makeNotam("A", "RUNWAY", "KATL", "2025-10-04T20:00:00Z",
+                        33.6407, -84.4277, 3.0, "RWY 8L/26R CLOSED FOR MAINT"),
+                makeNotam("B", "TAXIWAY", "KATL", "2025-10-02T20:00:00Z",
+                        33.6407, -84.4277, 8.0, "TWY B U/S"),
+                makeNotam("C", "AIRSPACE", "KATL", "2025-10-03T20:00:00Z",
+                        33.6407, -84.4277, 50.0, "TEMP AIRSPACE RESTRICTION"));
+
+        List<ScoredNotam> plain = pr.prioritizeScored(notams);
+        List<ScoredNotam> explained = traced.prioritizeScored(notams);
+
+        assertEquals(plain.stream().map(ScoredNotam::notam).toList(),
+                explained.stream().map(ScoredNotam::notam).toList());
+        for (int i = 0; i < plain.size(); i++) {
+            assertEquals(plain.get(i).score(), explained.get(i).score(), 0.0);
+            assertSame(ScoreTrace.NONE, plain.get(i).trace(), "Untraced scores carry no trace");
+        }
+
+        ScoreTrace trace = explained.get(0).trace();
+        assertEquals("ifr", trace.profile());
+        assertEquals(Set.of(NotamKeywordMatcher.Keyword.CLOSED, NotamKeywordMatcher.Keyword.MAINT),
+                trace.keywords());
+        assertTrue(trace.describe().startsWith("ifr: PatternMatchingScorer 100.0 + ProximityScorer 35.0"),
+                trace.describe());
+        assertEquals(trace.contributions(), pr.explain(notams.get(0)).breakdown());
+        assertTrue(pr.scoreDetailed(notams.get(0)).trace().isEmpty());
+    }
+
+    @Test
+    void defaultPrioritizeScored_scoresEachNotamOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        NotamPrioritizer byRadius = new NotamPrioritizer() {
+            @Override
+            public List<Notam> prioritize(final List<Notam> notams) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public double score(final Notam notam) {
+                calls.incrementAndGet();
+                return notam.getRadiusNm();
+            }
+        };
+
+        List<Notam> notams = List.of(
+                makeNotam("A", "RUNWAY", "KATL", "2025-10-04T20:00:00Z", 33.6, -84.4, 3.0, "X"),
+                makeNotam("B", "RUNWAY", "KATL", "2025-10-04T20:00:00Z", 33.6, -84.4, 9.0, "X"),
+                makeNotam("C", "RUNWAY", "KATL", "2025-10-04T20:00:00Z", 33.6, -84.4, 5.0, "X"),
+                makeNotam("D", "RUNWAY", "KATL", "2025-10-04T20:00:00Z", 33.6, -84.4, 5.0, "X"));
+
+        List<ScoredNotam> scored = byRadius.prioritizeScored(notams);
+
+        assertEquals(4, calls.get());
+        assertEquals(List.of("B", "C", "D", "A"), scored.stream().map(s -> s.notam().getId()).toList());
+    }
+
+    @Test
+    void prioritizeTopK_returnsSamePrefixAsFullSort() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-10-04T21:00:00Z"), ZoneOffset.UTC);
+        var pr = new SimplePrioritizer(fixed, "KATL", null, NotamPrioritizer.Mode.IFR);
+
+        String[] texts = {"RWY CLOSED", "TWY B MAINT", "ILS U/S", "OBST LGT", "FUEL NOT AVBL"};
+        List<Notam> notams = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            // Repeated ids and times give full ties, which must keep input order
+            notams.add(makeNotam("N" + (i % 7), i % 3 == 0 ? "RUNWAY" : "AIRSPACE", i % 2 == 0 ? "KATL" : "KJFK",
+                    "2025-10-0" + (1 + i % 4) + "T20:00:00Z", 33.6, -84.4, (double) (i % 6) * 4, texts[i % 5]));
+        }
+
+        List<ScoredNotam> full = pr.prioritizeScored(notams);
+        for (int k : new int[] {0, 1, 5, 40, 100}) {
+            TopKNotams topK = pr.prioritizeTopK(notams, k);
+            int kept = Math.min(k, notams.size());
+
+            assertEquals(full.subList(0, kept), topK.top());
+            assertEquals(full.subList(kept, full.size()), topK.rest());
+            assertEquals(notams.size(), topK.totalCount());
+        }
+        assertThrows(IllegalArgumentException.class, () -> pr.prioritizeTopK(notams, -1));
+    }
+
+    @Test
+    void parallelScoringGivesSameOrderAsSequential() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-10-04T21:00:00Z"), ZoneOffset.UTC);
+        var sequential = new SimplePrioritizer(fixed, "KATL", "KJFK", NotamPrioritizer.Mode.VFR, Integer.MAX_VALUE);
+        var parallel = new SimplePrioritizer(fixed, "KATL", "KJFK", NotamPrioritizer.Mode.VFR, 0);
+
+        String[] texts = {"RWY CLOSED", "TWY B MAINT", "ILS U/S", "OBST LGT", "GLD OPS", "UAS WI 2NM"};
+        String[] locations = {"KATL", "KJFK", "KOKC"};
+        List<Notam> notams = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            // Few distinct ids, times and texts, so many NOTAMs tie completely
+            notams.add(makeNotam("N" + (i % 11), i % 4 == 0 ? "RUNWAY" : "AIRSPACE", locations[i % 3],
+                    "2025-10-0" + (1 + i % 3) + "T20:00:00Z", 33.6, -84.4, (double) (i % 5) * 10,
+                    texts[i % texts.length]));
+        }
+
+        List<ScoredNotam> expected = sequential.prioritizeScored(notams);
+        List<ScoredNotam> actual = parallel.prioritizeScored(notams);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).notam(), actual.get(i).notam(), "Position " + i);
+            assertEquals(expected.get(i).score(), actual.get(i).score(), 0.0);
+        }
+    }
+
+    @Test
+    void prioritizationPassReadsClockOnce() {
+        AtomicInteger reads = new AtomicInteger();
+        Clock counting = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                reads.incrementAndGet();
+                return Instant.parse("2025-10-04T21:00:00Z");
+            }
+        };
+        var pr = new SimplePrioritizer(counting);
+
+        List<Notam> notams = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            notams.add(makeNotam("N" + i, "RUNWAY", "KATL", "2025-10-0" + (1 + i % 4) + "T20:00:00Z",
+                    33.6, -84.4, 3.0, "RWY CLOSED"));
+        }
+
+        pr.prioritizeScored(notams);
+        assertEquals(1, reads.get());
+
+        pr.prioritizeTopK(notams, 10);
+        assertEquals(2, reads.get());
+    }
 }
@@ -0,0 +1,146 @@
+package ou.capstone.notams.prioritize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import ou.capstone.notams.Notam;
+import ou.capstone.notams.NotamDeduplication;
+
+class StreamingNotamRankingTest {
+
+    private static final Clock FIXED = Clock.fixed(Instant.parse("2025-10-04T21:00:00Z"), ZoneOffset.UTC);
+
+    private static Notam makeNotam(final String id, final String issuedIso, final String text) {
+        return new Notam.Builder()
+                .id(id)
+                .number("5/31")
+                .type("N")
+                .issued(OffsetDateTime.parse(issuedIso))
+                .location("KOKC")
+                .latitude(35.39)
+                .longitude(-97.60)
+                .text(text)
+                .build();
+    }
+
+    private static List<Notam> sample() {
+        return List.of(
+                makeNotam("A", "2025-10-04T20:00:00Z", "RWY 17L/35R CLSD"),
+                makeNotam("B", "2025-10-01T20:00:00Z", "TWY A CLSD"),
+                makeNotam("C", "2025-09-20T20:00:00Z", "OBST TOWER LGT U/S"),
+                makeNotam("A", "2025-10-04T20:30:00Z", "RWY 17L/35R CLSD DUE WIP"), // newer duplicate
+                makeNotam("D", "2025-10-03T20:00:00Z", "ILS RWY 35R U/S"),
+                makeNotam("B", "2025-09-30T20:00:00Z", "TWY A CLSD"),               // older duplicate
+                makeNotam("E", "2025-10-04T10:00:00Z", "AD AP BCN U/S"));
+    }
+
+    private static List<String> ids(final List<Notam> notams) {
+        return notams.stream().map(n -> n.getId() + "@" + n.getIssued()).toList();
+    }
+
+    @Test
+    void matchesBatchDedupAndPrioritizeForAnyArrivalOrder() {
+        final SimplePrioritizer prioritizer = new SimplePrioritizer(FIXED);
+        final List<Notam> expected = prioritizer.prioritize(NotamDeduplication.dedup(sample()));
+
+        final Random random = new Random(42);
+        for (int trial = 0; trial < 20; trial++) {
+            final List<Notam> shuffled = new ArrayList<>(sample());
+            Collections.shuffle(shuffled, random);
+
+            final StreamingNotamRanking ranking = new StreamingNotamRanking(prioritizer);
+            ranking.addAll(shuffled.subList(0, 3));
+            ranking.addAll(shuffled.subList(3, 5));
+            ranking.addAll(shuffled.subList(5, shuffled.size()));
+
+            assertEquals(ids(expected), ids(ranking.ranked()));
+            assertEquals(7, ranking.receivedCount());
+            assertEquals(5, ranking.uniqueCount());
+        }
+    }
+
+    @Test
+    void topKIsAvailableBeforeAllBatchesArrive() {
+        final SimplePrioritizer prioritizer = new SimplePrioritizer(FIXED);
+        final StreamingNotamRanking ranking = new StreamingNotamRanking(prioritizer);
+
+        ranking.addAll(sample().subList(0, 2));
+        assertEquals(ids(prioritizer.prioritize(sample().subList(0, 2))).subList(0, 1),
+                ids(ranking.topK(1)));
+
+        ranking.addAll(sample().subList(2, sample().size()));
+        assertEquals(ids(ranking.ranked()).subList(0, 3), ids(ranking.topK(3)));
+        assertEquals(5, ranking.topK(10).size());
+    }
+
+    @Test
+    void keepsEveryNotamThatTiesOnScoreIssueTimeAndIdInArrivalOrder() {
+        final List<Notam> ties = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            // Blank id and number: dedup cannot tell these apart, so all are kept
+            ties.add(new Notam.Builder()
+                    .id("")
+                    .number("")
+                    .type("N")
+                    .issued(OffsetDateTime.parse("2025-10-04T20:00:00Z"))
+                    .location("KOKC")
+                    .text("TWY A CLSD")
+                    .build());
+        }
+        final StreamingNotamRanking ranking = new StreamingNotamRanking(new SimplePrioritizer(FIXED));
+
+        ranking.addAll(ties.subList(0, 250));
+        ranking.addAll(ties.subList(250, 500));
+
+        assertEquals(500, ranking.uniqueCount());
+        final List<Notam> ranked = ranking.ranked();
+        for (int i = 0; i < ties.size(); i++) {
+            assertSame(ties.get(i), ranked.get(i));
+        }
+    }
+
+    @Test
+    void everyBatchIsScoredAgainstTheSameNow() {
+        // A clock that moves a day each time it is read
+        final Clock advancing = new Clock() {
+            private Instant now = FIXED.instant();
+
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                final Instant read = now;
+                now = now.plus(Duration.ofDays(1));
+                return read;
+            }
+        };
+        final StreamingNotamRanking ranking = new StreamingNotamRanking(new SimplePrioritizer(advancing));
+
+        ranking.addAll(List.of(makeNotam("A", "2025-10-04T20:00:00Z", "TWY A CLSD")));
+        ranking.addAll(List.of(makeNotam("B", "2025-10-04T20:00:00Z", "TWY A CLSD")));
+
+        final List<ScoredNotam> scored = ranking.rankedScored();
+        assertEquals(2, scored.size());
+        assertEquals(scored.get(0).score(), scored.get(1).score(), 0.0);
+    }
+}
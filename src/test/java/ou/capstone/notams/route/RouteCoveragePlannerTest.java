@@ -0,0 +1,97 @@
+package ou.capstone.notams.route;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for RouteCoveragePlanner
+ */
+class RouteCoveragePlannerTest {
+
+    // KOKC (Oklahoma City) to KJFK (New York), ~1200 NM
+    private static final double KOKC_LAT = 35.3931;
+    private static final double KOKC_LON = -97.6007;
+    private static final double KJFK_LAT = 40.6413;
+    private static final double KJFK_LON = -73.7781;
+
+    private static final double TOLERANCE_NM = 0.5;
+
+    private static double nearestCentreNm(List<Coordinate> centres, Coordinate p) {
+        double best = Double.MAX_VALUE;
+        for (Coordinate c : centres) {
+            best = Math.min(best, RouteCalculator.distanceNm(p.latDeg, p.lonDeg, c.latDeg, c.lonDeg));
+        }
+        return best;
+    }
+
+    @Test
+    void testEveryTrackPointCoveredAcrossFullCorridorWidth() {
+        final double radius = 50, halfWidth = 25;
+        List<Coordinate> centres = RouteCoveragePlanner.planCoverage(
+                KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, radius, halfWidth);
+
+        // A track point within sqrt(R^2 - w^2) of a centre on the track has its
+        // whole corridor cross-section inside that circle
+        final double maxAlongTrack = Math.sqrt(radius * radius - halfWidth * halfWidth);
+        double[] fractions = new double[1001];
+        for (int i = 0; i <= 1000; i++) {
+            fractions[i] = i / 1000.0;
+        }
+        for (Coordinate p : RouteCalculator.pointsAlongRoute(KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, fractions)) {
+            assertTrue(nearestCentreNm(centres, p) <= maxAlongTrack + TOLERANCE_NM,
+                    "Track point not covered: " + p);
+        }
+
+        // The half-disc of radius w around each endpoint is covered too
+        assertTrue(nearestCentreNm(centres, new Coordinate(KOKC_LAT, KOKC_LON)) <= radius - halfWidth + TOLERANCE_NM);
+        assertTrue(nearestCentreNm(centres, new Coordinate(KJFK_LAT, KJFK_LON)) <= radius - halfWidth + TOLERANCE_NM);
+    }
+
+    @Test
+    void testUsesFewerQueriesThanFixedSpacing() {
+        List<Coordinate> planned = RouteCoveragePlanner.planCoverage(
+                KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, 50, 25);
+        List<Coordinate> fixed = RouteCalculator.getRouteWaypoints(
+                KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, 50);
+
+        assertTrue(planned.size() < fixed.size() * 0.7,
+                "Expected well under " + fixed.size() + " circles, got " + planned.size());
+    }
+
+    @Test
+    void testDefaultCorridorKeepsTheFixedSpacingGuarantee() {
+        // 50 NM circles every 50 NM cover 43.3 NM either side of the track
+        final double halfWidth = RouteCoveragePlanner.halfWidthForSpacing(50, 50);
+        assertEquals(43.30, halfWidth, 0.01);
+
+        // KOKC-KDFW, ~152 NM: the end insets save one of the five fixed waypoints
+        List<Coordinate> planned = RouteCoveragePlanner.planCoverage(
+                KOKC_LAT, KOKC_LON, 32.8998, -97.0403, 50, halfWidth);
+        List<Coordinate> fixed = RouteCalculator.getRouteWaypoints(
+                KOKC_LAT, KOKC_LON, 32.8998, -97.0403, 50);
+        assertEquals(5, fixed.size());
+        assertEquals(4, planned.size());
+
+        // KOKC-KJFK needs as many as before, never more
+        assertEquals(RouteCalculator.getRouteWaypoints(KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, 50).size(),
+                RouteCoveragePlanner.planCoverage(KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, 50, halfWidth).size());
+    }
+
+    @Test
+    void testShortRouteNeedsOneCircle() {
+        List<Coordinate> centres = RouteCoveragePlanner.planCoverage(
+                KOKC_LAT, KOKC_LON, KOKC_LAT + 0.3, KOKC_LON, 50, 25);
+        assertEquals(1, centres.size());
+    }
+
+    @Test
+    void testRejectsCorridorWiderThanRadius() {
+        assertThrows(IllegalArgumentException.class, () -> RouteCoveragePlanner.planCoverage(
+                KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, 50, 50));
+        assertThrows(IllegalArgumentException.class, () -> RouteCoveragePlanner.planCoverage(
+                KOKC_LAT, KOKC_LON, KJFK_LAT, KJFK_LON, 0, 0));
+    }
+}